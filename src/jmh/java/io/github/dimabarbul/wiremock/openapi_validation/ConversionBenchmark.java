@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Converting WireMock request and response to ones passed to validator. Adapters read everything lazily, so the
+ * benchmarks read what validator reads for typical JSON operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConversionBenchmark {
+
+    private LoggedRequest request;
+    private Response response;
+
+    @Setup
+    public void setUp() {
+        request = LoggedRequest.createFrom(ImmutableRequest.create()
+                .withMethod(RequestMethod.POST)
+                .withAbsoluteUrl("http://localhost/items1?limit=10&tag=a&tag=b")
+                .withHeader("Content-Type", "application/json")
+                .withHeader("Accept", "application/json")
+                .withHeader("X-Request-Id", "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+                .withBody(SpecGenerator.Size.SMALL.generator().validItem(1, 1).getBytes(StandardCharsets.UTF_8))
+                .build());
+        response = Response.response()
+                .status(201)
+                .headers(new HttpHeaders(HttpHeader.httpHeader("Content-Type", "application/json")))
+                .body(SpecGenerator.Size.SMALL.generator().validItem(1, 1))
+                .build();
+    }
+
+    @Benchmark
+    public void convertRequest(final Blackhole blackhole) throws IOException {
+        final AtlassianRequestAdapter atlassianRequest = new AtlassianRequestAdapter(request);
+        blackhole.consume(atlassianRequest.getPath());
+        blackhole.consume(atlassianRequest.getMethod());
+        blackhole.consume(atlassianRequest.getHeaders());
+        blackhole.consume(atlassianRequest.getQueryParameterValues("limit"));
+        blackhole.consume(atlassianRequest.getQueryParameterValues("tag"));
+        blackhole.consume(atlassianRequest.getRequestBody().orElseThrow().toJsonNode());
+    }
+
+    @Benchmark
+    public void convertResponse(final Blackhole blackhole) throws IOException {
+        final AtlassianResponseAdapter atlassianResponse = new AtlassianResponseAdapter(response);
+        blackhole.consume(atlassianResponse.getStatus());
+        blackhole.consume(atlassianResponse.getHeaderValues("Content-Type"));
+        blackhole.consume(atlassianResponse.getResponseBody().orElseThrow().toJsonNode());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Building error response describing validation errors. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    /** Number of errors of request and of response each. */
+    @Param({"1", "10", "100"})
+    public int errorCount;
+
+    private ValidationResult requestResult;
+    private ValidationResult responseResult;
+
+    @Setup
+    public void setUp() {
+        final ValidationResult.Builder requestResultBuilder = ValidationResult.builder();
+        final ValidationResult.Builder responseResultBuilder = ValidationResult.builder();
+        for (int i = 0; i < errorCount; i++) {
+            requestResultBuilder.addError(
+                    "validation.request.body.schema.required",
+                    "[Path '/items/" + i + "'] Object has missing required properties ([\"id\"])");
+            responseResultBuilder.addError(
+                    "validation.response.body.schema.format",
+                    "[Path '/items/" + i + "/id'] Input string \"<not uuid & \\\"escaped\\\">\" is not a valid UUID");
+        }
+        requestResult = requestResultBuilder.build();
+        responseResult = responseResultBuilder.build();
+    }
+
+    @Benchmark
+    public void buildResponse(final Blackhole blackhole) {
+        blackhole.consume(ErrorResponseBuilder.buildResponse(
+                500, requestResult, responseResult, ExtensionOptions.ValidationDepth.FULL));
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * End-to-end load test of WireMock with the extension.
+ *
+ * <p>For every OpenAPI file WireMock is started with and without the extension, and valid and invalid traffic is sent
+ * to it by fixed number of clients, each sending next request as soon as previous response is received. Throughput and
+ * latency percentiles of every run are printed and written to JSON file.
+ *
+ * <p>Parameters are passed as system properties:
+ *
+ * <ul>
+ *   <li>{@code load.duration} - duration of measurement of each run in seconds, 10 by default
+ *   <li>{@code load.warmup} - duration of warm-up before each run in seconds, 5 by default
+ *   <li>{@code load.concurrency} - number of clients, 16 by default
+ *   <li>{@code load.output} - file to write results to, {@code target/load-result.json} by default
+ *   <li>{@code load.version} - version of the extension written to results, nothing by default
+ * </ul>
+ */
+public final class LoadHarness {
+
+    private static final SpecGenerator GENERATOR = SpecGenerator.Size.LARGE.generator();
+    private static final String BUNDLED_OPENAPI_FILE_PATH = "src/test/resources/openapi.json";
+    private static final String UUID = "3fa85f64-5717-4562-b3fc-2c963f66afa6";
+    private static final String VALID_USERS = "[{\"id\":\"" + UUID + "\",\"username\":\"john\",\"role\":\"user\"}]";
+    private static final String INVALID_USERS =
+            "[{\"id\":\"x\",\"username\":\"too-long-username\",\"role\":\"guest\"}]";
+    // Jetty takes some threads of the pool for acceptors and selectors.
+    private static final int JETTY_SERVICE_THREADS = 10;
+
+    /** OpenAPI files load is tested with. */
+    private enum Spec {
+        /** OpenAPI file used by tests. */
+        BUNDLED,
+        /** Generated large OpenAPI file. */
+        LARGE
+    }
+
+    /** Kinds of traffic. */
+    private enum Traffic {
+        /** Requests and responses conform to OpenAPI file. */
+        VALID,
+        /** Both requests and responses violate OpenAPI file. */
+        INVALID
+    }
+
+    private LoadHarness() {}
+
+    public static void main(final String[] args) throws Exception {
+        final int durationSeconds = Integer.getInteger("load.duration", 10);
+        final int warmupSeconds = Integer.getInteger("load.warmup", 5);
+        final int concurrency = Integer.getInteger("load.concurrency", 16);
+        final Path output = Path.of(System.getProperty("load.output", "target/load-result.json"));
+
+        final List<Map<String, Object>> runs = new ArrayList<>();
+        for (final Spec spec : Spec.values()) {
+            final String openapiFilePath = spec == Spec.BUNDLED
+                    ? BUNDLED_OPENAPI_FILE_PATH
+                    : GENERATOR.writeTempFile().toString();
+            for (final boolean extensionEnabled : new boolean[] {false, true}) {
+                for (final Traffic traffic : Traffic.values()) {
+                    final Map<String, Object> run = run(
+                            spec, openapiFilePath, extensionEnabled, traffic, concurrency, warmupSeconds,
+                            durationSeconds);
+                    System.out.println(run);
+                    runs.add(run);
+                }
+            }
+        }
+
+        final Map<String, Object> result = new LinkedHashMap<>();
+        result.put("version", System.getProperty("load.version"));
+        result.put("javaVersion", System.getProperty("java.version"));
+        result.put("concurrency", concurrency);
+        result.put("warmupSeconds", warmupSeconds);
+        result.put("durationSeconds", durationSeconds);
+        result.put("runs", runs);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.toFile(), result);
+        System.out.println("Results are written to " + output.toAbsolutePath());
+    }
+
+    private static Map<String, Object> run(
+            final Spec spec,
+            final String openapiFilePath,
+            final boolean extensionEnabled,
+            final Traffic traffic,
+            final int concurrency,
+            final int warmupSeconds,
+            final int durationSeconds)
+            throws InterruptedException, ExecutionException {
+        final WireMockConfiguration config = wireMockConfig()
+                .dynamicPort()
+                .containerThreads(concurrency + JETTY_SERVICE_THREADS)
+                .extensionScanningEnabled(false)
+                .notifier(new Slf4jNotifier(false));
+        if (extensionEnabled) {
+            config.extensions(new ValidationResponseTransformer(ExtensionOptions.builder()
+                    .withOpenapiFilePath(openapiFilePath)
+                    .build()));
+        }
+        final WireMockServer server = new WireMockServer(config);
+        server.start();
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            stub(server, spec, traffic);
+            final HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .build();
+            final URI baseUri = URI.create(server.baseUrl());
+            send(executor, client, baseUri, spec, traffic, concurrency, warmupSeconds);
+            final long startNanos = System.nanoTime();
+            final Samples samples = send(executor, client, baseUri, spec, traffic, concurrency, durationSeconds);
+            final double elapsedSeconds = (System.nanoTime() - startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+
+            final Map<String, Object> run = new LinkedHashMap<>();
+            run.put("spec", spec.name().toLowerCase());
+            run.put("extension", extensionEnabled ? "on" : "off");
+            run.put("traffic", traffic.name().toLowerCase());
+            run.put("requests", samples.count);
+            run.put("errors", samples.errors);
+            run.put("statuses", samples.statuses);
+            run.put("throughput", Math.round(samples.count / elapsedSeconds * 10) / 10.0);
+            run.putAll(samples.latencyPercentiles());
+            return run;
+        } finally {
+            executor.shutdownNow();
+            server.stop();
+        }
+    }
+
+    private static void stub(final WireMockServer server, final Spec spec, final Traffic traffic) {
+        final boolean valid = traffic == Traffic.VALID;
+        if (spec == Spec.BUNDLED) {
+            server.stubFor(get(urlEqualTo("/users"))
+                    .willReturn(aResponse()
+                            .withStatus(200)
+                            .withHeader("Content-Type", "application/json")
+                            .withBody(valid ? VALID_USERS : INVALID_USERS)));
+            server.stubFor(post(urlEqualTo("/users")).willReturn(aResponse().withStatus(201)));
+        } else {
+            final String item = valid ? GENERATOR.validItem(0, 1) : GENERATOR.invalidItem(0, 1);
+            server.stubFor(post(urlPathMatching("/items\\d+"))
+                    .willReturn(aResponse()
+                            .withStatus(201)
+                            .withHeader("Content-Type", "application/json")
+                            .withBody(item)));
+            server.stubFor(get(urlPathMatching("/items\\d+/[^/]+"))
+                    .willReturn(aResponse()
+                            .withStatus(200)
+                            .withHeader("Content-Type", "application/json")
+                            .withBody(item)));
+        }
+    }
+
+    /** Build request number {@code sequence}. Bodies differ between requests, so verdicts are not reused. */
+    private static HttpRequest request(
+            final URI baseUri, final Spec spec, final Traffic traffic, final int sequence) {
+        final boolean valid = traffic == Traffic.VALID;
+        final boolean read = sequence % 2 == 0;
+        final String path;
+        final String body;
+        if (spec == Spec.BUNDLED) {
+            path = "/users";
+            body = valid
+                    ? "{\"id\":\"" + UUID + "\",\"username\":\"u" + sequence % 100_000 + "\",\"role\":\"admin\"}"
+                    : "{\"username\":\"u" + sequence % 100_000 + "\",\"name\":\"x\"}";
+        } else {
+            final int resource = sequence % GENERATOR.getResourceCount();
+            path = read ? "/items" + resource + "/" + (valid ? UUID : "not-uuid") : "/items" + resource;
+            body = valid
+                    ? GENERATOR.validItem(resource, sequence + 1)
+                    : GENERATOR.invalidItem(resource, sequence + 1);
+        }
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path));
+        return read
+                ? builder.GET().build()
+                : builder.header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+    }
+
+    private static Samples send(
+            final ExecutorService executor,
+            final HttpClient client,
+            final URI baseUri,
+            final Spec spec,
+            final Traffic traffic,
+            final int concurrency,
+            final int seconds)
+            throws InterruptedException, ExecutionException {
+        final long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        final AtomicInteger sequence = new AtomicInteger();
+        final List<Future<Samples>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(() -> {
+                final Samples samples = new Samples();
+                while (System.nanoTime() < deadlineNanos) {
+                    final HttpRequest request = request(baseUri, spec, traffic, sequence.getAndIncrement());
+                    final long startNanos = System.nanoTime();
+                    try {
+                        final int status = client.send(request, HttpResponse.BodyHandlers.discarding())
+                                .statusCode();
+                        samples.add(System.nanoTime() - startNanos, status);
+                    } catch (final IOException e) {
+                        samples.errors++;
+                    }
+                }
+                return samples;
+            }));
+        }
+        final Samples samples = new Samples();
+        for (final Future<Samples> future : futures) {
+            samples.merge(future.get());
+        }
+        return samples;
+    }
+
+    /** Latencies and statuses of responses received by a client. */
+    private static final class Samples {
+
+        private long[] latencies = new long[0];
+        private int count;
+        private int errors;
+        private final Map<Integer, Integer> statuses = new TreeMap<>();
+
+        void add(final long latencyNanos, final int status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(1024, count * 2));
+            }
+            latencies[count++] = latencyNanos;
+            statuses.merge(status, 1, Integer::sum);
+        }
+
+        void merge(final Samples other) {
+            final long[] merged = Arrays.copyOf(latencies, count + other.count);
+            System.arraycopy(other.latencies, 0, merged, count, other.count);
+            latencies = merged;
+            count = merged.length;
+            errors += other.errors;
+            other.statuses.forEach((status, number) -> statuses.merge(status, number, Integer::sum));
+        }
+
+        /** Get latency percentiles in microseconds. */
+        Map<String, Object> latencyPercentiles() {
+            final long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            final Map<String, Object> percentiles = new LinkedHashMap<>();
+            percentiles.put("p50Micros", percentile(sorted, 0.5));
+            percentiles.put("p99Micros", percentile(sorted, 0.99));
+            percentiles.put("p999Micros", percentile(sorted, 0.999));
+            percentiles.put("maxMicros", percentile(sorted, 1));
+            return percentiles;
+        }
+
+        private static long percentile(final long[] sorted, final double fraction) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            final int index = Math.max(0, (int) Math.ceil(fraction * sorted.length) - 1);
+            return TimeUnit.NANOSECONDS.toMicros(sorted[index]);
+        }
+    }
+}
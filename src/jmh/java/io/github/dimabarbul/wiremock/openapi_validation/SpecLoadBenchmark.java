@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Loading OpenAPI files of different sizes and building validators for them. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SpecLoadBenchmark {
+
+    /** Name of {@link SpecGenerator.Size}. */
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public String size;
+
+    private String openapiFilePath;
+    private ExtensionOptions options;
+
+    @Setup
+    public void setUp() {
+        openapiFilePath =
+                SpecGenerator.Size.valueOf(size).generator().writeTempFile().toString();
+        options = ExtensionOptions.builder().withOpenapiFilePath(openapiFilePath).build();
+    }
+
+    @Benchmark
+    public void loadSpec(final Blackhole blackhole) {
+        blackhole.consume(OpenApiSpecRegistry.INSTANCE.reload(openapiFilePath, false, null, null));
+    }
+
+    /** Build validator for already loaded file. */
+    @Benchmark
+    public void buildValidator(final Blackhole blackhole) {
+        blackhole.consume(OpenApiValidator.create(options));
+    }
+}
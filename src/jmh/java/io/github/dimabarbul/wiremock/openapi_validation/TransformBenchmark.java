@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+
+import com.github.tomakehurst.wiremock.common.LocalNotifier;
+import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Whole validation of an interaction by the transformer, as WireMock calls it for every served request. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TransformBenchmark {
+
+    /** Name of {@link SpecGenerator.Size}. */
+    @Param({"SMALL", "LARGE"})
+    public String size;
+
+    private ValidationResponseTransformer transformer;
+    private ServeEvent validServeEvent;
+    private Response validResponse;
+    private ServeEvent invalidServeEvent;
+    private Response invalidResponse;
+
+    @Setup
+    public void setUp() {
+        // Failures are logged through notifier of the thread, keep them out of the measurement output.
+        LocalNotifier.set(new Slf4jNotifier(false));
+        final SpecGenerator generator = SpecGenerator.Size.valueOf(size).generator();
+        transformer = new ValidationResponseTransformer(ExtensionOptions.builder()
+                .withOpenapiFilePath(generator.writeTempFile().toString())
+                .build());
+        transformer.start();
+
+        validServeEvent = serveEvent(generator.validItem(1, 1));
+        validResponse = jsonResponse(generator.validItem(1, 1));
+        invalidServeEvent = serveEvent(generator.invalidItem(1, 1));
+        invalidResponse = jsonResponse(generator.invalidItem(1, 1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        transformer.stop();
+        LocalNotifier.set(null);
+    }
+
+    @Benchmark
+    public void validInteraction(final Blackhole blackhole) {
+        blackhole.consume(transformer.transform(validResponse, validServeEvent));
+    }
+
+    @Benchmark
+    public void invalidInteraction(final Blackhole blackhole) {
+        blackhole.consume(transformer.transform(invalidResponse, invalidServeEvent));
+    }
+
+    private ServeEvent serveEvent(final String body) {
+        final StubMapping stub = post(urlEqualTo("/items1"))
+                .willReturn(aResponse().withStatus(201))
+                .build();
+        transformer.afterStubCreated(stub);
+        final LoggedRequest request = LoggedRequest.createFrom(ImmutableRequest.create()
+                .withMethod(RequestMethod.POST)
+                .withAbsoluteUrl("http://localhost/items1")
+                .withHeader("Content-Type", "application/json")
+                .withBody(body.getBytes(StandardCharsets.UTF_8))
+                .build());
+        return ServeEvent.of(request).withStubMapping(stub).withResponseDefinition(stub.getResponse());
+    }
+
+    private static Response jsonResponse(final String body) {
+        return Response.response()
+                .status(201)
+                .headers(new HttpHeaders(HttpHeader.httpHeader("Content-Type", "application/json")))
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Getting validator for options of a stub, as it happens for every validated interaction. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WithOptionsBenchmark {
+
+    private OpenApiValidator validator;
+    private OpenApiValidatorOptions globalOptions;
+    private OpenApiValidatorOptions stubOptions;
+
+    @Setup
+    public void setUp() {
+        final ExtensionOptions options = ExtensionOptions.builder()
+                .withOpenapiFilePath(
+                        SpecGenerator.Size.MEDIUM.generator().writeTempFile().toString())
+                .build();
+        validator = OpenApiValidator.create(options);
+        globalOptions = OpenApiValidatorOptions.fromExtensionOptions(options);
+        stubOptions = OpenApiValidatorOptions.fromExtensionOptions(ExtensionOptions.builder(options)
+                .withIgnoredErrors(
+                        List.of("validation.request.body.schema.required", "validation.response.status.unknown"))
+                .build());
+        // Variant is built once, the benchmark measures cache hits.
+        validator.withOptions(stubOptions);
+    }
+
+    @Benchmark
+    public void withoutStubIgnores(final Blackhole blackhole) {
+        blackhole.consume(validator.withOptions(globalOptions));
+    }
+
+    @Benchmark
+    public void withStubIgnores(final Blackhole blackhole) {
+        blackhole.consume(validator.withOptions(stubOptions));
+    }
+}
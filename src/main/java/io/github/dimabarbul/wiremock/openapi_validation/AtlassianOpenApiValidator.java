@@ -16,132 +16,475 @@
 package io.github.dimabarbul.wiremock.openapi_validation;
 
 import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import com.atlassian.oai.validator.interaction.ApiOperationResolver;
 import com.atlassian.oai.validator.interaction.request.CustomRequestValidator;
 import com.atlassian.oai.validator.interaction.response.CustomResponseValidator;
 import com.atlassian.oai.validator.model.ApiOperation;
-import com.atlassian.oai.validator.model.SimpleRequest;
-import com.atlassian.oai.validator.model.SimpleResponse;
+import com.atlassian.oai.validator.model.ApiOperationMatch;
 import com.atlassian.oai.validator.report.LevelResolver;
 import com.atlassian.oai.validator.report.ValidationReport;
-import com.github.tomakehurst.wiremock.common.Urls;
-import com.github.tomakehurst.wiremock.http.QueryParameter;
-import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.Response;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
-import com.google.common.collect.ImmutableList;
-import io.swagger.parser.OpenAPIParser;
-import io.swagger.v3.oas.models.media.Content;
-import io.swagger.v3.oas.models.parameters.RequestBody;
-import io.swagger.v3.oas.models.responses.ApiResponse;
-import io.swagger.v3.oas.models.responses.ApiResponses;
-import io.swagger.v3.parser.core.models.ParseOptions;
-import io.swagger.v3.parser.core.models.SwaggerParseResult;
-import java.net.URI;
-import java.util.Map;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 class AtlassianOpenApiValidator implements OpenApiValidator {
 
-    private final String openapiFilePath;
-    private final boolean allowInvalidOpenapi;
+    /** Name under which validation of requests not matching any operation is measured. */
+    static final String UNKNOWN_OPERATION = "<unknown>";
+
+    private final Shared shared;
     private final OpenApiValidatorOptions options;
+    private final LevelResolver levelResolver;
+    /** Model validated against, it depends on validation depth. */
+    private final ValidationModel model;
     private final OpenApiInteractionValidator atlassianValidator;
+    /** Validator skipping response body schemas, built on first use. */
+    private final Supplier<OpenApiInteractionValidator> responseBodylessValidator;
 
     AtlassianOpenApiValidator(
-            final String openapiFilePath, final boolean allowInvalidOpenapi, final OpenApiValidatorOptions options) {
-        this.openapiFilePath = openapiFilePath;
-        this.allowInvalidOpenapi = allowInvalidOpenapi;
+            final String openapiFilePath,
+            final boolean allowInvalidOpenapi,
+            final String snapshotDirectory,
+            final OpenApiValidatorOptions options,
+            final int variantCacheSize,
+            final int requestVerdictCacheSize,
+            final long requestVerdictCacheTtlMillis,
+            final long streamingBodyThreshold,
+            final ValidationMetrics metrics) {
+        this(
+                new Shared(
+                        OpenApiSpecRegistry.INSTANCE.get(
+                                openapiFilePath, allowInvalidOpenapi, snapshotDirectory, metrics),
+                        variantCacheSize,
+                        requestVerdictCacheSize > 0
+                                ? new RequestVerdictCache(requestVerdictCacheSize, requestVerdictCacheTtlMillis)
+                                : null,
+                        streamingBodyThreshold,
+                        metrics),
+                options,
+                false);
+    }
+
+    /** @param variant Whether the validator is built for options of a stub */
+    private AtlassianOpenApiValidator(
+            final Shared shared, final OpenApiValidatorOptions options, final boolean variant) {
+        final ValidationEvents.ValidatorBuild event = new ValidationEvents.ValidatorBuild();
+        event.begin();
+        final long startNanos = System.nanoTime();
+        this.shared = shared;
         this.options = options;
-        atlassianValidator = buildOpenApiValidator(openapiFilePath, allowInvalidOpenapi, options);
+        levelResolver = buildLevelResolver(options);
+        model = shared.getModel(options.getValidationDepth());
+        atlassianValidator = buildOpenApiValidator(model, levelResolver);
+        responseBodylessValidator =
+                Suppliers.memoize(() -> buildOpenApiValidator(model.responseBodylessModel.get(), levelResolver));
+        if (shared.metrics != null) {
+            shared.metrics.recordValidatorBuild(System.nanoTime() - startNanos);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.validationDepth = options.getValidationDepth().name();
+            event.variant = variant;
+            event.stubId = ValidationEvents.currentStubId();
+            event.commit();
+        }
     }
 
     @Override
     public OpenApiValidator withOptions(final OpenApiValidatorOptions options) {
-        if (this.options.getIgnoredErrors() == options.getIgnoredErrors()) {
+        if (this.options.equals(options)) {
             return this;
         }
 
-        return new AtlassianOpenApiValidator(openapiFilePath, allowInvalidOpenapi, options);
+        try {
+            return shared.variants.get(options, () -> new AtlassianOpenApiValidator(shared, options, true));
+        } catch (final ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException("Cannot build validator", e.getCause());
+        }
+    }
+
+    @Override
+    public CacheStats getVariantCacheStats() {
+        return shared.variants.stats();
+    }
+
+    @Override
+    public Optional<CacheStats> getRequestVerdictCacheStats() {
+        return Optional.ofNullable(shared.requestVerdicts).map(RequestVerdictCache::stats);
     }
 
     @Override
     public ValidationResult validateRequest(final LoggedRequest request) {
-        final com.atlassian.oai.validator.model.Request atlassianRequest = convertRequest(request);
-        final ValidationReport requestReport = atlassianValidator.validateRequest(atlassianRequest);
-        return createValidationResult(requestReport);
+        final AtlassianRequestAdapter atlassianRequest = convert(request);
+        return validateRequestMeasured(request, atlassianRequest, operationOf(atlassianRequest));
+    }
+
+    /** Validate request, measuring the validation in metrics and JFR event. */
+    private ValidationResult validateRequestMeasured(
+            final LoggedRequest request,
+            final AtlassianRequestAdapter atlassianRequest,
+            final Supplier<ApiOperation> apiOperation) {
+        final ValidationEvents.RequestValidation event = new ValidationEvents.RequestValidation();
+        event.begin();
+        final long startNanos = System.nanoTime();
+        final ValidationResult result = validateRequest(request, atlassianRequest, apiOperation);
+        if (shared.metrics != null) {
+            shared.metrics.recordRequestValidation(
+                    getOperationName(apiOperation.get()), System.nanoTime() - startNanos);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = getOperationName(apiOperation.get());
+            event.stubId = ValidationEvents.currentStubId();
+            event.bodySize = request.getBody() != null ? request.getBody().length : 0;
+            event.errorCount = result.getErrors().size();
+            event.commit();
+        }
+        return result;
+    }
+
+    private ValidationResult validateRequest(
+            final LoggedRequest request,
+            final AtlassianRequestAdapter atlassianRequest,
+            final Supplier<ApiOperation> apiOperation) {
+        final RequestVerdictCache.Key verdictKey = getRequestVerdictKey(request, atlassianRequest, apiOperation);
+        if (verdictKey != null) {
+            final ValidationResult verdict = shared.requestVerdicts.get(verdictKey);
+            if (verdict != null) {
+                return verdict;
+            }
+        }
+
+        final long startNanos = System.nanoTime();
+        final ValidationResult result = createValidationResult(atlassianValidator.validateRequest(atlassianRequest));
+        PhaseTimer.record(PhaseTimer.Phase.REQUEST, startNanos);
+        if (verdictKey != null) {
+            shared.requestVerdicts.put(verdictKey, result);
+        }
+
+        return result;
     }
 
     @Override
     public ValidationResult validateResponse(final LoggedRequest request, final Response response) {
-        final com.atlassian.oai.validator.model.Request atlassianRequest = convertRequest(request);
-        final com.atlassian.oai.validator.model.Response convertedResponse = convertResponse(response);
+        return validateResponse(request, response, true);
+    }
+
+    @Override
+    public ValidationResult validateResponse(
+            final LoggedRequest request, final Response response, final boolean validateResponseBody) {
+        final AtlassianRequestAdapter atlassianRequest = convert(request);
+        return validateResponseMeasured(
+                atlassianRequest, operationOf(atlassianRequest), response, validateResponseBody);
+    }
+
+    /** Validate response, measuring the validation in metrics and JFR event. */
+    private ValidationResult validateResponseMeasured(
+            final AtlassianRequestAdapter atlassianRequest,
+            final Supplier<ApiOperation> apiOperation,
+            final Response response,
+            final boolean validateResponseBody) {
+        final ValidationEvents.ResponseValidation event = new ValidationEvents.ResponseValidation();
+        event.begin();
+        final long startNanos = System.nanoTime();
+        final ValidationResult result =
+                validateResponse(atlassianRequest, apiOperation, response, validateResponseBody);
+        if (shared.metrics != null) {
+            shared.metrics.recordResponseValidation(
+                    getOperationName(apiOperation.get()), System.nanoTime() - startNanos);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = getOperationName(apiOperation.get());
+            event.stubId = ValidationEvents.currentStubId();
+            // Body larger than streaming threshold is not read into memory just to be measured.
+            event.bodySize = shared.streamingBodyThreshold > 0
+                            && BodySize.isLargerThan(response, shared.streamingBodyThreshold)
+                    ? -1
+                    : response.getBody() != null ? response.getBody().length : 0;
+            event.errorCount = result.getErrors().size();
+            event.commit();
+        }
+        return result;
+    }
+
+    private ValidationResult validateResponse(
+            final AtlassianRequestAdapter atlassianRequest,
+            final Supplier<ApiOperation> apiOperation,
+            final Response response,
+            final boolean validateResponseBody) {
+        final StreamingJsonSchemaValidator.SchemaNode streamedBodySchema =
+                validateResponseBody ? findStreamedBodySchema(apiOperation, response) : null;
+        final OpenApiInteractionValidator atlassianValidator = validateResponseBody && streamedBodySchema == null
+                ? this.atlassianValidator
+                : responseBodylessValidator.get();
+        final AtlassianResponseAdapter atlassianResponse = convert(response);
+        final long startNanos = System.nanoTime();
         final ValidationReport responseReport = atlassianValidator.validateResponse(
-                atlassianRequest.getPath(), atlassianRequest.getMethod(), convertedResponse);
-        return createValidationResult(responseReport);
+                atlassianRequest.getPath(), atlassianRequest.getMethod(), atlassianResponse);
+        final ValidationResult result =
+                withStreamedBodyErrors(createValidationResult(responseReport), response, streamedBodySchema);
+        PhaseTimer.record(PhaseTimer.Phase.RESPONSE, startNanos);
+        return result;
     }
 
-    private static OpenApiInteractionValidator buildOpenApiValidator(
-            final String openapiFilePath, final boolean allowInvalidOpenapi, final OpenApiValidatorOptions options) {
-        final ImmutableList<String> ignoredErrors = options.getIgnoredErrors();
-
-        final OpenApiInteractionValidator.Builder builder =
-                createValidatorBuilder(openapiFilePath, allowInvalidOpenapi);
-
-        return builder.withCustomRequestValidation(new RequireContentTypeRequestValidator())
-                .withCustomResponseValidation(new RequireContentTypeResponseValidator())
-                .withLevelResolver(LevelResolver.create()
-                        .withLevels(ignoredErrors.stream()
-                                .collect(Collectors.toMap(e -> e, e -> ValidationReport.Level.IGNORE)))
-                        .build())
-                .build();
+    @Override
+    public InteractionValidationResult validateInteraction(final LoggedRequest request, final Response response) {
+        return validateInteraction(request, response, true);
+    }
+
+    @Override
+    public InteractionValidationResult validateInteraction(
+            final LoggedRequest request, final Response response, final boolean validateResponseBody) {
+        final AtlassianRequestAdapter atlassianRequest = convert(request);
+        final Supplier<ApiOperation> apiOperation = operationOf(atlassianRequest);
+        if (shared.metrics == null
+                && PhaseTimer.current() == null
+                && !ValidationEvents.isInteractionValidationRecorded()) {
+            return validateTogether(request, atlassianRequest, apiOperation, response, validateResponseBody);
+        }
+
+        if (apiOperation.get() != null) {
+            // Request and response are validated one after another, so time of each of them is known.
+            return new InteractionValidationResult(
+                    validateRequestMeasured(request, atlassianRequest, apiOperation),
+                    validateResponseMeasured(atlassianRequest, apiOperation, response, validateResponseBody));
+        }
+
+        final ValidationEvents.RequestValidation event = new ValidationEvents.RequestValidation();
+        event.begin();
+        final long startNanos = System.nanoTime();
+        final InteractionValidationResult result =
+                validateTogether(request, atlassianRequest, apiOperation, response, validateResponseBody);
+        if (shared.metrics != null) {
+            shared.metrics.recordRequestValidation(UNKNOWN_OPERATION, System.nanoTime() - startNanos);
+        }
+        PhaseTimer.record(PhaseTimer.Phase.REQUEST, startNanos);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = UNKNOWN_OPERATION;
+            event.stubId = ValidationEvents.currentStubId();
+            event.bodySize = request.getBody() != null ? request.getBody().length : 0;
+            event.errorCount = result.getRequestResult().getErrors().size();
+            event.commit();
+        }
+        return result;
+    }
+
+    private InteractionValidationResult validateTogether(
+            final LoggedRequest request,
+            final AtlassianRequestAdapter atlassianRequest,
+            final Supplier<ApiOperation> apiOperation,
+            final Response response,
+            final boolean validateResponseBody) {
+        // Large JSON body is validated while being read, and the rest of the response by validator skipping body.
+        final StreamingJsonSchemaValidator.SchemaNode streamedBodySchema =
+                validateResponseBody ? findStreamedBodySchema(apiOperation, response) : null;
+        final OpenApiInteractionValidator atlassianValidator = validateResponseBody && streamedBodySchema == null
+                ? this.atlassianValidator
+                : responseBodylessValidator.get();
+        final AtlassianResponseAdapter atlassianResponse = convert(response);
+        final RequestVerdictCache.Key verdictKey = getRequestVerdictKey(request, atlassianRequest, apiOperation);
+        if (verdictKey != null) {
+            final ValidationResult verdict = shared.requestVerdicts.get(verdictKey);
+            if (verdict != null) {
+                return new InteractionValidationResult(
+                        verdict,
+                        withStreamedBodyErrors(
+                                createValidationResult(atlassianValidator.validateResponse(
+                                        atlassianRequest.getPath(), atlassianRequest.getMethod(), atlassianResponse)),
+                                response,
+                                streamedBodySchema));
+            }
+        }
+
+        final ValidationReport report = atlassianValidator.validate(atlassianRequest, atlassianResponse);
+
+        final ValidationResult.Builder requestResultBuilder = ValidationResult.builder();
+        final ValidationResult.Builder responseResultBuilder = ValidationResult.builder();
+        for (final ValidationReport.Message message : report.getMessages()) {
+            if (message.getLevel() != ValidationReport.Level.ERROR) {
+                continue;
+            }
+
+            // Messages not bound to request or response (like unknown path) are about request.
+            final boolean isResponseMessage = message.getContext()
+                    .flatMap(ValidationReport.MessageContext::getLocation)
+                    .map(location -> location == ValidationReport.MessageContext.Location.RESPONSE)
+                    .orElse(false);
+            (isResponseMessage ? responseResultBuilder : requestResultBuilder)
+                    .addError(message.getKey(), message.getMessage());
+        }
+
+        final ValidationResult requestResult = requestResultBuilder.build();
+        if (verdictKey != null) {
+            shared.requestVerdicts.put(verdictKey, requestResult);
+        }
+
+        return new InteractionValidationResult(
+                requestResult, withStreamedBodyErrors(responseResultBuilder.build(), response, streamedBodySchema));
     }
 
-    private static OpenApiInteractionValidator.Builder createValidatorBuilder(
-            final String openapiFilePath, final boolean allowInvalidOpenapi) {
-        return allowInvalidOpenapi
-                ? createValidatorBuilderIgnoringOpenapiErrors(openapiFilePath)
-                : OpenApiInteractionValidator.createForSpecificationUrl(openapiFilePath);
+    /**
+     * Find schema to validate response body against while reading it.
+     *
+     * @return Compiled schema, null if body is not large enough or cannot be validated while reading it
+     */
+    private StreamingJsonSchemaValidator.SchemaNode findStreamedBodySchema(
+            final Supplier<ApiOperation> apiOperation, final Response response) {
+        if (shared.streamingBodyThreshold <= 0
+                || options.getValidationDepth() == ExtensionOptions.ValidationDepth.PARAMETERS
+                || !response.getHeaders().getContentTypeHeader().isPresent()
+                || !BodySize.isLargerThan(response, shared.streamingBodyThreshold)) {
+            return null;
+        }
+
+        final ApiOperation operation = apiOperation.get();
+        if (operation == null) {
+            return null;
+        }
+
+        return model.streamingValidator
+                .get()
+                .findSchema(
+                        operation.getApiPath().original(),
+                        operation.getMethod().name(),
+                        response.getStatus(),
+                        response.getHeaders().getContentTypeHeader().firstValue())
+                .orElse(null);
+    }
+
+    private ValidationResult withStreamedBodyErrors(
+            final ValidationResult result,
+            final Response response,
+            final StreamingJsonSchemaValidator.SchemaNode streamedBodySchema) {
+        if (streamedBodySchema == null) {
+            return result;
+        }
+
+        final ValidationResult bodyResult;
+        try (InputStream body = response.getBodyStream()) {
+            bodyResult = StreamingJsonSchemaValidator.validate(
+                    body,
+                    streamedBodySchema,
+                    levelResolver.getLevel(StreamingJsonSchemaValidator.VALIDATION_SCHEMA_ADDITIONAL_PROPERTIES_KEY)
+                            != ValidationReport.Level.IGNORE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot read response body", e);
+        }
+        if (!bodyResult.hasErrors()) {
+            return result;
+        }
+
+        final ValidationResult.Builder builder = ValidationResult.builder();
+        result.getErrors().forEach(e -> builder.addError(e.getKey(), e.getMessage()));
+        bodyResult.getErrors().stream()
+                .filter(e -> levelResolver.getLevel(e.getKey()) == ValidationReport.Level.ERROR)
+                .forEach(e -> builder.addError(e.getKey(), e.getMessage()));
+        return builder.build();
     }
 
-    private static OpenApiInteractionValidator.Builder createValidatorBuilderIgnoringOpenapiErrors(
-            final String openapiFilePath) {
-        final SwaggerParseResult swaggerParseResult =
-                new OpenAPIParser().readLocation(openapiFilePath, null, defaultParseOptions());
-        if (swaggerParseResult.getOpenAPI() == null) {
-            throw new OpenApiInteractionValidator.ApiLoadException(openapiFilePath, swaggerParseResult);
+    private RequestVerdictCache.Key getRequestVerdictKey(
+            final LoggedRequest request,
+            final AtlassianRequestAdapter atlassianRequest,
+            final Supplier<ApiOperation> apiOperation) {
+        if (shared.requestVerdicts == null) {
+            return null;
         }
 
-        return OpenApiInteractionValidator.createFor(swaggerParseResult.getOpenAPI());
+        // Requests not matching any operation are cheap to validate and are not remembered.
+        if (apiOperation.get() == null) {
+            return null;
+        }
+
+        final Operation operation = apiOperation.get().getOperation();
+        return shared.requestVerdicts.key(
+                options, operation, shared.model.requirements.get(operation), atlassianRequest, request.getBody());
     }
 
-    private static ParseOptions defaultParseOptions() {
-        final ParseOptions parseOptions = new ParseOptions();
-        parseOptions.setResolve(true);
-        parseOptions.setResolveFully(true);
-        parseOptions.setResolveCombinators(false);
-        return parseOptions;
+    /**
+     * Get operation the request is for. The operation is found on first use and only once, however many validation
+     * steps of the interaction need it.
+     *
+     * @return Supplier of operation, it supplies null if request does not match any operation
+     */
+    private Supplier<ApiOperation> operationOf(final AtlassianRequestAdapter atlassianRequest) {
+        return Suppliers.memoize(() -> findOperation(atlassianRequest));
     }
 
-    private static com.atlassian.oai.validator.model.Request convertRequest(final Request request) {
-        final SimpleRequest.Builder builder =
-                new SimpleRequest.Builder(request.getMethod().toString(), Urls.getPath(request.getUrl()));
+    /**
+     * Find operation the request is for.
+     *
+     * @return Operation, null if request does not match any operation
+     */
+    private ApiOperation findOperation(final AtlassianRequestAdapter atlassianRequest) {
+        final long startNanos = System.nanoTime();
+        final ApiOperationMatch match = shared.operationResolver
+                .get()
+                .findApiOperation(atlassianRequest.getPath(), atlassianRequest.getMethod());
+        PhaseTimer.record(PhaseTimer.Phase.OPERATION, startNanos);
+        return match.isPathFound() && match.isOperationAllowed() ? match.getApiOperation() : null;
+    }
 
-        final Map<String, QueryParameter> queryParameters = Urls.splitQuery(URI.create(request.getUrl()));
-        queryParameters.forEach((k, v) -> builder.withQueryParam(v.key(), v.values()));
+    private static AtlassianRequestAdapter convert(final LoggedRequest request) {
+        final long startNanos = System.nanoTime();
+        final AtlassianRequestAdapter atlassianRequest = new AtlassianRequestAdapter(request);
+        PhaseTimer.record(PhaseTimer.Phase.CONVERT, startNanos);
+        return atlassianRequest;
+    }
+
+    private static AtlassianResponseAdapter convert(final Response response) {
+        final long startNanos = System.nanoTime();
+        final AtlassianResponseAdapter atlassianResponse = new AtlassianResponseAdapter(response);
+        PhaseTimer.record(PhaseTimer.Phase.CONVERT, startNanos);
+        return atlassianResponse;
+    }
 
-        for (final String key : request.getAllHeaderKeys()) {
-            builder.withHeader(key, request.getHeader(key));
+    /** Get name of operation to measure validation under: operation id or, if it is not set, method and path. */
+    private static String getOperationName(final ApiOperation apiOperation) {
+        if (apiOperation == null) {
+            return UNKNOWN_OPERATION;
         }
 
-        return builder.withBody(request.getBody()).build();
+        final String operationId = apiOperation.getOperation().getOperationId();
+        return operationId != null
+                ? operationId
+                : apiOperation.getMethod() + " " + apiOperation.getApiPath().original();
     }
 
-    private static com.atlassian.oai.validator.model.Response convertResponse(final Response response) {
-        final SimpleResponse.Builder builder =
-                new SimpleResponse.Builder(response.getStatus()).withBody(response.getBody());
-        response.getHeaders().all().forEach((header) -> builder.withHeader(header.key(), header.values()));
-        return builder.build();
+    private static LevelResolver buildLevelResolver(final OpenApiValidatorOptions options) {
+        final ImmutableSortedSet<String> ignoredErrors = options.getIgnoredErrors();
+
+        return LevelResolver.create()
+                .withLevels(ignoredErrors.stream()
+                        .collect(Collectors.toMap(e -> e, e -> ValidationReport.Level.IGNORE)))
+                .build();
+    }
+
+    private static OpenApiInteractionValidator buildOpenApiValidator(
+            final ValidationModel model, final LevelResolver levelResolver) {
+        return OpenApiInteractionValidator.createFor(model.api)
+                .withCustomRequestValidation(new RequireContentTypeRequestValidator(model.requirements))
+                .withCustomResponseValidation(new RequireContentTypeResponseValidator(model.requirements))
+                .withLevelResolver(levelResolver)
+                .build();
     }
 
     private static ValidationResult createValidationResult(final ValidationReport report) {
@@ -154,6 +497,82 @@ class AtlassianOpenApiValidator implements OpenApiValidator {
         return builder.build();
     }
 
+    /** OpenAPI model together with requirements of its operations. */
+    private static final class ValidationModel {
+
+        private final OpenAPI api;
+        private final OperationRequirementTable requirements;
+        /** Model without response body schemas, built on first use. */
+        private final Supplier<ValidationModel> responseBodylessModel;
+        /** Schemas of response bodies compiled for validating while reading, built on first use. */
+        private final Supplier<StreamingJsonSchemaValidator> streamingValidator;
+
+        private ValidationModel(final OpenAPI api) {
+            this.api = api;
+            this.requirements = OperationRequirementTable.build(api);
+            this.responseBodylessModel =
+                    Suppliers.memoize(() -> new ValidationModel(OpenApiModelView.withoutResponseBodySchemas(api)));
+            this.streamingValidator = Suppliers.memoize(() -> StreamingJsonSchemaValidator.build(api));
+        }
+    }
+
+    /** State shared between all validators created from the same root validator. */
+    private static final class Shared {
+
+        private final ValidationModel model;
+        /** Model with body schemas cut after the top level, built on first use. */
+        private final Supplier<ValidationModel> shallowModel;
+        /** Model without body schemas, built on first use. */
+        private final Supplier<ValidationModel> bodylessModel;
+        /** Validators built for other options. */
+        private final Cache<OpenApiValidatorOptions, OpenApiValidator> variants;
+        /**
+         * Operation lookup for request verdict keys, streamed response bodies, metrics and phase timing. It is built in
+         * advance if it is known to be needed, otherwise on first use.
+         */
+        private final Supplier<ApiOperationResolver> operationResolver;
+        /** Remembered request verdicts, null if they are not remembered. */
+        private final RequestVerdictCache requestVerdicts;
+        /** Size of response body above which the body is validated while reading it, 0 if bodies are not streamed. */
+        private final long streamingBodyThreshold;
+        /** Metrics to record to, null if metrics are not collected. */
+        private final ValidationMetrics metrics;
+
+        private Shared(
+                final OpenAPI api,
+                final int variantCacheSize,
+                final RequestVerdictCache requestVerdicts,
+                final long streamingBodyThreshold,
+                final ValidationMetrics metrics) {
+            this.model = new ValidationModel(api);
+            this.shallowModel =
+                    Suppliers.memoize(() -> new ValidationModel(OpenApiModelView.withShallowBodySchemas(api)));
+            this.bodylessModel = Suppliers.memoize(() -> new ValidationModel(OpenApiModelView.withoutBodySchemas(api)));
+            this.variants = CacheBuilder.newBuilder()
+                    .maximumSize(variantCacheSize)
+                    .recordStats()
+                    .build();
+            this.operationResolver = Suppliers.memoize(() -> new ApiOperationResolver(api, null, false));
+            if (requestVerdicts != null || streamingBodyThreshold > 0 || metrics != null) {
+                operationResolver.get();
+            }
+            this.requestVerdicts = requestVerdicts;
+            this.streamingBodyThreshold = streamingBodyThreshold;
+            this.metrics = metrics;
+        }
+
+        private ValidationModel getModel(final ExtensionOptions.ValidationDepth validationDepth) {
+            switch (validationDepth) {
+                case PARAMETERS:
+                    return bodylessModel.get();
+                case SHALLOW:
+                    return shallowModel.get();
+                default:
+                    return model;
+            }
+        }
+    }
+
     private static class RequireContentTypeRequestValidator implements CustomRequestValidator {
 
         public static final String VALIDATION_REQUEST_CONTENT_TYPE_MISSING_KEY =
@@ -161,25 +580,22 @@ class AtlassianOpenApiValidator implements OpenApiValidator {
         public static final String VALIDATION_REQUEST_CONTENT_TYPE_MISSING_MESSAGE =
                 "Request Content-Type header is missing";
 
+        private final OperationRequirementTable requirements;
+
+        RequireContentTypeRequestValidator(final OperationRequirementTable requirements) {
+            this.requirements = requirements;
+        }
+
         @Override
         public ValidationReport validate(
                 @Nonnull final com.atlassian.oai.validator.model.Request request,
                 @Nonnull final ApiOperation apiOperation) {
-            final RequestBody requestBodySchema = apiOperation.getOperation().getRequestBody();
-            if (requestBodySchema == null) {
-                return ValidationReport.empty();
-            }
-
-            final Content contentSchema = requestBodySchema.getContent();
-            final boolean isContentRequired = Boolean.TRUE.equals(requestBodySchema.getRequired());
-
-            if (isContentRequired && contentSchema != null && !contentSchema.isEmpty()) {
-                if (request.getContentType().isEmpty()) {
-                    return ValidationReport.singleton(ValidationReport.Message.create(
-                                    VALIDATION_REQUEST_CONTENT_TYPE_MISSING_KEY,
-                                    VALIDATION_REQUEST_CONTENT_TYPE_MISSING_MESSAGE)
-                            .build());
-                }
+            if (requirements.get(apiOperation.getOperation()).isRequestContentTypeRequired()
+                    && request.getContentType().isEmpty()) {
+                return ValidationReport.singleton(ValidationReport.Message.create(
+                                VALIDATION_REQUEST_CONTENT_TYPE_MISSING_KEY,
+                                VALIDATION_REQUEST_CONTENT_TYPE_MISSING_MESSAGE)
+                        .build());
             }
 
             return ValidationReport.empty();
@@ -193,26 +609,22 @@ class AtlassianOpenApiValidator implements OpenApiValidator {
         public static final String VALIDATION_RESPONSE_CONTENT_TYPE_MISSING_MESSAGE =
                 "Response Content-Type header is missing";
 
+        private final OperationRequirementTable requirements;
+
+        RequireContentTypeResponseValidator(final OperationRequirementTable requirements) {
+            this.requirements = requirements;
+        }
+
         @Override
         public ValidationReport validate(
                 @Nonnull final com.atlassian.oai.validator.model.Response response,
                 @Nonnull final ApiOperation apiOperation) {
-            final ApiResponses responses = apiOperation.getOperation().getResponses();
-            final String statusString = String.valueOf(response.getStatus());
-            if (responses == null || !responses.containsKey(statusString)) {
-                return ValidationReport.empty();
-            }
-
-            final ApiResponse apiResponse = responses.get(statusString);
-            final Content contentSchema = apiResponse.getContent();
-
-            if (contentSchema != null && !contentSchema.isEmpty()) {
-                if (response.getContentType().isEmpty()) {
-                    return ValidationReport.singleton(ValidationReport.Message.create(
-                                    VALIDATION_RESPONSE_CONTENT_TYPE_MISSING_KEY,
-                                    VALIDATION_RESPONSE_CONTENT_TYPE_MISSING_MESSAGE)
-                            .build());
-                }
+            if (requirements.get(apiOperation.getOperation()).isResponseContentTypeRequired(response.getStatus())
+                    && response.getContentType().isEmpty()) {
+                return ValidationReport.singleton(ValidationReport.Message.create(
+                                VALIDATION_RESPONSE_CONTENT_TYPE_MISSING_KEY,
+                                VALIDATION_RESPONSE_CONTENT_TYPE_MISSING_MESSAGE)
+                        .build());
             }
 
             return ValidationReport.empty();
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import com.atlassian.oai.validator.model.Body;
+import com.atlassian.oai.validator.model.ByteArrayBody;
+import com.github.tomakehurst.wiremock.common.Urls;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.MultiValue;
+import com.github.tomakehurst.wiremock.http.QueryParameter;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+/**
+ * Request for validator backed directly by WireMock request. Nothing is copied upfront: path, headers, query parameters
+ * and body are read from WireMock request only when validator asks for them, and body byte array is shared.
+ */
+final class AtlassianRequestAdapter implements com.atlassian.oai.validator.model.Request {
+
+    private final LoggedRequest request;
+    private final Method method;
+    private String path;
+    private Map<String, Collection<String>> queryParameters;
+    private Map<String, Collection<String>> headers;
+
+    AtlassianRequestAdapter(final LoggedRequest request) {
+        this.request = request;
+        this.method = Method.valueOf(request.getMethod().getName().toUpperCase(Locale.ROOT));
+    }
+
+    @Nonnull
+    @Override
+    public String getPath() {
+        if (path == null) {
+            path = Urls.getPath(request.getUrl());
+        }
+
+        return path;
+    }
+
+    @Nonnull
+    @Override
+    public Method getMethod() {
+        return method;
+    }
+
+    @Nonnull
+    @Override
+    @Deprecated
+    public Optional<String> getBody() {
+        return Optional.empty();
+    }
+
+    @Nonnull
+    @Override
+    public Optional<Body> getRequestBody() {
+        final byte[] body = request.getBody();
+        return body == null ? Optional.empty() : Optional.of(new ByteArrayBody(body));
+    }
+
+    @Nonnull
+    @Override
+    public Collection<String> getQueryParameters() {
+        return getAllQueryParameters().keySet();
+    }
+
+    @Nonnull
+    @Override
+    public Collection<String> getQueryParameterValues(final String name) {
+        if (name == null) {
+            return List.of();
+        }
+
+        // Exact match does not require parsing query string again.
+        final QueryParameter queryParameter = request.queryParameter(name);
+        if (queryParameter.isPresent()) {
+            return nonNullValues(queryParameter.values());
+        }
+
+        // Validator treats query parameter names as case-insensitive.
+        return getAllQueryParameters().getOrDefault(name, List.of());
+    }
+
+    @Nonnull
+    @Override
+    public Map<String, Collection<String>> getHeaders() {
+        if (headers == null) {
+            final Map<String, Collection<String>> allHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (final HttpHeader header : request.getHeaders().all()) {
+                allHeaders.put(header.key(), headerValues(header));
+            }
+            headers = Collections.unmodifiableMap(allHeaders);
+        }
+
+        return headers;
+    }
+
+    @Nonnull
+    @Override
+    public Collection<String> getHeaderValues(final String name) {
+        return name == null ? List.of() : headerValues(request.header(name));
+    }
+
+    private Map<String, Collection<String>> getAllQueryParameters() {
+        if (queryParameters == null) {
+            final Map<String, Collection<String>> allQueryParameters = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            Urls.splitQueryFromUrl(request.getUrl())
+                    .forEach((name, parameter) -> allQueryParameters.put(name, nonNullValues(parameter.values())));
+            queryParameters = Collections.unmodifiableMap(allQueryParameters);
+        }
+
+        return queryParameters;
+    }
+
+    /** Header without values is treated by validator as header with empty value. */
+    static List<String> headerValues(final MultiValue header) {
+        if (!header.isPresent()) {
+            return List.of();
+        }
+
+        final List<String> values = header.values();
+        return values.isEmpty() ? List.of("") : nonNullValues(values);
+    }
+
+    private static List<String> nonNullValues(final List<String> values) {
+        for (final String value : values) {
+            if (value == null) {
+                return values.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableList());
+            }
+        }
+
+        return Collections.unmodifiableList(values);
+    }
+}
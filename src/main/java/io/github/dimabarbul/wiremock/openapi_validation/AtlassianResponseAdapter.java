@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static io.swagger.v3.core.util.Json.mapper;
+
+import com.atlassian.oai.validator.model.Body;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+/**
+ * Response for validator backed directly by WireMock response. Headers are looked up in WireMock response only when
+ * validator asks for them, and body is parsed from the response stream instead of being copied into byte array first.
+ */
+final class AtlassianResponseAdapter implements com.atlassian.oai.validator.model.Response {
+
+    private final Response response;
+    private final Supplier<Optional<Body>> responseBody;
+
+    AtlassianResponseAdapter(final Response response) {
+        this.response = response;
+        this.responseBody = Suppliers.memoize(() -> readResponseBody(response));
+    }
+
+    @Override
+    public int getStatus() {
+        return response.getStatus();
+    }
+
+    @Nonnull
+    @Override
+    @Deprecated
+    public Optional<String> getBody() {
+        return Optional.empty();
+    }
+
+    @Nonnull
+    @Override
+    public Optional<Body> getResponseBody() {
+        return responseBody.get();
+    }
+
+    @Nonnull
+    @Override
+    public Collection<String> getHeaderValues(final String name) {
+        return name == null
+                ? List.of()
+                : AtlassianRequestAdapter.headerValues(response.getHeaders().getHeader(name));
+    }
+
+    /**
+     * Check whether the response has body by reading its first byte. The stream is closed right away, so that file
+     * backed body does not keep file open until the stream is garbage collected.
+     */
+    private static Optional<Body> readResponseBody(final Response response) {
+        try (InputStream stream = response.getBodyStream()) {
+            return stream == null ? Optional.empty() : Optional.of(new ResponseBody(response, stream.read() != -1));
+        } catch (final IOException e) {
+            return Optional.of(new ResponseBody(response, false));
+        }
+    }
+
+    private static final class ResponseBody implements Body {
+
+        private final Response response;
+        private final boolean hasBody;
+
+        private ResponseBody(final Response response, final boolean hasBody) {
+            this.response = response;
+            this.hasBody = hasBody;
+        }
+
+        @Override
+        public boolean hasBody() {
+            return hasBody;
+        }
+
+        @Override
+        public JsonNode toJsonNode() throws IOException {
+            try (InputStream stream = response.getBodyStream()) {
+                return mapper().readTree(stream);
+            }
+        }
+
+        @Override
+        public String toString(final Charset charset) throws IOException {
+            try (InputStream stream = response.getBodyStream()) {
+                return new String(stream.readAllBytes(), charset);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Validates interactions on a bounded pool of background threads, so validation does not add to response latency.
+ * Interactions that do not fit into the queue are dropped and counted.
+ */
+final class BackgroundValidator {
+
+    private static final long STOP_TIMEOUT_MILLIS = 5_000;
+
+    private final int queueSize;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder validatedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder totalLagMillis = new LongAdder();
+    private final LongAccumulator maxLagMillis = new LongAccumulator(Math::max, 0);
+
+    BackgroundValidator(final int threads, final int queueSize) {
+        this.queueSize = queueSize;
+        executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                new DaemonThreadFactory(),
+                (task, pool) -> droppedCount.increment());
+    }
+
+    /**
+     * Queue validation to be run in background.
+     *
+     * @param validation Validation to run, returns true if validation has failed
+     */
+    void submit(final BooleanSupplier validation) {
+        submittedCount.increment();
+        final long submittedAt = System.nanoTime();
+        executor.execute(() -> {
+            final long lagMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedAt);
+            totalLagMillis.add(lagMillis);
+            maxLagMillis.accumulate(lagMillis);
+            try {
+                if (validation.getAsBoolean()) {
+                    failedCount.increment();
+                }
+            } catch (final RuntimeException e) {
+                failedCount.increment();
+                notifier().error("OpenAPI validation of interaction has failed with exception", e);
+            } finally {
+                validatedCount.increment();
+            }
+        });
+    }
+
+    /** Stop accepting new interactions and wait for queued ones to be validated. */
+    void stop() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    Map<String, Object> buildStatus() {
+        final long validated = validatedCount.sum();
+        final Map<String, Object> status = new LinkedHashMap<>();
+        status.put("queueDepth", executor.getQueue().size());
+        status.put("queueSize", queueSize);
+        status.put("submittedCount", submittedCount.sum());
+        status.put("validatedCount", validated);
+        status.put("failedCount", failedCount.sum());
+        status.put("droppedCount", droppedCount.sum());
+        status.put("averageLagMillis", validated == 0 ? 0 : totalLagMillis.sum() / validated);
+        status.put("maxLagMillis", maxLagMillis.get());
+        return status;
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "openapi-validation-report-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.io.IOException;
+import java.io.InputStream;
+
+/** Checks of body size that do not read large bodies into memory. */
+final class BodySize {
+
+    private BodySize() {}
+
+    /**
+     * Check whether request or response body is larger than the size.
+     *
+     * @param request Request to check body of
+     * @param response Response to check body of
+     * @param size Size in bytes
+     * @return True if any of the bodies is larger than the size
+     */
+    static boolean isAnyLargerThan(final LoggedRequest request, final Response response, final long size) {
+        final byte[] requestBody = request.getBody();
+        return (requestBody != null && requestBody.length > size) || isLargerThan(response, size);
+    }
+
+    /**
+     * Check whether response body is larger than the size. Body is read only up to the size.
+     *
+     * @param response Response to check body of
+     * @param size Size in bytes
+     * @return True if the body is larger than the size
+     */
+    static boolean isLargerThan(final Response response, final long size) {
+        try (InputStream body = response.getBodyStream()) {
+            if (body == null) {
+                return false;
+            }
+            long remaining = size;
+            while (remaining > 0) {
+                final long skipped = body.skip(remaining);
+                if (skipped > 0) {
+                    remaining -= skipped;
+                } else if (body.read() != -1) {
+                    remaining--;
+                } else {
+                    return false;
+                }
+            }
+            return body.read() != -1;
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+}
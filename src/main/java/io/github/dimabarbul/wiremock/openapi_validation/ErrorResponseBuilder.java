@@ -19,6 +19,7 @@ import com.github.tomakehurst.wiremock.http.HttpHeader;
 import com.github.tomakehurst.wiremock.http.HttpHeaders;
 import com.github.tomakehurst.wiremock.http.Response;
 import com.google.common.net.MediaType;
+import java.net.HttpURLConnection;
 import java.util.stream.Collectors;
 
 final class ErrorResponseBuilder {
@@ -29,16 +30,47 @@ final class ErrorResponseBuilder {
             final int statusCode,
             final ValidationResult requestValidationResult,
             final ValidationResult responseValidationResult) {
-        return Response.response()
+        return buildResponse(statusCode, requestValidationResult, responseValidationResult, null);
+    }
+
+    /**
+     * Build response describing validation errors.
+     *
+     * @param statusCode Status code of the response
+     * @param requestValidationResult Result of request validation
+     * @param responseValidationResult Result of response validation
+     * @param validationDepth Depth the interaction has been validated with, null if it has not been validated
+     * @return Error response
+     */
+    public static Response buildResponse(
+            final int statusCode,
+            final ValidationResult requestValidationResult,
+            final ValidationResult responseValidationResult,
+            final ExtensionOptions.ValidationDepth validationDepth) {
+        final long startNanos = System.nanoTime();
+        final Response response = Response.response()
                 .status(statusCode)
                 .headers(new HttpHeaders(new HttpHeader("Content-Type", MediaType.HTML_UTF_8.toString())))
-                .body(buildBody(requestValidationResult, responseValidationResult))
+                .body(buildBody(requestValidationResult, responseValidationResult, validationDepth))
+                .build();
+        PhaseTimer.record(PhaseTimer.Phase.RENDER, startNanos);
+        return response;
+    }
+
+    public static Response buildUnavailableResponse(final String reason) {
+        return Response.response()
+                .status(HttpURLConnection.HTTP_UNAVAILABLE)
+                .headers(new HttpHeaders(new HttpHeader("Content-Type", MediaType.HTML_UTF_8.toString())))
+                .body("<h1>OpenAPI validation is not available</h1>\n<p>" + reason + "</p>\n")
                 .build();
     }
 
     private static String buildBody(
-            final ValidationResult requestValidationResult, final ValidationResult responseValidationResult) {
+            final ValidationResult requestValidationResult,
+            final ValidationResult responseValidationResult,
+            final ExtensionOptions.ValidationDepth validationDepth) {
         return "<h1>Validation against OpenAPI failed</h1>\n"
+                + (validationDepth != null ? "<p>Validation depth: <b>" + validationDepth + "</b></p>\n" : "")
                 + "<h2>Request Errors</h2>\n"
                 + getErrorsHtml(requestValidationResult)
                 + "<h2>Response Errors</h2>\n"
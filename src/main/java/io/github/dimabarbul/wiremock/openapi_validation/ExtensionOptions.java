@@ -28,6 +28,12 @@ import java.util.stream.Collectors;
 public final class ExtensionOptions {
 
     private static final int DEFAULT_FAILURE_STATUS_CODE = 500;
+    private static final int DEFAULT_VALIDATOR_CACHE_SIZE = 100;
+    private static final long DEFAULT_NOT_READY_TIMEOUT_MILLIS = 60_000;
+    private static final int DEFAULT_VERDICT_CACHE_SIZE = 1000;
+    private static final long DEFAULT_REQUEST_VERDICT_CACHE_TTL_MILLIS = 60_000;
+    private static final int DEFAULT_REPORT_QUEUE_SIZE = 10_000;
+    private static final int DEFAULT_LOG_QUEUE_SIZE = 1000;
 
     private final boolean shouldPrintConfiguration;
     private final String openapiFilePath;
@@ -36,6 +42,37 @@ public final class ExtensionOptions {
     private final int failureStatusCode;
     private final ImmutableList<String> ignoredErrors;
     private final String defaultResponseContentType;
+    private final int validatorCacheSize;
+    private final boolean asyncLoading;
+    private final NotReadyPolicy notReadyPolicy;
+    private final long notReadyTimeoutMillis;
+    private final String snapshotDirectory;
+    private final long watchIntervalMillis;
+    private final ImmutableList<OpenApiSpecDefinition> specs;
+    private final int verdictCacheSize;
+    private final int requestVerdictCacheSize;
+    private final long requestVerdictCacheTtlMillis;
+    private final ValidationMode validationMode;
+    private final int reportQueueSize;
+    private final int reportThreads;
+    private final double samplingRate;
+    private final long sheddingLatencyBudgetMillis;
+    private final int sheddingConcurrencyBudget;
+    private final double sheddingSamplingRate;
+    private final boolean parallelValidation;
+    private final int parallelThreads;
+    private final long parallelTimeoutMillis;
+    private final ParallelTimeoutPolicy parallelTimeoutPolicy;
+    private final long streamingBodyThreshold;
+    private final ValidationDepth validationDepth;
+    private final long shallowBodyThreshold;
+    private final long parametersOnlyBodyThreshold;
+    private final int logQueueSize;
+    private final int logBodyLimit;
+    private final long logRateLimitIntervalMillis;
+    private final boolean metricsEnabled;
+    private final boolean serverTimingEnabled;
+    private final long slowValidationThresholdMillis;
 
     private ExtensionOptions(
             final boolean shouldPrintConfiguration,
@@ -44,7 +81,38 @@ public final class ExtensionOptions {
             final String validatorName,
             final int failureStatusCode,
             final ImmutableList<String> ignoredErrors,
-            final String defaultResponseContentType) {
+            final String defaultResponseContentType,
+            final int validatorCacheSize,
+            final boolean asyncLoading,
+            final NotReadyPolicy notReadyPolicy,
+            final long notReadyTimeoutMillis,
+            final String snapshotDirectory,
+            final long watchIntervalMillis,
+            final ImmutableList<OpenApiSpecDefinition> specs,
+            final int verdictCacheSize,
+            final int requestVerdictCacheSize,
+            final long requestVerdictCacheTtlMillis,
+            final ValidationMode validationMode,
+            final int reportQueueSize,
+            final int reportThreads,
+            final double samplingRate,
+            final long sheddingLatencyBudgetMillis,
+            final int sheddingConcurrencyBudget,
+            final double sheddingSamplingRate,
+            final boolean parallelValidation,
+            final int parallelThreads,
+            final long parallelTimeoutMillis,
+            final ParallelTimeoutPolicy parallelTimeoutPolicy,
+            final long streamingBodyThreshold,
+            final ValidationDepth validationDepth,
+            final long shallowBodyThreshold,
+            final long parametersOnlyBodyThreshold,
+            final int logQueueSize,
+            final int logBodyLimit,
+            final long logRateLimitIntervalMillis,
+            final boolean metricsEnabled,
+            final boolean serverTimingEnabled,
+            final long slowValidationThresholdMillis) {
         this.shouldPrintConfiguration = shouldPrintConfiguration;
         this.openapiFilePath = openapiFilePath;
         this.allowInvalidOpenapi = allowInvalidOpenapi;
@@ -52,6 +120,37 @@ public final class ExtensionOptions {
         this.failureStatusCode = failureStatusCode;
         this.ignoredErrors = requireNonNull(ignoredErrors);
         this.defaultResponseContentType = defaultResponseContentType;
+        this.validatorCacheSize = validatorCacheSize;
+        this.asyncLoading = asyncLoading;
+        this.notReadyPolicy = requireNonNull(notReadyPolicy);
+        this.notReadyTimeoutMillis = notReadyTimeoutMillis;
+        this.snapshotDirectory = snapshotDirectory;
+        this.watchIntervalMillis = watchIntervalMillis;
+        this.specs = requireNonNull(specs);
+        this.verdictCacheSize = verdictCacheSize;
+        this.requestVerdictCacheSize = requestVerdictCacheSize;
+        this.requestVerdictCacheTtlMillis = requestVerdictCacheTtlMillis;
+        this.validationMode = requireNonNull(validationMode);
+        this.reportQueueSize = reportQueueSize;
+        this.reportThreads = reportThreads;
+        this.samplingRate = samplingRate;
+        this.sheddingLatencyBudgetMillis = sheddingLatencyBudgetMillis;
+        this.sheddingConcurrencyBudget = sheddingConcurrencyBudget;
+        this.sheddingSamplingRate = sheddingSamplingRate;
+        this.parallelValidation = parallelValidation;
+        this.parallelThreads = parallelThreads;
+        this.parallelTimeoutMillis = parallelTimeoutMillis;
+        this.parallelTimeoutPolicy = requireNonNull(parallelTimeoutPolicy);
+        this.streamingBodyThreshold = streamingBodyThreshold;
+        this.validationDepth = requireNonNull(validationDepth);
+        this.shallowBodyThreshold = shallowBodyThreshold;
+        this.parametersOnlyBodyThreshold = parametersOnlyBodyThreshold;
+        this.logQueueSize = logQueueSize;
+        this.logBodyLimit = logBodyLimit;
+        this.logRateLimitIntervalMillis = logRateLimitIntervalMillis;
+        this.metricsEnabled = metricsEnabled;
+        this.serverTimingEnabled = serverTimingEnabled;
+        this.slowValidationThresholdMillis = slowValidationThresholdMillis;
     }
 
     /**
@@ -101,6 +200,98 @@ public final class ExtensionOptions {
                 .ifPresent(builder::withIgnoredErrors);
         getGlobalParameter(systemAccessor, ValidationParameter.DEFAULT_RESPONSE_CONTENT_TYPE)
                 .ifPresent(builder::withDefaultResponseContentType);
+        getGlobalParameter(systemAccessor, ValidationParameter.VALIDATOR_CACHE_SIZE)
+                .map(Integer::parseInt)
+                .ifPresent(builder::withValidatorCacheSize);
+        getGlobalParameter(systemAccessor, ValidationParameter.ASYNC_LOADING)
+                .map(Boolean::parseBoolean)
+                .ifPresent(builder::withAsyncLoading);
+        getGlobalParameter(systemAccessor, ValidationParameter.NOT_READY_POLICY)
+                .map(NotReadyPolicy::fromString)
+                .ifPresent(builder::withNotReadyPolicy);
+        getGlobalParameter(systemAccessor, ValidationParameter.NOT_READY_TIMEOUT)
+                .map(Long::parseLong)
+                .ifPresent(builder::withNotReadyTimeoutMillis);
+        getGlobalParameter(systemAccessor, ValidationParameter.SNAPSHOT_DIRECTORY)
+                .ifPresent(builder::withSnapshotDirectory);
+        getGlobalParameter(systemAccessor, ValidationParameter.WATCH_INTERVAL)
+                .map(Long::parseLong)
+                .ifPresent(builder::withWatchIntervalMillis);
+        getGlobalParameter(systemAccessor, ValidationParameter.SPECS)
+                .map(OpenApiSpecDefinition::parseList)
+                .ifPresent(builder::withSpecs);
+        getGlobalParameter(systemAccessor, ValidationParameter.VERDICT_CACHE_SIZE)
+                .map(Integer::parseInt)
+                .ifPresent(builder::withVerdictCacheSize);
+        getGlobalParameter(systemAccessor, ValidationParameter.REQUEST_VERDICT_CACHE_SIZE)
+                .map(Integer::parseInt)
+                .ifPresent(builder::withRequestVerdictCacheSize);
+        getGlobalParameter(systemAccessor, ValidationParameter.REQUEST_VERDICT_CACHE_TTL)
+                .map(Long::parseLong)
+                .ifPresent(builder::withRequestVerdictCacheTtlMillis);
+        getGlobalParameter(systemAccessor, ValidationParameter.VALIDATION_MODE)
+                .map(ValidationMode::fromString)
+                .ifPresent(builder::withValidationMode);
+        getGlobalParameter(systemAccessor, ValidationParameter.REPORT_QUEUE_SIZE)
+                .map(Integer::parseInt)
+                .ifPresent(builder::withReportQueueSize);
+        getGlobalParameter(systemAccessor, ValidationParameter.REPORT_THREADS)
+                .map(Integer::parseInt)
+                .ifPresent(builder::withReportThreads);
+        getGlobalParameter(systemAccessor, ValidationParameter.SAMPLING_RATE)
+                .map(Double::parseDouble)
+                .ifPresent(builder::withSamplingRate);
+        getGlobalParameter(systemAccessor, ValidationParameter.SHEDDING_LATENCY_BUDGET)
+                .map(Long::parseLong)
+                .ifPresent(builder::withSheddingLatencyBudgetMillis);
+        getGlobalParameter(systemAccessor, ValidationParameter.SHEDDING_CONCURRENCY_BUDGET)
+                .map(Integer::parseInt)
+                .ifPresent(builder::withSheddingConcurrencyBudget);
+        getGlobalParameter(systemAccessor, ValidationParameter.SHEDDING_SAMPLING_RATE)
+                .map(Double::parseDouble)
+                .ifPresent(builder::withSheddingSamplingRate);
+        getGlobalParameter(systemAccessor, ValidationParameter.PARALLEL_VALIDATION)
+                .map(Boolean::parseBoolean)
+                .ifPresent(builder::withParallelValidation);
+        getGlobalParameter(systemAccessor, ValidationParameter.PARALLEL_THREADS)
+                .map(Integer::parseInt)
+                .ifPresent(builder::withParallelThreads);
+        getGlobalParameter(systemAccessor, ValidationParameter.PARALLEL_TIMEOUT)
+                .map(Long::parseLong)
+                .ifPresent(builder::withParallelTimeoutMillis);
+        getGlobalParameter(systemAccessor, ValidationParameter.PARALLEL_TIMEOUT_POLICY)
+                .map(ParallelTimeoutPolicy::fromString)
+                .ifPresent(builder::withParallelTimeoutPolicy);
+        getGlobalParameter(systemAccessor, ValidationParameter.STREAMING_BODY_THRESHOLD)
+                .map(Long::parseLong)
+                .ifPresent(builder::withStreamingBodyThreshold);
+        getGlobalParameter(systemAccessor, ValidationParameter.VALIDATION_DEPTH)
+                .map(ValidationDepth::fromString)
+                .ifPresent(builder::withValidationDepth);
+        getGlobalParameter(systemAccessor, ValidationParameter.SHALLOW_BODY_THRESHOLD)
+                .map(Long::parseLong)
+                .ifPresent(builder::withShallowBodyThreshold);
+        getGlobalParameter(systemAccessor, ValidationParameter.PARAMETERS_ONLY_BODY_THRESHOLD)
+                .map(Long::parseLong)
+                .ifPresent(builder::withParametersOnlyBodyThreshold);
+        getGlobalParameter(systemAccessor, ValidationParameter.LOG_QUEUE_SIZE)
+                .map(Integer::parseInt)
+                .ifPresent(builder::withLogQueueSize);
+        getGlobalParameter(systemAccessor, ValidationParameter.LOG_BODY_LIMIT)
+                .map(Integer::parseInt)
+                .ifPresent(builder::withLogBodyLimit);
+        getGlobalParameter(systemAccessor, ValidationParameter.LOG_RATE_LIMIT_INTERVAL)
+                .map(Long::parseLong)
+                .ifPresent(builder::withLogRateLimitIntervalMillis);
+        getGlobalParameter(systemAccessor, ValidationParameter.METRICS)
+                .map(Boolean::parseBoolean)
+                .ifPresent(builder::withMetricsEnabled);
+        getGlobalParameter(systemAccessor, ValidationParameter.SERVER_TIMING)
+                .map(Boolean::parseBoolean)
+                .ifPresent(builder::withServerTimingEnabled);
+        getGlobalParameter(systemAccessor, ValidationParameter.SLOW_VALIDATION_THRESHOLD)
+                .map(Long::parseLong)
+                .ifPresent(builder::withSlowValidationThresholdMillis);
         return builder.build();
     }
 
@@ -172,6 +363,341 @@ public final class ExtensionOptions {
         return defaultResponseContentType;
     }
 
+    /**
+     * Get maximum number of validators built for different per-stub settings (like ignored errors) to keep.
+     *
+     * @return Maximum number of validators to keep
+     */
+    public int getValidatorCacheSize() {
+        return validatorCacheSize;
+    }
+
+    /**
+     * Get whether OpenAPI file should be loaded in background thread, so WireMock can start without waiting for it.
+     *
+     * @return True to load OpenAPI file in background thread
+     */
+    public boolean isAsyncLoading() {
+        return asyncLoading;
+    }
+
+    /**
+     * Get how requests are handled while OpenAPI file is still being loaded in background.
+     *
+     * @return Policy for requests served before OpenAPI file is loaded
+     */
+    public NotReadyPolicy getNotReadyPolicy() {
+        return notReadyPolicy;
+    }
+
+    /**
+     * Get maximum time to wait for OpenAPI file to be loaded when policy is {@link NotReadyPolicy#BLOCK}.
+     *
+     * @return Maximum time to wait in milliseconds
+     */
+    public long getNotReadyTimeoutMillis() {
+        return notReadyTimeoutMillis;
+    }
+
+    /**
+     * Get directory to store snapshots of parsed and resolved OpenAPI files in.
+     *
+     * @return Directory to store snapshots in, null if snapshots are disabled
+     */
+    public String getSnapshotDirectory() {
+        return snapshotDirectory;
+    }
+
+    /**
+     * Get how often OpenAPI file should be checked for changes to be reloaded.
+     *
+     * @return Interval between checks in milliseconds, 0 if the file is not watched
+     */
+    public long getWatchIntervalMillis() {
+        return watchIntervalMillis;
+    }
+
+    /**
+     * Get OpenAPI files bound to path prefixes, hosts or stubs. They are used in addition to
+     * {@link #getOpenapiFilePath()}, which, if set, applies to requests not matching any of the files.
+     *
+     * @return OpenAPI file definitions
+     */
+    public ImmutableList<OpenApiSpecDefinition> getSpecs() {
+        return specs;
+    }
+
+    /**
+     * Get maximum number of response validation verdicts remembered for stubs returning the same response.
+     *
+     * @return Maximum number of remembered verdicts, 0 if verdicts are not remembered
+     */
+    public int getVerdictCacheSize() {
+        return verdictCacheSize;
+    }
+
+    /**
+     * Get maximum number of request validation verdicts remembered for repeated identical requests.
+     *
+     * @return Maximum number of remembered verdicts, 0 if verdicts are not remembered
+     */
+    public int getRequestVerdictCacheSize() {
+        return requestVerdictCacheSize;
+    }
+
+    /**
+     * Get how long request validation verdict is remembered.
+     *
+     * @return Time to remember verdict for in milliseconds
+     */
+    public long getRequestVerdictCacheTtlMillis() {
+        return requestVerdictCacheTtlMillis;
+    }
+
+    /**
+     * Get whether validation result replaces response or is only reported.
+     *
+     * @return Validation mode
+     */
+    public ValidationMode getValidationMode() {
+        return validationMode;
+    }
+
+    /**
+     * Get maximum number of interactions waiting for validation in report-only mode.
+     *
+     * @return Maximum number of waiting interactions
+     */
+    public int getReportQueueSize() {
+        return reportQueueSize;
+    }
+
+    /**
+     * Get number of threads validating interactions in report-only mode.
+     *
+     * @return Number of threads
+     */
+    public int getReportThreads() {
+        return reportThreads;
+    }
+
+    /**
+     * Get share of interactions that are validated.
+     *
+     * @return Share of validated interactions from 0 (none) to 1 (all)
+     */
+    public double getSamplingRate() {
+        return samplingRate;
+    }
+
+    /**
+     * Get p99 validation duration above which validation is degraded.
+     *
+     * @return Duration in milliseconds, 0 if duration does not degrade validation
+     */
+    public long getSheddingLatencyBudgetMillis() {
+        return sheddingLatencyBudgetMillis;
+    }
+
+    /**
+     * Get number of validations in flight above which validation is degraded.
+     *
+     * @return Number of validations, 0 if number of validations does not degrade validation
+     */
+    public int getSheddingConcurrencyBudget() {
+        return sheddingConcurrencyBudget;
+    }
+
+    /**
+     * Get share of interactions that are validated when validation is degraded to sampling.
+     *
+     * @return Share of validated interactions from 0 (none) to 1 (all)
+     */
+    public double getSheddingSamplingRate() {
+        return sheddingSamplingRate;
+    }
+
+    /**
+     * Get whether request and response are validated at the same time on separate threads.
+     *
+     * @return True to validate request and response at the same time
+     */
+    public boolean isParallelValidation() {
+        return parallelValidation;
+    }
+
+    /**
+     * Get number of threads validating requests when request and response are validated at the same time.
+     *
+     * @return Number of threads, 0 to use virtual threads where available and number of processors otherwise
+     */
+    public int getParallelThreads() {
+        return parallelThreads;
+    }
+
+    /**
+     * Get maximum time to wait for request validation when request and response are validated at the same time.
+     *
+     * @return Timeout in milliseconds, 0 to wait without limit
+     */
+    public long getParallelTimeoutMillis() {
+        return parallelTimeoutMillis;
+    }
+
+    /**
+     * Get how interaction is handled when request validation does not finish in time.
+     *
+     * @return Timeout policy
+     */
+    public ParallelTimeoutPolicy getParallelTimeoutPolicy() {
+        return parallelTimeoutPolicy;
+    }
+
+    /**
+     * Get size of response body above which JSON body is validated while being read instead of being parsed first.
+     *
+     * @return Size in bytes, 0 if bodies are always parsed first
+     */
+    public long getStreamingBodyThreshold() {
+        return streamingBodyThreshold;
+    }
+
+    /**
+     * Get how deep interactions are validated when their bodies are not large enough to be validated less.
+     *
+     * @return Validation depth
+     */
+    public ValidationDepth getValidationDepth() {
+        return validationDepth;
+    }
+
+    /**
+     * Get size of request or response body above which bodies are validated not deeper than {@link
+     * ValidationDepth#SHALLOW}.
+     *
+     * @return Size in bytes, 0 if depth does not depend on body size
+     */
+    public long getShallowBodyThreshold() {
+        return shallowBodyThreshold;
+    }
+
+    /**
+     * Get size of request or response body above which bodies are not validated against schema at all, i.e. with
+     * {@link ValidationDepth#PARAMETERS} depth.
+     *
+     * @return Size in bytes, 0 if depth does not depend on body size
+     */
+    public long getParametersOnlyBodyThreshold() {
+        return parametersOnlyBodyThreshold;
+    }
+
+    /**
+     * Get maximum number of validation failures waiting to be logged in background.
+     *
+     * @return Maximum number of waiting failures, 0 if failures are logged before the response is returned
+     */
+    public int getLogQueueSize() {
+        return logQueueSize;
+    }
+
+    /**
+     * Get maximum number of bytes of each request and response body written to log of validation failure.
+     *
+     * @return Number of bytes, 0 if bodies are logged whole
+     */
+    public int getLogBodyLimit() {
+        return logBodyLimit;
+    }
+
+    /**
+     * Get interval within which identical validation failures, i.e. ones of the same stub with the same errors, are
+     * logged only once.
+     *
+     * @return Interval in milliseconds, 0 if all failures are logged
+     */
+    public long getLogRateLimitIntervalMillis() {
+        return logRateLimitIntervalMillis;
+    }
+
+    /**
+     * Check whether validation latency and outcomes are measured and exposed via admin API.
+     *
+     * @return True if metrics are collected
+     */
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    /**
+     * Check whether durations of validation phases are added to response in {@code Server-Timing} header.
+     *
+     * @return True if header is added
+     */
+    public boolean isServerTimingEnabled() {
+        return serverTimingEnabled;
+    }
+
+    /**
+     * Get duration of validation in milliseconds above which durations of its phases are logged.
+     *
+     * @return Threshold in milliseconds, 0 if slow validations are not logged
+     */
+    public long getSlowValidationThresholdMillis() {
+        return slowValidationThresholdMillis;
+    }
+
+    /** How to handle requests while OpenAPI file is not loaded yet. */
+    public enum NotReadyPolicy {
+        /** Wait for OpenAPI file to be loaded, but not longer than configured timeout. */
+        BLOCK,
+        /** Return original response without validation. */
+        PASS_THROUGH,
+        /** Return 503 Service Unavailable response. */
+        UNAVAILABLE;
+
+        static NotReadyPolicy fromString(final String value) {
+            return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /** What to do with validation result. */
+    public enum ValidationMode {
+        /** Validate before the response is sent and replace response with error response if validation fails. */
+        INLINE,
+        /** Send response immediately, validate it in background and only log validation failures. */
+        REPORT_ONLY;
+
+        static ValidationMode fromString(final String value) {
+            return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /** What to do when request validation does not finish in time. */
+    public enum ParallelTimeoutPolicy {
+        /** Fail validation of the request. */
+        FAIL,
+        /** Consider the request valid. */
+        PASS_THROUGH;
+
+        static ParallelTimeoutPolicy fromString(final String value) {
+            return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /** How deep request and response are validated. Depths are ordered from the shallowest to the deepest. */
+    public enum ValidationDepth {
+        /** Validate path, parameters, headers and content type, but not bodies. */
+        PARAMETERS,
+        /** Validate also types of top-level properties of bodies, but nothing nested in them. */
+        SHALLOW,
+        /** Validate bodies against their whole schemas. */
+        FULL;
+
+        static ValidationDepth fromString(final String value) {
+            return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
     /** Builder for extension options. */
     public static final class Builder {
 
@@ -182,6 +708,37 @@ public final class ExtensionOptions {
         private int failureStatusCode = DEFAULT_FAILURE_STATUS_CODE;
         private List<String> ignoredErrors = List.of();
         private String defaultResponseContentType = null;
+        private int validatorCacheSize = DEFAULT_VALIDATOR_CACHE_SIZE;
+        private boolean asyncLoading = false;
+        private NotReadyPolicy notReadyPolicy = NotReadyPolicy.BLOCK;
+        private long notReadyTimeoutMillis = DEFAULT_NOT_READY_TIMEOUT_MILLIS;
+        private String snapshotDirectory = null;
+        private long watchIntervalMillis = 0;
+        private List<OpenApiSpecDefinition> specs = List.of();
+        private int verdictCacheSize = DEFAULT_VERDICT_CACHE_SIZE;
+        private int requestVerdictCacheSize = 0;
+        private long requestVerdictCacheTtlMillis = DEFAULT_REQUEST_VERDICT_CACHE_TTL_MILLIS;
+        private ValidationMode validationMode = ValidationMode.INLINE;
+        private int reportQueueSize = DEFAULT_REPORT_QUEUE_SIZE;
+        private int reportThreads = 1;
+        private double samplingRate = 1.0;
+        private long sheddingLatencyBudgetMillis = 0;
+        private int sheddingConcurrencyBudget = 0;
+        private double sheddingSamplingRate = 0.1;
+        private boolean parallelValidation = false;
+        private int parallelThreads = 0;
+        private long parallelTimeoutMillis = 10_000;
+        private ParallelTimeoutPolicy parallelTimeoutPolicy = ParallelTimeoutPolicy.FAIL;
+        private long streamingBodyThreshold = 0;
+        private ValidationDepth validationDepth = ValidationDepth.FULL;
+        private long shallowBodyThreshold = 0;
+        private long parametersOnlyBodyThreshold = 0;
+        private int logQueueSize = DEFAULT_LOG_QUEUE_SIZE;
+        private int logBodyLimit = 0;
+        private long logRateLimitIntervalMillis = 0;
+        private boolean metricsEnabled = false;
+        private boolean serverTimingEnabled = false;
+        private long slowValidationThresholdMillis = 0;
 
         /** Create new builder with default values. */
         public Builder() {}
@@ -199,6 +756,37 @@ public final class ExtensionOptions {
             failureStatusCode = options.getFailureStatusCode();
             ignoredErrors = options.getIgnoredErrors();
             defaultResponseContentType = options.getDefaultResponseContentType();
+            validatorCacheSize = options.getValidatorCacheSize();
+            asyncLoading = options.isAsyncLoading();
+            notReadyPolicy = options.getNotReadyPolicy();
+            notReadyTimeoutMillis = options.getNotReadyTimeoutMillis();
+            snapshotDirectory = options.getSnapshotDirectory();
+            watchIntervalMillis = options.getWatchIntervalMillis();
+            specs = options.getSpecs();
+            verdictCacheSize = options.getVerdictCacheSize();
+            requestVerdictCacheSize = options.getRequestVerdictCacheSize();
+            requestVerdictCacheTtlMillis = options.getRequestVerdictCacheTtlMillis();
+            validationMode = options.getValidationMode();
+            reportQueueSize = options.getReportQueueSize();
+            reportThreads = options.getReportThreads();
+            samplingRate = options.getSamplingRate();
+            sheddingLatencyBudgetMillis = options.getSheddingLatencyBudgetMillis();
+            sheddingConcurrencyBudget = options.getSheddingConcurrencyBudget();
+            sheddingSamplingRate = options.getSheddingSamplingRate();
+            parallelValidation = options.isParallelValidation();
+            parallelThreads = options.getParallelThreads();
+            parallelTimeoutMillis = options.getParallelTimeoutMillis();
+            parallelTimeoutPolicy = options.getParallelTimeoutPolicy();
+            streamingBodyThreshold = options.getStreamingBodyThreshold();
+            validationDepth = options.getValidationDepth();
+            shallowBodyThreshold = options.getShallowBodyThreshold();
+            parametersOnlyBodyThreshold = options.getParametersOnlyBodyThreshold();
+            logQueueSize = options.getLogQueueSize();
+            logBodyLimit = options.getLogBodyLimit();
+            logRateLimitIntervalMillis = options.getLogRateLimitIntervalMillis();
+            metricsEnabled = options.isMetricsEnabled();
+            serverTimingEnabled = options.isServerTimingEnabled();
+            slowValidationThresholdMillis = options.getSlowValidationThresholdMillis();
         }
 
         /**
@@ -288,12 +876,385 @@ public final class ExtensionOptions {
             return this;
         }
 
+        /**
+         * Set maximum number of validators built for different per-stub settings (like ignored errors) to keep.
+         *
+         * @param validatorCacheSize Maximum number of validators to keep
+         * @return Builder
+         */
+        public Builder withValidatorCacheSize(final int validatorCacheSize) {
+            this.validatorCacheSize = validatorCacheSize;
+            return this;
+        }
+
+        /**
+         * Set whether OpenAPI file should be loaded in background thread, so WireMock can start without waiting for it.
+         *
+         * @param asyncLoading True to load OpenAPI file in background thread
+         * @return Builder
+         */
+        public Builder withAsyncLoading(final boolean asyncLoading) {
+            this.asyncLoading = asyncLoading;
+            return this;
+        }
+
+        /**
+         * Set how requests are handled while OpenAPI file is still being loaded in background.
+         *
+         * @param notReadyPolicy Policy for requests served before OpenAPI file is loaded
+         * @return Builder
+         */
+        public Builder withNotReadyPolicy(final NotReadyPolicy notReadyPolicy) {
+            this.notReadyPolicy = notReadyPolicy;
+            return this;
+        }
+
+        /**
+         * Set maximum time to wait for OpenAPI file to be loaded when policy is {@link NotReadyPolicy#BLOCK}.
+         *
+         * @param notReadyTimeoutMillis Maximum time to wait in milliseconds
+         * @return Builder
+         */
+        public Builder withNotReadyTimeoutMillis(final long notReadyTimeoutMillis) {
+            this.notReadyTimeoutMillis = notReadyTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * Set directory to store snapshots of parsed and resolved OpenAPI files in.
+         *
+         * @param snapshotDirectory Directory to store snapshots in, null to disable snapshots
+         * @return Builder
+         */
+        public Builder withSnapshotDirectory(final String snapshotDirectory) {
+            this.snapshotDirectory = snapshotDirectory;
+            return this;
+        }
+
+        /**
+         * Set how often OpenAPI file should be checked for changes to be reloaded.
+         *
+         * @param watchIntervalMillis Interval between checks in milliseconds, 0 to not watch the file
+         * @return Builder
+         */
+        public Builder withWatchIntervalMillis(final long watchIntervalMillis) {
+            this.watchIntervalMillis = watchIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Set OpenAPI files bound to path prefixes, hosts or stubs.
+         *
+         * @param specs OpenAPI file definitions
+         * @return Builder
+         */
+        public Builder withSpecs(final List<OpenApiSpecDefinition> specs) {
+            this.specs = specs;
+            return this;
+        }
+
+        /**
+         * Get OpenAPI files bound to path prefixes, hosts or stubs.
+         *
+         * @return OpenAPI file definitions
+         */
+        public List<OpenApiSpecDefinition> getSpecs() {
+            return specs;
+        }
+
+        /**
+         * Set maximum number of response validation verdicts remembered for stubs returning the same response.
+         *
+         * @param verdictCacheSize Maximum number of remembered verdicts, 0 to not remember verdicts
+         * @return Builder
+         */
+        public Builder withVerdictCacheSize(final int verdictCacheSize) {
+            this.verdictCacheSize = verdictCacheSize;
+            return this;
+        }
+
+        /**
+         * Set maximum number of request validation verdicts remembered for repeated identical requests.
+         *
+         * @param requestVerdictCacheSize Maximum number of remembered verdicts, 0 to not remember verdicts
+         * @return Builder
+         */
+        public Builder withRequestVerdictCacheSize(final int requestVerdictCacheSize) {
+            this.requestVerdictCacheSize = requestVerdictCacheSize;
+            return this;
+        }
+
+        /**
+         * Set how long request validation verdict is remembered.
+         *
+         * @param requestVerdictCacheTtlMillis Time to remember verdict for in milliseconds
+         * @return Builder
+         */
+        public Builder withRequestVerdictCacheTtlMillis(final long requestVerdictCacheTtlMillis) {
+            this.requestVerdictCacheTtlMillis = requestVerdictCacheTtlMillis;
+            return this;
+        }
+
+        /**
+         * Set whether validation result replaces response or is only reported.
+         *
+         * @param validationMode Validation mode
+         * @return Builder
+         */
+        public Builder withValidationMode(final ValidationMode validationMode) {
+            this.validationMode = requireNonNull(validationMode);
+            return this;
+        }
+
+        /**
+         * Set maximum number of interactions waiting for validation in report-only mode. Interactions that do not fit
+         * are not validated.
+         *
+         * @param reportQueueSize Maximum number of waiting interactions
+         * @return Builder
+         */
+        public Builder withReportQueueSize(final int reportQueueSize) {
+            this.reportQueueSize = reportQueueSize;
+            return this;
+        }
+
+        /**
+         * Set number of threads validating interactions in report-only mode.
+         *
+         * @param reportThreads Number of threads
+         * @return Builder
+         */
+        public Builder withReportThreads(final int reportThreads) {
+            this.reportThreads = reportThreads;
+            return this;
+        }
+
+        /**
+         * Set share of interactions that are validated.
+         *
+         * @param samplingRate Share of validated interactions from 0 (none) to 1 (all)
+         * @return Builder
+         */
+        public Builder withSamplingRate(final double samplingRate) {
+            this.samplingRate = samplingRate;
+            return this;
+        }
+
+        /**
+         * Set p99 validation duration above which validation is degraded.
+         *
+         * @param sheddingLatencyBudgetMillis Duration in milliseconds, 0 to not degrade validation because of duration
+         * @return Builder
+         */
+        public Builder withSheddingLatencyBudgetMillis(final long sheddingLatencyBudgetMillis) {
+            this.sheddingLatencyBudgetMillis = sheddingLatencyBudgetMillis;
+            return this;
+        }
+
+        /**
+         * Set number of validations in flight above which validation is degraded.
+         *
+         * @param sheddingConcurrencyBudget Number of validations, 0 to not degrade validation because of number of
+         *     validations
+         * @return Builder
+         */
+        public Builder withSheddingConcurrencyBudget(final int sheddingConcurrencyBudget) {
+            this.sheddingConcurrencyBudget = sheddingConcurrencyBudget;
+            return this;
+        }
+
+        /**
+         * Set share of interactions that are validated when validation is degraded to sampling.
+         *
+         * @param sheddingSamplingRate Share of validated interactions from 0 (none) to 1 (all)
+         * @return Builder
+         */
+        public Builder withSheddingSamplingRate(final double sheddingSamplingRate) {
+            this.sheddingSamplingRate = sheddingSamplingRate;
+            return this;
+        }
+
+        /**
+         * Set whether request and response are validated at the same time on separate threads.
+         *
+         * @param parallelValidation True to validate request and response at the same time
+         * @return Builder
+         */
+        public Builder withParallelValidation(final boolean parallelValidation) {
+            this.parallelValidation = parallelValidation;
+            return this;
+        }
+
+        /**
+         * Set number of threads validating requests when request and response are validated at the same time.
+         *
+         * @param parallelThreads Number of threads, 0 to use virtual threads where available and number of processors
+         *     otherwise
+         * @return Builder
+         */
+        public Builder withParallelThreads(final int parallelThreads) {
+            this.parallelThreads = parallelThreads;
+            return this;
+        }
+
+        /**
+         * Set maximum time to wait for request validation when request and response are validated at the same time.
+         *
+         * @param parallelTimeoutMillis Timeout in milliseconds, 0 to wait without limit
+         * @return Builder
+         */
+        public Builder withParallelTimeoutMillis(final long parallelTimeoutMillis) {
+            this.parallelTimeoutMillis = parallelTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * Set how interaction is handled when request validation does not finish in time.
+         *
+         * @param parallelTimeoutPolicy Timeout policy
+         * @return Builder
+         */
+        public Builder withParallelTimeoutPolicy(final ParallelTimeoutPolicy parallelTimeoutPolicy) {
+            this.parallelTimeoutPolicy = requireNonNull(parallelTimeoutPolicy);
+            return this;
+        }
+
+        /**
+         * Set size of response body above which JSON body is validated while being read instead of being parsed first.
+         *
+         * @param streamingBodyThreshold Size in bytes, 0 to always parse bodies first
+         * @return Builder
+         */
+        public Builder withStreamingBodyThreshold(final long streamingBodyThreshold) {
+            this.streamingBodyThreshold = streamingBodyThreshold;
+            return this;
+        }
+
+        /**
+         * Set how deep interactions are validated when their bodies are not large enough to be validated less.
+         *
+         * @param validationDepth Validation depth
+         * @return Builder
+         */
+        public Builder withValidationDepth(final ValidationDepth validationDepth) {
+            this.validationDepth = requireNonNull(validationDepth);
+            return this;
+        }
+
+        /**
+         * Set size of request or response body above which bodies are validated not deeper than {@link
+         * ValidationDepth#SHALLOW}.
+         *
+         * @param shallowBodyThreshold Size in bytes, 0 to not depend on body size
+         * @return Builder
+         */
+        public Builder withShallowBodyThreshold(final long shallowBodyThreshold) {
+            this.shallowBodyThreshold = shallowBodyThreshold;
+            return this;
+        }
+
+        /**
+         * Set size of request or response body above which bodies are not validated against schema at all.
+         *
+         * @param parametersOnlyBodyThreshold Size in bytes, 0 to not depend on body size
+         * @return Builder
+         */
+        public Builder withParametersOnlyBodyThreshold(final long parametersOnlyBodyThreshold) {
+            this.parametersOnlyBodyThreshold = parametersOnlyBodyThreshold;
+            return this;
+        }
+
+        /**
+         * Set maximum number of validation failures waiting to be logged in background. Failures that do not fit are
+         * not logged.
+         *
+         * @param logQueueSize Maximum number of waiting failures, 0 to log failures before the response is returned
+         * @return Builder
+         */
+        public Builder withLogQueueSize(final int logQueueSize) {
+            this.logQueueSize = logQueueSize;
+            return this;
+        }
+
+        /**
+         * Set maximum number of bytes of each request and response body written to log of validation failure.
+         *
+         * @param logBodyLimit Number of bytes, 0 to log whole bodies
+         * @return Builder
+         */
+        public Builder withLogBodyLimit(final int logBodyLimit) {
+            this.logBodyLimit = logBodyLimit;
+            return this;
+        }
+
+        /**
+         * Set interval within which identical validation failures, i.e. ones of the same stub with the same errors, are
+         * logged only once. The rest are counted and summarized.
+         *
+         * @param logRateLimitIntervalMillis Interval in milliseconds, 0 to log all failures
+         * @return Builder
+         */
+        public Builder withLogRateLimitIntervalMillis(final long logRateLimitIntervalMillis) {
+            this.logRateLimitIntervalMillis = logRateLimitIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Set whether validation latency and outcomes are measured and exposed via admin API.
+         *
+         * @param metricsEnabled True to collect metrics
+         * @return Builder
+         */
+        public Builder withMetricsEnabled(final boolean metricsEnabled) {
+            this.metricsEnabled = metricsEnabled;
+            return this;
+        }
+
+        /**
+         * Set whether durations of validation phases are added to response in {@code Server-Timing} header.
+         *
+         * @param serverTimingEnabled True to add header
+         * @return Builder
+         */
+        public Builder withServerTimingEnabled(final boolean serverTimingEnabled) {
+            this.serverTimingEnabled = serverTimingEnabled;
+            return this;
+        }
+
+        /**
+         * Set duration of validation in milliseconds above which durations of its phases are logged.
+         *
+         * @param slowValidationThresholdMillis Threshold in milliseconds, 0 to not log slow validations
+         * @return Builder
+         */
+        public Builder withSlowValidationThresholdMillis(final long slowValidationThresholdMillis) {
+            this.slowValidationThresholdMillis = slowValidationThresholdMillis;
+            return this;
+        }
+
         /**
          * Build extension options with values from the builder.
          *
          * @return Extension options
          */
         public ExtensionOptions build() {
+            checkRanges();
+
+            return create();
+        }
+
+        /**
+         * Build options merged with stub transformer parameters, see
+         * {@link #mergeWith(ValidationTransformerParameters)}. Ranges are not checked again: global options have been
+         * checked when they were built, and stub parameters when they were read from the stub.
+         *
+         * @return Extension options
+         */
+        ExtensionOptions buildMerged() {
+            return create();
+        }
+
+        private ExtensionOptions create() {
             return new ExtensionOptions(
                     shouldPrintConfiguration,
                     openapiFilePath,
@@ -301,12 +1262,91 @@ public final class ExtensionOptions {
                     validatorName,
                     failureStatusCode,
                     ImmutableList.copyOf(ignoredErrors),
-                    defaultResponseContentType);
+                    defaultResponseContentType,
+                    validatorCacheSize,
+                    asyncLoading,
+                    notReadyPolicy,
+                    notReadyTimeoutMillis,
+                    snapshotDirectory,
+                    watchIntervalMillis,
+                    ImmutableList.copyOf(specs),
+                    verdictCacheSize,
+                    requestVerdictCacheSize,
+                    requestVerdictCacheTtlMillis,
+                    validationMode,
+                    reportQueueSize,
+                    reportThreads,
+                    samplingRate,
+                    sheddingLatencyBudgetMillis,
+                    sheddingConcurrencyBudget,
+                    sheddingSamplingRate,
+                    parallelValidation,
+                    parallelThreads,
+                    parallelTimeoutMillis,
+                    parallelTimeoutPolicy,
+                    streamingBodyThreshold,
+                    validationDepth,
+                    shallowBodyThreshold,
+                    parametersOnlyBodyThreshold,
+                    logQueueSize,
+                    logBodyLimit,
+                    logRateLimitIntervalMillis,
+                    metricsEnabled,
+                    serverTimingEnabled,
+                    slowValidationThresholdMillis);
+        }
+
+        private void checkRanges() {
+            checkNotNegative(ValidationParameter.VALIDATOR_CACHE_SIZE, validatorCacheSize);
+            checkNotNegative(ValidationParameter.NOT_READY_TIMEOUT, notReadyTimeoutMillis);
+            checkNotNegative(ValidationParameter.WATCH_INTERVAL, watchIntervalMillis);
+            checkNotNegative(ValidationParameter.VERDICT_CACHE_SIZE, verdictCacheSize);
+            checkNotNegative(ValidationParameter.REQUEST_VERDICT_CACHE_SIZE, requestVerdictCacheSize);
+            checkNotNegative(ValidationParameter.REQUEST_VERDICT_CACHE_TTL, requestVerdictCacheTtlMillis);
+            checkPositive(ValidationParameter.REPORT_QUEUE_SIZE, reportQueueSize);
+            checkPositive(ValidationParameter.REPORT_THREADS, reportThreads);
+            checkRate(ValidationParameter.SAMPLING_RATE, samplingRate);
+            checkNotNegative(ValidationParameter.SHEDDING_LATENCY_BUDGET, sheddingLatencyBudgetMillis);
+            checkNotNegative(ValidationParameter.SHEDDING_CONCURRENCY_BUDGET, sheddingConcurrencyBudget);
+            checkRate(ValidationParameter.SHEDDING_SAMPLING_RATE, sheddingSamplingRate);
+            // 0 threads means that the number of threads is chosen automatically.
+            checkNotNegative(ValidationParameter.PARALLEL_THREADS, parallelThreads);
+            checkNotNegative(ValidationParameter.PARALLEL_TIMEOUT, parallelTimeoutMillis);
+            checkNotNegative(ValidationParameter.STREAMING_BODY_THRESHOLD, streamingBodyThreshold);
+            checkNotNegative(ValidationParameter.SHALLOW_BODY_THRESHOLD, shallowBodyThreshold);
+            checkNotNegative(ValidationParameter.PARAMETERS_ONLY_BODY_THRESHOLD, parametersOnlyBodyThreshold);
+            checkPositive(ValidationParameter.LOG_QUEUE_SIZE, logQueueSize);
+            checkNotNegative(ValidationParameter.LOG_BODY_LIMIT, logBodyLimit);
+            checkNotNegative(ValidationParameter.LOG_RATE_LIMIT_INTERVAL, logRateLimitIntervalMillis);
+            checkNotNegative(ValidationParameter.SLOW_VALIDATION_THRESHOLD, slowValidationThresholdMillis);
+        }
+
+        private static void checkNotNegative(final ValidationParameter parameter, final long value) {
+            if (value < 0) {
+                throw new IllegalArgumentException(
+                        String.format("%s must not be negative, got %d", parameter.systemPropertyName(), value));
+            }
+        }
+
+        private static void checkPositive(final ValidationParameter parameter, final long value) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(
+                        String.format("%s must be positive, got %d", parameter.systemPropertyName(), value));
+            }
+        }
+
+        private static void checkRate(final ValidationParameter parameter, final double value) {
+            if (!(value >= 0 && value <= 1)) {
+                throw new IllegalArgumentException(
+                        String.format("%s must be from 0 to 1, got %s", parameter.systemPropertyName(), value));
+            }
         }
 
         Builder mergeWith(final ValidationTransformerParameters parameters) {
             mergeFailureStatusCode(parameters);
             mergeIgnoredErrors(parameters);
+            Optional.ofNullable(parameters.getSamplingRate()).ifPresent(this::withSamplingRate);
+            Optional.ofNullable(parameters.getValidationDepth()).ifPresent(this::withValidationDepth);
 
             return this;
         }
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+
+import com.github.tomakehurst.wiremock.common.Notifier;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.google.common.collect.ImmutableSortedSet;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logs validation failures. Failures are formatted and written on a background thread, so logging does not add to
+ * response latency. Failures that do not fit into the bounded queue are dropped and counted.
+ *
+ * <p>Identical failures, i.e. ones of the same stub with the same error keys, can be rate-limited: only the first one
+ * within interval is logged, the rest are counted and summarized when the interval is over.
+ *
+ * <p>Slow validations are logged the same way, but they are not rate-limited.
+ */
+final class FailureLogger {
+
+    private static final long STOP_TIMEOUT_MILLIS = 5_000;
+
+    private final int queueSize;
+    private final int bodyLimit;
+    private final long rateLimitIntervalNanos;
+    /** Writes log entries in background, null if they are written on calling thread. */
+    private final ThreadPoolExecutor executor;
+    /** Current rate limiting windows of failures logged recently. */
+    private final Map<FailureKey, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder loggedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder suppressedCount = new LongAdder();
+    private final LongAdder slowCount = new LongAdder();
+
+    /**
+     * @param queueSize Maximum number of failures waiting to be logged, 0 to log on calling thread
+     * @param bodyLimit Maximum number of bytes of each body to log, 0 to log whole bodies
+     * @param rateLimitIntervalMillis Interval in which identical failures are logged only once, 0 to log all failures
+     */
+    FailureLogger(final int queueSize, final int bodyLimit, final long rateLimitIntervalMillis) {
+        this.queueSize = queueSize;
+        this.bodyLimit = bodyLimit;
+        this.rateLimitIntervalNanos = TimeUnit.MILLISECONDS.toNanos(rateLimitIntervalMillis);
+        this.executor = queueSize > 0
+                ? new ThreadPoolExecutor(
+                        1,
+                        1,
+                        0,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueSize),
+                        runnable -> {
+                            final Thread thread = new Thread(runnable, "openapi-validation-log");
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        (task, pool) -> droppedCount.increment())
+                : null;
+    }
+
+    /**
+     * Log validation failure. Nothing is formatted on calling thread.
+     *
+     * @param stubId Id of stub that has served the request
+     * @param request Request
+     * @param response Original response
+     * @param errorResponse Response describing validation errors
+     * @param errorKeys Keys of validation errors, used to find identical failures
+     */
+    void log(
+            final UUID stubId,
+            final LoggedRequest request,
+            final Response response,
+            final Response errorResponse,
+            final Collection<String> errorKeys) {
+        long previouslySuppressed = 0;
+        final FailureKey key = rateLimitIntervalNanos > 0 ? new FailureKey(stubId, errorKeys) : null;
+        if (key != null) {
+            final long now = System.nanoTime();
+            final Window window = windows.get(key);
+            if (window != null && !window.isOverAt(now, rateLimitIntervalNanos)) {
+                window.suppressedCount.increment();
+                suppressedCount.increment();
+                return;
+            }
+
+            // Only the thread that has started new window logs the failure.
+            final Window newWindow = new Window(now);
+            final boolean started = window == null
+                    ? windows.putIfAbsent(key, newWindow) == null
+                    : windows.replace(key, window, newWindow);
+            if (!started) {
+                suppressedCount.increment();
+                return;
+            }
+            previouslySuppressed = window != null ? window.suppressedCount.sum() : 0;
+        }
+
+        final Notifier notifier = notifier();
+        final long suppressed = previouslySuppressed;
+        final Runnable entry = () -> {
+            flushOverWindows(notifier);
+            if (suppressed > 0) {
+                notifier.error(buildSummary(key, suppressed));
+            }
+            notifier.error(format(request, response, errorResponse));
+            loggedCount.increment();
+        };
+        if (executor != null) {
+            executor.execute(entry);
+        } else {
+            entry.run();
+        }
+    }
+
+    /**
+     * Log validation that has taken longer than expected. Nothing is formatted on calling thread.
+     *
+     * @param stubId Id of stub that has served the request
+     * @param request Request
+     * @param timer Durations of validation phases
+     * @param totalNanos Duration of the whole validation
+     */
+    void logSlowValidation(
+            final UUID stubId, final LoggedRequest request, final PhaseTimer timer, final long totalNanos) {
+        slowCount.increment();
+        final Notifier notifier = notifier();
+        final Runnable entry = () -> notifier.info(String.format(
+                "OpenAPI validation took %d ms: stub %s, %s %s, phases %s",
+                TimeUnit.NANOSECONDS.toMillis(totalNanos),
+                stubId,
+                request.getMethod(),
+                request.getUrl(),
+                timer.toServerTiming("", totalNanos)));
+        if (executor != null) {
+            executor.execute(entry);
+        } else {
+            entry.run();
+        }
+    }
+
+    /** Stop accepting new failures, wait for queued ones to be logged and log summaries of suppressed failures. */
+    void stop() {
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (final InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        windows.forEach((key, window) -> {
+            if (windows.remove(key, window) && window.suppressedCount.sum() > 0) {
+                notifier().error(buildSummary(key, window.suppressedCount.sum()));
+            }
+        });
+    }
+
+    Map<String, Object> buildStatus() {
+        final Map<String, Object> status = new LinkedHashMap<>();
+        status.put("queueDepth", executor != null ? executor.getQueue().size() : 0);
+        status.put("queueSize", queueSize);
+        status.put("loggedCount", loggedCount.sum());
+        status.put("droppedCount", droppedCount.sum());
+        status.put("suppressedCount", suppressedCount.sum());
+        status.put("slowCount", slowCount.sum());
+        return status;
+    }
+
+    /** Log summaries of windows that are over and forget them, so windows of failures not repeated do not pile up. */
+    private void flushOverWindows(final Notifier notifier) {
+        if (windows.isEmpty()) {
+            return;
+        }
+
+        final long now = System.nanoTime();
+        windows.forEach((key, window) -> {
+            if (window.isOverAt(now, rateLimitIntervalNanos) && windows.remove(key, window)) {
+                final long suppressed = window.suppressedCount.sum();
+                if (suppressed > 0) {
+                    notifier.error(buildSummary(key, suppressed));
+                }
+            }
+        });
+    }
+
+    private String buildSummary(final FailureKey key, final long suppressed) {
+        return String.format(
+                "OpenAPI validation error repeated %d more times within %d ms and was not logged: stub %s, errors %s",
+                suppressed, TimeUnit.NANOSECONDS.toMillis(rateLimitIntervalNanos), key.stubId, key.errorKeys);
+    }
+
+    private String format(final LoggedRequest request, final Response response, final Response errorResponse) {
+        return String.format(
+                "OpenAPI validation error\n\n** Request **:\n%s\n\n** Response **:\n%s\n\n"
+                        + "** Validation response **:\n%s",
+                prettifyForOutput(request), prettifyForOutput(response), prettifyForOutput(errorResponse));
+    }
+
+    private String prettifyForOutput(final LoggedRequest request) {
+        return String.format(
+                "%s %s\n\n%s\n%s",
+                request.getMethod(), request.getUrl(), request.getHeaders(), truncate(request.getBody()));
+    }
+
+    private String prettifyForOutput(final Response response) {
+        return String.format(
+                "HTTP/1.1 %d\n\n%s\n%s", response.getStatus(), response.getHeaders(), readBody(response));
+    }
+
+    private String truncate(final byte[] body) {
+        if (body == null) {
+            return "";
+        }
+        if (bodyLimit <= 0 || body.length <= bodyLimit) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+
+        return new String(body, 0, bodyLimit, StandardCharsets.UTF_8)
+                + String.format("\n... (%d of %d bytes shown)", bodyLimit, body.length);
+    }
+
+    /** Read response body, but not more than the limit, so big bodies are not read into memory. */
+    private String readBody(final Response response) {
+        if (bodyLimit <= 0) {
+            return response.getBodyAsString();
+        }
+
+        try (InputStream body = response.getBodyStream()) {
+            if (body == null) {
+                return "";
+            }
+            final byte[] head = body.readNBytes(bodyLimit);
+            return body.read() == -1
+                    ? new String(head, StandardCharsets.UTF_8)
+                    : new String(head, StandardCharsets.UTF_8)
+                            + String.format("\n... (first %d bytes shown)", bodyLimit);
+        } catch (final IOException e) {
+            return "<cannot read body: " + e + ">";
+        }
+    }
+
+    private static final class Window {
+
+        private final long startNanos;
+        private final LongAdder suppressedCount = new LongAdder();
+
+        private Window(final long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        private boolean isOverAt(final long nanos, final long intervalNanos) {
+            return nanos - startNanos >= intervalNanos;
+        }
+    }
+
+    private static final class FailureKey {
+
+        private final UUID stubId;
+        private final ImmutableSortedSet<String> errorKeys;
+
+        private FailureKey(final UUID stubId, final Collection<String> errorKeys) {
+            this.stubId = stubId;
+            this.errorKeys = ImmutableSortedSet.copyOf(errorKeys);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            final FailureKey that = (FailureKey) o;
+            return Objects.equals(stubId, that.stubId) && errorKeys.equals(that.errorKeys);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(stubId, errorKeys);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static java.util.Objects.requireNonNull;
+
+/** Result of validating request and response of a single interaction. */
+final class InteractionValidationResult {
+
+    private final ValidationResult requestResult;
+    private final ValidationResult responseResult;
+
+    InteractionValidationResult(final ValidationResult requestResult, final ValidationResult responseResult) {
+        this.requestResult = requireNonNull(requestResult);
+        this.responseResult = requireNonNull(responseResult);
+    }
+
+    public boolean hasErrors() {
+        return requestResult.hasErrors() || responseResult.hasErrors();
+    }
+
+    public ValidationResult getRequestResult() {
+        return requestResult;
+    }
+
+    public ValidationResult getResponseResult() {
+        return responseResult;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Degrades validation when it gets too slow or too many validations run at once, and restores it when load drops.
+ *
+ * <p>Duration of validations and number of validations in flight are tracked continuously. Once per evaluation interval
+ * p99 duration and peak number of validations in flight are compared to budgets. If any budget is exceeded, validation
+ * is degraded by one level, if both are well within budgets (at most half), validation is restored by one level.
+ */
+final class LoadShedder {
+
+    static final long DEFAULT_EVALUATION_INTERVAL_MILLIS = 1_000;
+
+    /** Number of durations kept per evaluation interval, durations above that overwrite the oldest ones. */
+    private static final int DURATION_SAMPLES = 1024;
+
+    private final long latencyBudgetNanos;
+    private final int concurrencyBudget;
+    private final double sheddingSamplingRate;
+    private final long evaluationIntervalNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicLongArray durations = new AtomicLongArray(DURATION_SAMPLES);
+    private final AtomicLong durationCount = new AtomicLong();
+    private final AtomicBoolean evaluating = new AtomicBoolean();
+    private final AtomicLong lastEvaluationNanos;
+    private volatile Level level = Level.NONE;
+    private volatile long lastP99Nanos;
+    private volatile String lastEvent;
+
+    private final LongAdder degradationCount = new LongAdder();
+    private final LongAdder recoveryCount = new LongAdder();
+    private final LongAdder passedThroughCount = new LongAdder();
+
+    LoadShedder(final long latencyBudgetMillis, final int concurrencyBudget, final double sheddingSamplingRate) {
+        this(
+                latencyBudgetMillis,
+                concurrencyBudget,
+                sheddingSamplingRate,
+                DEFAULT_EVALUATION_INTERVAL_MILLIS,
+                System::nanoTime);
+    }
+
+    LoadShedder(
+            final long latencyBudgetMillis,
+            final int concurrencyBudget,
+            final double sheddingSamplingRate,
+            final long evaluationIntervalMillis,
+            final LongSupplier nanoClock) {
+        this.latencyBudgetNanos = TimeUnit.MILLISECONDS.toNanos(latencyBudgetMillis);
+        this.concurrencyBudget = concurrencyBudget;
+        this.sheddingSamplingRate = sheddingSamplingRate;
+        this.evaluationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(evaluationIntervalMillis);
+        this.nanoClock = nanoClock;
+        this.lastEvaluationNanos = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    double getSheddingSamplingRate() {
+        return sheddingSamplingRate;
+    }
+
+    /**
+     * Get current level of degradation, re-evaluating it if evaluation interval has passed.
+     *
+     * @return Current level
+     */
+    Level getLevel() {
+        final long now = nanoClock.getAsLong();
+        if (now - lastEvaluationNanos.get() >= evaluationIntervalNanos && evaluating.compareAndSet(false, true)) {
+            try {
+                lastEvaluationNanos.set(now);
+                evaluate();
+            } finally {
+                evaluating.set(false);
+            }
+        }
+
+        final Level current = level;
+        if (current == Level.PASS_THROUGH) {
+            passedThroughCount.increment();
+        }
+        return current;
+    }
+
+    /**
+     * Mark start of validation.
+     *
+     * @return Start time to pass to {@link #exit(long)}
+     */
+    long enter() {
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        return nanoClock.getAsLong();
+    }
+
+    /**
+     * Mark end of validation.
+     *
+     * @param startNanos Start time returned by {@link #enter()}
+     */
+    void exit(final long startNanos) {
+        inFlight.decrementAndGet();
+        final long index = durationCount.getAndIncrement();
+        durations.set((int) (index % DURATION_SAMPLES), nanoClock.getAsLong() - startNanos);
+    }
+
+    private void evaluate() {
+        final int count = (int) Math.min(durationCount.getAndSet(0), DURATION_SAMPLES);
+        final long[] samples = new long[count];
+        for (int i = 0; i < count; i++) {
+            samples[i] = durations.get(i);
+        }
+        Arrays.sort(samples);
+        final long p99Nanos = count == 0 ? 0 : samples[(int) Math.ceil(count * 0.99) - 1];
+        final int peak = peakInFlight.getAndSet(inFlight.get());
+        lastP99Nanos = p99Nanos;
+
+        final boolean overLatency = latencyBudgetNanos > 0 && p99Nanos > latencyBudgetNanos;
+        final boolean overConcurrency = concurrencyBudget > 0 && peak > concurrencyBudget;
+        final boolean underLatency = latencyBudgetNanos <= 0 || p99Nanos <= latencyBudgetNanos / 2;
+        final boolean underConcurrency = concurrencyBudget <= 0 || peak <= concurrencyBudget / 2;
+
+        final Level current = level;
+        if ((overLatency || overConcurrency) && current != Level.PASS_THROUGH) {
+            changeLevel(current, Level.values()[current.ordinal() + 1], p99Nanos, peak);
+            degradationCount.increment();
+        } else if (underLatency && underConcurrency && current != Level.NONE) {
+            changeLevel(current, Level.values()[current.ordinal() - 1], p99Nanos, peak);
+            recoveryCount.increment();
+        }
+    }
+
+    private void changeLevel(final Level from, final Level to, final long p99Nanos, final int peak) {
+        level = to;
+        lastEvent = String.format(
+                "%s -> %s (p99 %d ms, peak in flight %d)", from, to, TimeUnit.NANOSECONDS.toMillis(p99Nanos), peak);
+        notifier().info("OpenAPI validation load shedding: " + lastEvent);
+    }
+
+    Map<String, Object> buildStatus() {
+        final Map<String, Object> status = new LinkedHashMap<>();
+        status.put("level", level.name());
+        status.put("latencyBudgetMillis", TimeUnit.NANOSECONDS.toMillis(latencyBudgetNanos));
+        status.put("concurrencyBudget", concurrencyBudget);
+        status.put("degradationCount", degradationCount.sum());
+        status.put("recoveryCount", recoveryCount.sum());
+        status.put("passedThroughCount", passedThroughCount.sum());
+        status.put("lastP99Millis", TimeUnit.NANOSECONDS.toMillis(lastP99Nanos));
+        status.put("inFlight", inFlight.get());
+        status.put("lastEvent", lastEvent);
+        return status;
+    }
+
+    /** Levels of degradation, from full validation to no validation at all. */
+    enum Level {
+        /** Interactions are validated fully. */
+        NONE,
+        /** Response body is not validated against its schema. */
+        SKIP_RESPONSE_BODY,
+        /** Only a share of interactions is validated, without validating response body against its schema. */
+        SAMPLE,
+        /** Interactions are not validated. */
+        PASS_THROUGH,
+    }
+}
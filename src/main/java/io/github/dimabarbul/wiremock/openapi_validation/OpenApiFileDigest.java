@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Digest of OpenAPI file content including all local files it references. References are found by simple text search,
+ * which is enough to notice changes without parsing the files.
+ */
+final class OpenApiFileDigest {
+
+    private static final Pattern REF_PATTERN = Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\"'\\s,}#]*)");
+    private static final Pattern URL_SCHEME_PATTERN = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+.-]+:");
+    private static final String FILE_SCHEME = "file:";
+
+    private OpenApiFileDigest() {}
+
+    /**
+     * Calculate digest of OpenAPI file and all local files it references.
+     *
+     * @param openapiFilePath OpenAPI file path
+     * @return Digest, empty if the file or any of its references is not a local file or cannot be read
+     */
+    static Optional<HashCode> of(final String openapiFilePath) {
+        final Optional<Path> rootFile = toLocalFile(openapiFilePath);
+        if (rootFile.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final Hasher hasher = Hashing.sha256().newHasher();
+        final Set<Path> visited = new HashSet<>();
+        final Deque<Path> queue = new ArrayDeque<>();
+        queue.add(rootFile.get());
+        while (!queue.isEmpty()) {
+            final Path file = queue.poll();
+            if (!visited.add(file)) {
+                continue;
+            }
+
+            final byte[] content;
+            try {
+                content = Files.readAllBytes(file);
+            } catch (final IOException e) {
+                return Optional.empty();
+            }
+
+            hasher.putString(rootFile.get().relativize(file).toString(), StandardCharsets.UTF_8)
+                    .putInt(content.length)
+                    .putBytes(content);
+
+            final Matcher matcher = REF_PATTERN.matcher(new String(content, StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                final String reference = matcher.group(1);
+                if (reference.isEmpty()) {
+                    continue;
+                }
+                if (URL_SCHEME_PATTERN.matcher(reference).find()) {
+                    // Remote references can change without us noticing.
+                    return Optional.empty();
+                }
+                queue.add(file.resolveSibling(reference).normalize());
+            }
+        }
+
+        return Optional.of(hasher.hash());
+    }
+
+    private static Optional<Path> toLocalFile(final String openapiFilePath) {
+        final boolean isFileUrl = openapiFilePath.startsWith(FILE_SCHEME);
+        if (!isFileUrl && URL_SCHEME_PATTERN.matcher(openapiFilePath).find()) {
+            return Optional.empty();
+        }
+
+        try {
+            final Path path = isFileUrl ? Paths.get(URI.create(openapiFilePath)) : Paths.get(openapiFilePath);
+            return Files.isRegularFile(path) ? Optional.of(path.toAbsolutePath().normalize()) : Optional.empty();
+        } catch (final IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+
+import com.google.common.hash.HashCode;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically checks whether OpenAPI file or any local file it references has changed and notifies about it. Polling
+ * is used instead of file system events, because the events are not delivered reliably for files mounted into
+ * containers.
+ */
+final class OpenApiFileWatcher {
+
+    private final String openapiFilePath;
+    private final long intervalMillis;
+    private final Runnable onChange;
+    private ScheduledExecutorService executor;
+    private Optional<HashCode> lastDigest = Optional.empty();
+
+    OpenApiFileWatcher(final String openapiFilePath, final long intervalMillis, final Runnable onChange) {
+        this.openapiFilePath = openapiFilePath;
+        this.intervalMillis = intervalMillis;
+        this.onChange = onChange;
+    }
+
+    synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+
+        lastDigest = OpenApiFileDigest.of(openapiFilePath);
+        if (lastDigest.isEmpty()) {
+            notifier().info("OpenAPI file " + openapiFilePath + " is not a local file, changes will not be watched");
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "openapi-validation-watcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::check, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Check whether OpenAPI files have changed since the previous check and notify about it.
+     *
+     * @return True if change has been detected
+     */
+    synchronized boolean check() {
+        try {
+            final Optional<HashCode> digest = OpenApiFileDigest.of(openapiFilePath);
+            // Files that cannot be read right now are most likely being written, so wait for the next check.
+            if (digest.isEmpty() || digest.equals(lastDigest)) {
+                return false;
+            }
+
+            lastDigest = digest;
+            notifier().info("OpenAPI file " + openapiFilePath + " has changed, reloading");
+            onChange.run();
+            return true;
+        } catch (final RuntimeException e) {
+            notifier().error("Failed to check OpenAPI file " + openapiFilePath + " for changes", e);
+            return false;
+        }
+    }
+}
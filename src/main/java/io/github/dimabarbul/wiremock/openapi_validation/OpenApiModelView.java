@@ -0,0 +1,278 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Views of OpenAPI model that validate less. A view shares everything with the original model except the parts it
+ * changes, so building a view is cheap and the original model is never modified.
+ */
+final class OpenApiModelView {
+
+    private static final String COMPONENT_SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+    private OpenApiModelView() {}
+
+    /**
+     * Build view in which responses have no body schemas. Validator still checks presence and content type of response
+     * body, but skips validating the body against schema.
+     *
+     * @param api Model to build view of
+     * @return View of the model
+     */
+    static OpenAPI withoutResponseBodySchemas(final OpenAPI api) {
+        return withOperations(api, operation -> {
+            final Operation copy = copy(operation);
+            copy.setResponses(withoutSchemas(operation.getResponses()));
+            return copy;
+        });
+    }
+
+    /**
+     * Build view in which neither requests nor responses have body schemas. Validator still checks presence and content
+     * type of bodies, but skips validating them against schema.
+     *
+     * @param api Model to build view of
+     * @return View of the model
+     */
+    static OpenAPI withoutBodySchemas(final OpenAPI api) {
+        return withOperations(api, operation -> {
+            final Operation copy = copy(operation);
+            copy.setRequestBody(withContent(operation.getRequestBody(), OpenApiModelView::withoutSchemas));
+            copy.setResponses(withoutSchemas(operation.getResponses()));
+            return copy;
+        });
+    }
+
+    /**
+     * Build view in which request and response body schemas are cut after the top level. Top-level schema keeps its
+     * type, required properties and properties, but each property, array item or additional property keeps only its
+     * type, so nothing nested in the body is validated. Top-level schema composed of other schemas keeps only its type.
+     *
+     * @param api Model to build view of
+     * @return View of the model
+     */
+    static OpenAPI withShallowBodySchemas(final OpenAPI api) {
+        // Values are schemas, the map is not typed as components hold them as raw type.
+        final Map<String, ?> componentSchemas = api.getComponents() != null
+                        && api.getComponents().getSchemas() != null
+                ? api.getComponents().getSchemas()
+                : Map.of();
+        final UnaryOperator<Content> shallow = content -> withShallowSchemas(content, componentSchemas);
+        return withOperations(api, operation -> {
+            final Operation copy = copy(operation);
+            copy.setRequestBody(withContent(operation.getRequestBody(), shallow));
+            copy.setResponses(withContent(operation.getResponses(), shallow));
+            return copy;
+        });
+    }
+
+    private static OpenAPI withOperations(final OpenAPI api, final UnaryOperator<Operation> operationMapper) {
+        final OpenAPI view = new OpenAPI(api.getSpecVersion());
+        view.setOpenapi(api.getOpenapi());
+        view.setInfo(api.getInfo());
+        view.setExternalDocs(api.getExternalDocs());
+        view.setServers(api.getServers());
+        view.setSecurity(api.getSecurity());
+        view.setTags(api.getTags());
+        view.setComponents(api.getComponents());
+        view.setExtensions(api.getExtensions());
+        view.setJsonSchemaDialect(api.getJsonSchemaDialect());
+        view.setWebhooks(api.getWebhooks());
+
+        if (api.getPaths() != null) {
+            final Paths paths = new Paths();
+            paths.setExtensions(api.getPaths().getExtensions());
+            for (final Map.Entry<String, PathItem> path : api.getPaths().entrySet()) {
+                paths.addPathItem(path.getKey(), withOperations(path.getValue(), operationMapper));
+            }
+            view.setPaths(paths);
+        }
+
+        return view;
+    }
+
+    private static PathItem withOperations(final PathItem pathItem, final UnaryOperator<Operation> operationMapper) {
+        final PathItem view = new PathItem();
+        view.setSummary(pathItem.getSummary());
+        view.setDescription(pathItem.getDescription());
+        view.setServers(pathItem.getServers());
+        view.setParameters(pathItem.getParameters());
+        view.set$ref(pathItem.get$ref());
+        view.setExtensions(pathItem.getExtensions());
+        pathItem.readOperationsMap()
+                .forEach((method, operation) -> view.operation(method, operationMapper.apply(operation)));
+        return view;
+    }
+
+    private static Operation copy(final Operation operation) {
+        final Operation copy = new Operation();
+        copy.setTags(operation.getTags());
+        copy.setSummary(operation.getSummary());
+        copy.setDescription(operation.getDescription());
+        copy.setExternalDocs(operation.getExternalDocs());
+        copy.setOperationId(operation.getOperationId());
+        copy.setParameters(operation.getParameters());
+        copy.setRequestBody(operation.getRequestBody());
+        copy.setResponses(operation.getResponses());
+        copy.setCallbacks(operation.getCallbacks());
+        copy.setDeprecated(operation.getDeprecated());
+        copy.setSecurity(operation.getSecurity());
+        copy.setServers(operation.getServers());
+        copy.setExtensions(operation.getExtensions());
+        return copy;
+    }
+
+    private static ApiResponses withoutSchemas(final ApiResponses responses) {
+        return withContent(responses, OpenApiModelView::withoutSchemas);
+    }
+
+    private static ApiResponses withContent(final ApiResponses responses, final UnaryOperator<Content> contentMapper) {
+        if (responses == null) {
+            return null;
+        }
+
+        final ApiResponses view = new ApiResponses();
+        view.setExtensions(responses.getExtensions());
+        for (final Map.Entry<String, ApiResponse> response : responses.entrySet()) {
+            view.addApiResponse(response.getKey(), withContent(response.getValue(), contentMapper));
+        }
+        return view;
+    }
+
+    private static ApiResponse withContent(final ApiResponse response, final UnaryOperator<Content> contentMapper) {
+        if (response == null || response.getContent() == null) {
+            return response;
+        }
+
+        final ApiResponse view = new ApiResponse();
+        view.setDescription(response.getDescription());
+        view.setHeaders(response.getHeaders());
+        view.setLinks(response.getLinks());
+        view.set$ref(response.get$ref());
+        view.setExtensions(response.getExtensions());
+        view.setContent(contentMapper.apply(response.getContent()));
+        return view;
+    }
+
+    private static RequestBody withContent(final RequestBody requestBody, final UnaryOperator<Content> contentMapper) {
+        if (requestBody == null || requestBody.getContent() == null) {
+            return requestBody;
+        }
+
+        final RequestBody view = new RequestBody();
+        view.setDescription(requestBody.getDescription());
+        view.setRequired(requestBody.getRequired());
+        view.set$ref(requestBody.get$ref());
+        view.setExtensions(requestBody.getExtensions());
+        view.setContent(contentMapper.apply(requestBody.getContent()));
+        return view;
+    }
+
+    static Content withoutSchemas(final Content content) {
+        if (content == null) {
+            return null;
+        }
+
+        final Content view = new Content();
+        for (final Map.Entry<String, MediaType> mediaType : content.entrySet()) {
+            final MediaType mediaTypeView = new MediaType();
+            mediaTypeView.setEncoding(mediaType.getValue().getEncoding());
+            mediaTypeView.setExtensions(mediaType.getValue().getExtensions());
+            view.addMediaType(mediaType.getKey(), mediaTypeView);
+        }
+        return view;
+    }
+
+    private static Content withShallowSchemas(final Content content, final Map<String, ?> componentSchemas) {
+        final Content view = new Content();
+        for (final Map.Entry<String, MediaType> mediaType : content.entrySet()) {
+            final MediaType mediaTypeView = new MediaType();
+            mediaTypeView.setSchema(shallow(mediaType.getValue().getSchema(), componentSchemas));
+            mediaTypeView.setEncoding(mediaType.getValue().getEncoding());
+            mediaTypeView.setExtensions(mediaType.getValue().getExtensions());
+            view.addMediaType(mediaType.getKey(), mediaTypeView);
+        }
+        return view;
+    }
+
+    private static Schema<?> shallow(final Schema<?> schema, final Map<String, ?> componentSchemas) {
+        final Schema<?> resolved = resolve(schema, componentSchemas);
+        if (resolved == null
+                || resolved.getAllOf() != null
+                || resolved.getAnyOf() != null
+                || resolved.getOneOf() != null
+                || resolved.getNot() != null) {
+            return typeOnly(resolved, componentSchemas);
+        }
+
+        final Schema<?> view = typeOnly(resolved, componentSchemas);
+        view.setRequired(resolved.getRequired());
+        if (resolved.getProperties() != null) {
+            view.setProperties(new LinkedHashMap<>());
+            resolved.getProperties()
+                    .forEach((name, property) -> view.addProperty(name, typeOnly(property, componentSchemas)));
+        }
+        if (resolved.getItems() != null) {
+            view.setItems(typeOnly(resolved.getItems(), componentSchemas));
+        }
+        view.setAdditionalProperties(
+                resolved.getAdditionalProperties() instanceof Schema
+                        ? typeOnly((Schema<?>) resolved.getAdditionalProperties(), componentSchemas)
+                        : resolved.getAdditionalProperties());
+        return view;
+    }
+
+    /** Build schema checking only type of value. Read-only and write-only flags are kept, as they affect required. */
+    private static Schema<?> typeOnly(final Schema<?> schema, final Map<String, ?> componentSchemas) {
+        final Schema<?> resolved = resolve(schema, componentSchemas);
+        final Schema<Object> view = new Schema<>();
+        if (resolved != null) {
+            view.setType(resolved.getType());
+            view.setTypes(resolved.getTypes());
+            view.setNullable(resolved.getNullable());
+            view.setReadOnly(resolved.getReadOnly());
+            view.setWriteOnly(resolved.getWriteOnly());
+        }
+        return view;
+    }
+
+    /** Resolve reference to component schema, so the view does not depend on other schemas. */
+    private static Schema<?> resolve(final Schema<?> schema, final Map<String, ?> componentSchemas) {
+        Schema<?> resolved = schema;
+        // Chain of references is limited, so references to each other do not loop forever.
+        for (int i = 0; i <= componentSchemas.size() && resolved != null && resolved.get$ref() != null; i++) {
+            final String ref = resolved.get$ref();
+            resolved = ref.startsWith(COMPONENT_SCHEMA_REF_PREFIX)
+                    ? (Schema<?>) componentSchemas.get(ref.substring(COMPONENT_SCHEMA_REF_PREFIX.length()))
+                    : null;
+        }
+        return resolved != null && resolved.get$ref() == null ? resolved : null;
+    }
+}
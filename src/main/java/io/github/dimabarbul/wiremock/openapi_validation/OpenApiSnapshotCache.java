@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of parsed and fully resolved OpenAPI files. Snapshot is stored as compact JSON in a file named after
+ * digest of the OpenAPI file and all local files it references, so any change to them results in a new snapshot. If the
+ * OpenAPI file or any of its references is not a local file, the cache is bypassed. Snapshot file name starts with key
+ * of the OpenAPI file path, so older snapshots of the same file are found and deleted when a new one is written.
+ *
+ * <p>Snapshot is written only after the OpenAPI file has been loaded successfully, so loading from snapshot skips
+ * parsing, resolving and validating the OpenAPI file altogether.
+ */
+final class OpenApiSnapshotCache {
+
+    /** Increase when snapshot format or the way OpenAPI model is prepared changes. */
+    private static final String SNAPSHOT_FORMAT_VERSION = "1";
+
+    private static final String SNAPSHOT_FILE_EXTENSION = ".json";
+
+    /** Number of hex digits of OpenAPI file path hash snapshot file names start with. */
+    private static final int SOURCE_KEY_LENGTH = 16;
+
+    private final Path directory;
+
+    OpenApiSnapshotCache(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Get OpenAPI model from snapshot or load it using provided loader and store snapshot of the result.
+     *
+     * @param openapiFilePath OpenAPI file path
+     * @param allowInvalidOpenapi Whether OpenAPI file is loaded ignoring errors
+     * @param loader Loader to use if there is no snapshot
+     * @return OpenAPI model
+     */
+    OpenAPI load(final String openapiFilePath, final boolean allowInvalidOpenapi, final Supplier<OpenAPI> loader) {
+        final Optional<Path> snapshot = snapshotPath(openapiFilePath, allowInvalidOpenapi);
+        if (snapshot.isEmpty()) {
+            return loader.get();
+        }
+
+        final Optional<OpenAPI> cachedApi = read(snapshot.get());
+        if (cachedApi.isPresent()) {
+            return cachedApi.get();
+        }
+
+        final OpenAPI api = loader.get();
+        if (write(snapshot.get(), api)) {
+            deleteOlderSnapshots(snapshot.get(), sourceKey(openapiFilePath, allowInvalidOpenapi));
+        }
+        return api;
+    }
+
+    /**
+     * Get path of snapshot for the OpenAPI file in its current state.
+     *
+     * @param openapiFilePath OpenAPI file path
+     * @param allowInvalidOpenapi Whether OpenAPI file is loaded ignoring errors
+     * @return Snapshot path, empty if the OpenAPI file cannot be cached
+     */
+    Optional<Path> snapshotPath(final String openapiFilePath, final boolean allowInvalidOpenapi) {
+        return digest(openapiFilePath, allowInvalidOpenapi)
+                .map(d -> directory.resolve(
+                        sourceKey(openapiFilePath, allowInvalidOpenapi) + "-" + d + SNAPSHOT_FILE_EXTENSION));
+    }
+
+    Optional<String> digest(final String openapiFilePath, final boolean allowInvalidOpenapi) {
+        return OpenApiFileDigest.of(openapiFilePath).map(contentDigest -> Hashing.sha256()
+                .newHasher()
+                .putString(SNAPSHOT_FORMAT_VERSION, StandardCharsets.UTF_8)
+                .putString(libraryVersion(), StandardCharsets.UTF_8)
+                .putBoolean(allowInvalidOpenapi)
+                .putBytes(contentDigest.asBytes())
+                .hash()
+                .toString());
+    }
+
+    /** Key that is the same for all snapshots of the OpenAPI file, whatever its content is. */
+    private static String sourceKey(final String openapiFilePath, final boolean allowInvalidOpenapi) {
+        return Hashing.sha256()
+                .newHasher()
+                .putString(Path.of(openapiFilePath).toAbsolutePath().normalize().toString(), StandardCharsets.UTF_8)
+                .putBoolean(allowInvalidOpenapi)
+                .hash()
+                .toString()
+                .substring(0, SOURCE_KEY_LENGTH);
+    }
+
+    private static String libraryVersion() {
+        return OpenApiInteractionValidator.class.getPackage().getImplementationVersion() + "/"
+                + OpenAPI.class.getPackage().getImplementationVersion();
+    }
+
+    private static Optional<OpenAPI> read(final Path snapshot) {
+        if (!Files.isRegularFile(snapshot)) {
+            return Optional.empty();
+        }
+
+        try {
+            final JsonNode tree = Json.mapper().readTree(snapshot.toFile());
+            final boolean isOpenapi31 = tree.path("openapi").asText().startsWith("3.1");
+            final ObjectMapper mapper = isOpenapi31 ? Json31.mapper() : Json.mapper();
+            final OpenAPI api = mapper.treeToValue(tree, OpenAPI.class);
+            api.setSpecVersion(isOpenapi31 ? SpecVersion.V31 : SpecVersion.V30);
+            return Optional.of(api);
+        } catch (final IOException | RuntimeException e) {
+            notifier().info("Cannot read OpenAPI snapshot " + snapshot + ", OpenAPI file will be loaded: " + e);
+            return Optional.empty();
+        }
+    }
+
+    private boolean write(final Path snapshot, final OpenAPI api) {
+        Path tempFile = null;
+        try {
+            final ObjectMapper mapper = api.getSpecVersion() == SpecVersion.V31 ? Json31.mapper() : Json.mapper();
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, "openapi", ".tmp");
+            mapper.writeValue(tempFile.toFile(), api);
+            Files.move(tempFile, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (final IOException | RuntimeException e) {
+            // For example, recursive schemas cannot be serialized after being resolved.
+            notifier().info("Cannot write OpenAPI snapshot " + snapshot + ": " + e);
+            deleteQuietly(tempFile);
+            return false;
+        }
+    }
+
+    /**
+     * Delete snapshots of the same OpenAPI file written before it changed, so that the directory does not grow with
+     * each change of the file.
+     */
+    private void deleteOlderSnapshots(final Path snapshot, final String sourceKey) {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> !file.equals(snapshot))
+                    .filter(file -> {
+                        final String fileName = file.getFileName().toString();
+                        return fileName.startsWith(sourceKey + "-") && fileName.endsWith(SNAPSHOT_FILE_EXTENSION);
+                    })
+                    .forEach(OpenApiSnapshotCache::deleteQuietly);
+        } catch (final IOException e) {
+            notifier().info("Cannot delete older OpenAPI snapshots in " + directory + ": " + e);
+        }
+    }
+
+    private static void deleteQuietly(final Path file) {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            // Nothing can be done, the file will be left behind.
+        }
+    }
+}
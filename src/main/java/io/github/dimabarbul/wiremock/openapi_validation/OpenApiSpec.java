@@ -0,0 +1,228 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+
+import com.google.common.cache.CacheStats;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OpenAPI file together with validator built for it. The validator can be reloaded in background, in which case the new
+ * validator replaces the old one only when it is ready. Requests that are being validated at that moment finish with
+ * the old validator.
+ */
+final class OpenApiSpec {
+
+    private final OpenApiSpecDefinition definition;
+    private final ExtensionOptions options;
+    /** Metrics to record to, null if metrics are not collected. */
+    private final ValidationMetrics metrics;
+    private final OpenApiFileWatcher fileWatcher;
+    private final AtomicLong reloadCount = new AtomicLong();
+    private final AtomicLong reloadFailureCount = new AtomicLong();
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+    /** Loader of validator currently used for validation. */
+    private volatile ValidatorLoader validatorLoader;
+    /** Loader of the latest reload, null if the file has not been reloaded. */
+    private volatile ValidatorLoader reloadingValidatorLoader;
+    /** Whether reload has been asked for while another one was in progress. Guarded by this. */
+    private boolean reloadRequested;
+    /** Number of the latest reload started. Guarded by this. */
+    private long reloadSequence;
+    /** Number of the reload {@link #validatorLoader} comes from, 0 for the initial load. Guarded by this. */
+    private long installedReloadSequence;
+
+    /**
+     * Start loading validator for the OpenAPI file.
+     *
+     * @param definition Definition of OpenAPI file
+     * @param globalOptions Extension options, OpenAPI file path in them is ignored
+     * @param metrics Metrics to record to, null if metrics are not collected
+     */
+    OpenApiSpec(
+            final OpenApiSpecDefinition definition,
+            final ExtensionOptions globalOptions,
+            final ValidationMetrics metrics) {
+        this.definition = definition;
+        this.metrics = metrics;
+        this.options = ExtensionOptions.builder(globalOptions)
+                .withOpenapiFilePath(definition.getOpenapiFilePath())
+                .build();
+        this.validatorLoader = options.isAsyncLoading()
+                ? ValidatorLoader.loadAsynchronously(() -> OpenApiValidator.create(options, metrics))
+                : ValidatorLoader.loadSynchronously(() -> OpenApiValidator.create(options, metrics));
+        this.fileWatcher = options.getWatchIntervalMillis() > 0
+                ? new OpenApiFileWatcher(
+                        definition.getOpenapiFilePath(), options.getWatchIntervalMillis(), this::reload)
+                : null;
+    }
+
+    void start() {
+        if (fileWatcher != null) {
+            fileWatcher.start();
+        }
+    }
+
+    void stop() {
+        if (fileWatcher != null) {
+            fileWatcher.stop();
+        }
+    }
+
+    OpenApiSpecDefinition getDefinition() {
+        return definition;
+    }
+
+    String getName() {
+        return definition.getName();
+    }
+
+    /**
+     * Get loader of validator currently used for validation. Callers should get it once per request, so the whole
+     * request is validated with the same validator even if OpenAPI file is being reloaded.
+     *
+     * @return Current validator loader
+     */
+    ValidatorLoader getValidatorLoader() {
+        return validatorLoader;
+    }
+
+    /**
+     * Register listener called each time reloaded validator replaces the current one.
+     *
+     * @param listener Listener to call
+     */
+    void addReloadListener(final Runnable listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Start reloading OpenAPI file in background. If reloading is already in progress, new one is not started right
+     * away: the file might have changed after the reload in progress has read it, so one more reload is started when
+     * the one in progress completes, however many times reloading has been asked for meanwhile.
+     *
+     * @return Loader of the new validator or, if reloading is in progress, of the one in progress
+     */
+    synchronized ValidatorLoader reload() {
+        final ValidatorLoader currentReload = reloadingValidatorLoader;
+        if (currentReload != null && currentReload.getStatus() == ValidatorLoader.Status.LOADING) {
+            reloadRequested = true;
+            return currentReload;
+        }
+
+        reloadRequested = false;
+        final long sequence = ++reloadSequence;
+        final ValidatorLoader newReload = ValidatorLoader.loadAsynchronously(this::reloadValidator);
+        reloadingValidatorLoader = newReload;
+        newReload.whenComplete((validator, error) -> {
+            onReloaded(newReload, sequence, error);
+            reloadIfRequested();
+        });
+        return newReload;
+    }
+
+    private synchronized void reloadIfRequested() {
+        if (reloadRequested) {
+            reload();
+        }
+    }
+
+    private OpenApiValidator reloadValidator() {
+        OpenApiSpecRegistry.INSTANCE.reload(
+                options.getOpenapiFilePath(),
+                options.isInvalidOpenapiAllowed(),
+                options.getSnapshotDirectory(),
+                metrics);
+        return OpenApiValidator.create(options, metrics);
+    }
+
+    /**
+     * Replace the current validator with the reloaded one. Reload completes before its callback runs, so the next
+     * reload can start and even complete before the callback of the previous one. Validator of such older reload is
+     * dropped, so it does not replace validator of the newer one.
+     */
+    private synchronized void onReloaded(final ValidatorLoader loader, final long sequence, final Throwable error) {
+        reloadCount.incrementAndGet();
+        if (error != null) {
+            reloadFailureCount.incrementAndGet();
+            return;
+        }
+        if (sequence < installedReloadSequence) {
+            return;
+        }
+
+        installedReloadSequence = sequence;
+        validatorLoader = loader;
+        reloadListeners.forEach(Runnable::run);
+        notifier()
+                .info(String.format(
+                        "OpenAPI file %s has been reloaded in %d ms",
+                        options.getOpenapiFilePath(), loader.getLoadTimeMillis().orElse(0L)));
+    }
+
+    Map<String, Object> buildStatus() {
+        final ValidatorLoader loader = validatorLoader;
+        final Map<String, Object> status = new LinkedHashMap<>();
+        status.put("name", definition.getName());
+        status.putAll(buildLoaderStatus(loader));
+        status.put("openapiFilePath", options.getOpenapiFilePath());
+        status.put("reloadCount", reloadCount.get());
+        status.put("reloadFailureCount", reloadFailureCount.get());
+        loader.getIfReady()
+                .flatMap(OpenApiValidator::getRequestVerdictCacheStats)
+                .ifPresent(stats -> status.put("requestVerdictCache", buildCacheStatus(stats)));
+        Optional.ofNullable(reloadingValidatorLoader)
+                .ifPresent(reloadLoader -> status.put("lastReload", buildLoaderStatus(reloadLoader)));
+        return status;
+    }
+
+    /**
+     * Get statistics of caches of the loaded validator.
+     *
+     * @return Cache statistics by cache name, empty if validator is not loaded
+     */
+    Map<String, CacheStats> getCacheStats() {
+        final Map<String, CacheStats> stats = new LinkedHashMap<>();
+        validatorLoader.getIfReady().ifPresent(validator -> {
+            stats.put("variants", validator.getVariantCacheStats());
+            validator.getRequestVerdictCacheStats().ifPresent(s -> stats.put("requestVerdicts", s));
+        });
+        return stats;
+    }
+
+    private static Map<String, Object> buildCacheStatus(final CacheStats stats) {
+        final Map<String, Object> status = new LinkedHashMap<>();
+        status.put("hitCount", stats.hitCount());
+        status.put("missCount", stats.missCount());
+        status.put("hitRate", stats.hitRate());
+        status.put("evictionCount", stats.evictionCount());
+        return status;
+    }
+
+    static Map<String, Object> buildLoaderStatus(final ValidatorLoader loader) {
+        final Map<String, Object> status = new LinkedHashMap<>();
+        status.put("status", loader.getStatus());
+        loader.getLoadTimeMillis().ifPresent(time -> status.put("loadTimeMillis", time));
+        loader.getError().ifPresent(error -> status.put("error", error));
+        return status;
+    }
+}
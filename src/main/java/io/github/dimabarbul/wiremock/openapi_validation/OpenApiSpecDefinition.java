@@ -0,0 +1,218 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * OpenAPI file to validate against and requests it applies to. Request is validated against the file if request path
+ * starts with one of path prefixes (or there are no path prefixes) and request host is one of the hosts (or there are
+ * no hosts). Stubs can also refer to the file by its name.
+ */
+public final class OpenApiSpecDefinition {
+
+    static final String DEFAULT_NAME = "default";
+
+    private static final String DEFINITION_SEPARATOR = ";";
+    private static final String PROPERTY_SEPARATOR = ",";
+    private static final String KEY_VALUE_SEPARATOR = "=";
+
+    private final String name;
+    private final String openapiFilePath;
+    private final ImmutableList<String> pathPrefixes;
+    private final ImmutableList<String> hosts;
+
+    private OpenApiSpecDefinition(
+            final String name,
+            final String openapiFilePath,
+            final ImmutableList<String> pathPrefixes,
+            final ImmutableList<String> hosts) {
+        this.name = requireNonNull(name);
+        this.openapiFilePath = requireNonNull(openapiFilePath);
+        this.pathPrefixes = requireNonNull(pathPrefixes);
+        this.hosts = requireNonNull(hosts);
+    }
+
+    /**
+     * Create new builder.
+     *
+     * @param name Name of OpenAPI file used to refer to it from stubs
+     * @param openapiFilePath OpenAPI file path
+     * @return Builder
+     */
+    public static Builder builder(final String name, final String openapiFilePath) {
+        return new Builder(name, openapiFilePath);
+    }
+
+    /**
+     * Parse definitions in format {@code name=users,file=users.yaml,prefix=/users,host=users.local;name=orders,...}.
+     * Keys {@code prefix} and {@code host} are optional and can be repeated.
+     *
+     * @param value Definitions separated by semicolon
+     * @return List of definitions
+     */
+    static List<OpenApiSpecDefinition> parseList(final String value) {
+        return Arrays.stream(value.split(DEFINITION_SEPARATOR))
+                .map(String::trim)
+                .filter(definition -> !definition.isEmpty())
+                .map(OpenApiSpecDefinition::parse)
+                .collect(Collectors.toList());
+    }
+
+    private static OpenApiSpecDefinition parse(final String definition) {
+        String name = null;
+        String openapiFilePath = null;
+        final List<String> pathPrefixes = new ArrayList<>();
+        final List<String> hosts = new ArrayList<>();
+        for (final String property : definition.split(PROPERTY_SEPARATOR)) {
+            final String[] keyValue = property.split(KEY_VALUE_SEPARATOR, 2);
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException(
+                        String.format("Invalid property \"%s\" in OpenAPI definition \"%s\"", property, definition));
+            }
+
+            final String key = keyValue[0].trim();
+            final String propertyValue = keyValue[1].trim();
+            switch (key) {
+                case "name":
+                    name = propertyValue;
+                    break;
+                case "file":
+                    openapiFilePath = propertyValue;
+                    break;
+                case "prefix":
+                    pathPrefixes.add(propertyValue);
+                    break;
+                case "host":
+                    hosts.add(propertyValue);
+                    break;
+                default:
+                    throw new IllegalArgumentException(
+                            String.format("Unknown property \"%s\" in OpenAPI definition \"%s\"", key, definition));
+            }
+        }
+
+        if (name == null || openapiFilePath == null) {
+            throw new IllegalArgumentException(
+                    String.format("OpenAPI definition \"%s\" must have both name and file", definition));
+        }
+
+        final Builder builder = builder(name, openapiFilePath);
+        pathPrefixes.forEach(builder::withPathPrefix);
+        hosts.forEach(builder::withHost);
+        return builder.build();
+    }
+
+    /**
+     * Get name of OpenAPI file used to refer to it from stubs.
+     *
+     * @return Name of OpenAPI file
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get OpenAPI file path.
+     *
+     * @return OpenAPI file path
+     */
+    public String getOpenapiFilePath() {
+        return openapiFilePath;
+    }
+
+    /**
+     * Get path prefixes of requests that should be validated against the file.
+     *
+     * @return Path prefixes, empty if the file applies to any path
+     */
+    public ImmutableList<String> getPathPrefixes() {
+        return pathPrefixes;
+    }
+
+    /**
+     * Get hosts of requests that should be validated against the file. Hosts are in lower case.
+     *
+     * @return Hosts, empty if the file applies to any host
+     */
+    public ImmutableList<String> getHosts() {
+        return hosts;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%s: %s (path prefixes: %s, hosts: %s)",
+                name,
+                openapiFilePath,
+                pathPrefixes.isEmpty() ? "<any>" : String.join(", ", pathPrefixes),
+                hosts.isEmpty() ? "<any>" : String.join(", ", hosts));
+    }
+
+    /** Builder for OpenAPI file definition. */
+    public static final class Builder {
+
+        private final String name;
+        private final String openapiFilePath;
+        private final List<String> pathPrefixes = new ArrayList<>();
+        private final List<String> hosts = new ArrayList<>();
+
+        private Builder(final String name, final String openapiFilePath) {
+            this.name = name;
+            this.openapiFilePath = openapiFilePath;
+        }
+
+        /**
+         * Add path prefix of requests that should be validated against the file. Prefix is matched by whole path
+         * segments, i.e. {@code /users} matches {@code /users/1}, but not {@code /users-admin}.
+         *
+         * @param pathPrefix Path prefix
+         * @return Builder
+         */
+        public Builder withPathPrefix(final String pathPrefix) {
+            pathPrefixes.add(pathPrefix);
+            return this;
+        }
+
+        /**
+         * Add host of requests that should be validated against the file.
+         *
+         * @param host Host without port
+         * @return Builder
+         */
+        public Builder withHost(final String host) {
+            hosts.add(host.toLowerCase(Locale.ROOT));
+            return this;
+        }
+
+        /**
+         * Build OpenAPI file definition.
+         *
+         * @return OpenAPI file definition
+         */
+        public OpenApiSpecDefinition build() {
+            return new OpenApiSpecDefinition(
+                    name, openapiFilePath, ImmutableList.copyOf(pathPrefixes), ImmutableList.copyOf(hosts));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import com.atlassian.oai.validator.util.OpenApiLoader;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of parsed and fully resolved OpenAPI files. Parsing and resolving is the most expensive part of
+ * building a validator, so it is done once per file and the resulting model is shared by all validators built for it.
+ * The model is treated as read-only after it has been loaded.
+ */
+final class OpenApiSpecRegistry {
+
+    static final OpenApiSpecRegistry INSTANCE = new OpenApiSpecRegistry();
+
+    private final Map<Key, OpenAPI> specs = new ConcurrentHashMap<>();
+
+    OpenApiSpecRegistry() {}
+
+    public OpenAPI get(final String openapiFilePath, final boolean allowInvalidOpenapi) {
+        return get(openapiFilePath, allowInvalidOpenapi, null, null);
+    }
+
+    /**
+     * Get parsed and fully resolved OpenAPI file, loading it if needed.
+     *
+     * @param openapiFilePath OpenAPI file path
+     * @param allowInvalidOpenapi Whether OpenAPI errors should be ignored
+     * @param snapshotDirectory Directory to keep snapshots of resolved OpenAPI files in, null to always parse the file
+     * @param metrics Metrics to record parse time to, null if it is not recorded
+     * @return OpenAPI model
+     */
+    public OpenAPI get(
+            final String openapiFilePath,
+            final boolean allowInvalidOpenapi,
+            final String snapshotDirectory,
+            final ValidationMetrics metrics) {
+        return specs.computeIfAbsent(
+                new Key(openapiFilePath, allowInvalidOpenapi), key -> load(key, snapshotDirectory, metrics));
+    }
+
+    /**
+     * Load OpenAPI file again, replacing previously loaded model. Validators built before keep using the old model.
+     *
+     * @param openapiFilePath OpenAPI file path
+     * @param allowInvalidOpenapi Whether OpenAPI errors should be ignored
+     * @param snapshotDirectory Directory to keep snapshots of resolved OpenAPI files in, null to always parse the file
+     * @param metrics Metrics to record parse time to, null if it is not recorded
+     * @return Newly loaded OpenAPI model
+     */
+    public OpenAPI reload(
+            final String openapiFilePath,
+            final boolean allowInvalidOpenapi,
+            final String snapshotDirectory,
+            final ValidationMetrics metrics) {
+        final Key key = new Key(openapiFilePath, allowInvalidOpenapi);
+        // Loading happens outside the map, so readers of the old model are not blocked.
+        final OpenAPI api = load(key, snapshotDirectory, metrics);
+        specs.put(key, api);
+        return api;
+    }
+
+    private static OpenAPI load(final Key key, final String snapshotDirectory, final ValidationMetrics metrics) {
+        final ValidationEvents.SpecLoad event = new ValidationEvents.SpecLoad();
+        event.begin();
+        final long startNanos = System.nanoTime();
+        final OpenAPI api = snapshotDirectory == null
+                ? load(key)
+                : new OpenApiSnapshotCache(Paths.get(snapshotDirectory))
+                        .load(key.openapiFilePath, key.allowInvalidOpenapi, () -> load(key));
+        if (metrics != null) {
+            metrics.recordSpecParse(System.nanoTime() - startNanos);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.openapiFilePath = key.openapiFilePath;
+            event.snapshotDirectory = snapshotDirectory;
+            event.commit();
+        }
+        return api;
+    }
+
+    private static OpenAPI load(final Key key) {
+        return key.allowInvalidOpenapi
+                ? loadIgnoringOpenapiErrors(key.openapiFilePath)
+                : loadStrictly(key.openapiFilePath);
+    }
+
+    private static OpenAPI loadStrictly(final String openapiFilePath) {
+        return new OpenApiLoader()
+                .loadApi(
+                        OpenApiInteractionValidator.SpecSource.specUrl(openapiFilePath),
+                        List.of(),
+                        defaultParseOptions());
+    }
+
+    private static OpenAPI loadIgnoringOpenapiErrors(final String openapiFilePath) {
+        final SwaggerParseResult swaggerParseResult =
+                new OpenAPIParser().readLocation(openapiFilePath, null, defaultParseOptions());
+        if (swaggerParseResult.getOpenAPI() == null) {
+            throw new OpenApiInteractionValidator.ApiLoadException(openapiFilePath, swaggerParseResult);
+        }
+
+        return swaggerParseResult.getOpenAPI();
+    }
+
+    private static ParseOptions defaultParseOptions() {
+        final ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        parseOptions.setResolveFully(true);
+        parseOptions.setResolveCombinators(false);
+        return parseOptions;
+    }
+
+    private static final class Key {
+        private final String openapiFilePath;
+        private final boolean allowInvalidOpenapi;
+
+        private Key(final String openapiFilePath, final boolean allowInvalidOpenapi) {
+            this.openapiFilePath = openapiFilePath;
+            this.allowInvalidOpenapi = allowInvalidOpenapi;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            final Key key = (Key) o;
+            return allowInvalidOpenapi == key.allowInvalidOpenapi && openapiFilePath.equals(key.openapiFilePath);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(openapiFilePath, allowInvalidOpenapi);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Finds OpenAPI file to validate request against by its host and path. Path prefixes are stored in a trie of path
+ * segments, so routing takes time proportional to number of segments in request path regardless of number of files. The
+ * longest matching prefix wins; on the same prefix, file bound to request host wins over file bound to any host.
+ *
+ * @param <T> Type of routing target
+ */
+final class OpenApiSpecRouter<T> {
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Add routes for all path prefixes and hosts of the definition.
+     *
+     * @param definition Definition describing requests that should be routed to the target
+     * @param target Routing target
+     * @throws IllegalArgumentException if the same path prefix and host is already routed to another target
+     */
+    void add(final OpenApiSpecDefinition definition, final T target) {
+        if (definition.getPathPrefixes().isEmpty()) {
+            root.add(definition, target);
+            return;
+        }
+
+        for (final String pathPrefix : definition.getPathPrefixes()) {
+            Node<T> node = root;
+            for (final String segment : pathPrefix.split("/")) {
+                if (!segment.isEmpty()) {
+                    node = node.children.computeIfAbsent(segment, s -> new Node<>());
+                }
+            }
+            node.add(definition, target);
+        }
+    }
+
+    /**
+     * Find target for request.
+     *
+     * @param host Request host
+     * @param path Request path without query string
+     * @return Target, empty if no definition matches the request
+     */
+    Optional<T> route(final String host, final String path) {
+        final String normalizedHost = host == null ? "" : host.toLowerCase(Locale.ROOT);
+        Node<T> node = root;
+        T target = node.match(normalizedHost);
+
+        int segmentStart = 0;
+        while (segmentStart < path.length()) {
+            int segmentEnd = path.indexOf('/', segmentStart);
+            if (segmentEnd < 0) {
+                segmentEnd = path.length();
+            }
+            if (segmentEnd > segmentStart) {
+                node = node.children.get(path.substring(segmentStart, segmentEnd));
+                if (node == null) {
+                    break;
+                }
+                final T nodeTarget = node.match(normalizedHost);
+                if (nodeTarget != null) {
+                    target = nodeTarget;
+                }
+            }
+            segmentStart = segmentEnd + 1;
+        }
+
+        return Optional.ofNullable(target);
+    }
+
+    private static final class Node<T> {
+
+        private final Map<String, Node<T>> children = new HashMap<>();
+        private final Map<String, T> hostTargets = new HashMap<>();
+        private T anyHostTarget;
+        private String anyHostName;
+
+        private void add(final OpenApiSpecDefinition definition, final T target) {
+            if (definition.getHosts().isEmpty()) {
+                if (anyHostTarget != null && anyHostTarget != target) {
+                    throw conflict(definition, "\"" + anyHostName + "\"");
+                }
+                anyHostTarget = target;
+                anyHostName = definition.getName();
+                return;
+            }
+
+            for (final String host : definition.getHosts()) {
+                final T existingTarget = hostTargets.putIfAbsent(host, target);
+                if (existingTarget != null && existingTarget != target) {
+                    throw conflict(definition, "another definition for host " + host);
+                }
+            }
+        }
+
+        private T match(final String host) {
+            final T hostTarget = hostTargets.isEmpty() ? null : hostTargets.get(host);
+            return hostTarget != null ? hostTarget : anyHostTarget;
+        }
+
+        private static IllegalArgumentException conflict(
+                final OpenApiSpecDefinition definition, final String conflictingName) {
+            return new IllegalArgumentException(String.format(
+                    "OpenAPI definition \"%s\" has the same path prefix and host as %s",
+                    definition.getName(), conflictingName));
+        }
+    }
+}
@@ -17,18 +17,37 @@ package io.github.dimabarbul.wiremock.openapi_validation;
 
 import com.github.tomakehurst.wiremock.http.Response;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.google.common.cache.CacheStats;
+import java.util.Optional;
 
 interface OpenApiValidator {
     String ATLASSIAN_VALIDATOR_NAME = "atlassian";
 
     static OpenApiValidator create(final ExtensionOptions options) {
+        return create(options, null);
+    }
+
+    /**
+     * Create validator for OpenAPI file configured in options.
+     *
+     * @param options Options to create validator with
+     * @param metrics Metrics to record validation time and validator build time to, null if they are not recorded
+     * @return Validator
+     */
+    static OpenApiValidator create(final ExtensionOptions options, final ValidationMetrics metrics) {
         final String validatorName = options.getValidatorName();
 
         if (ATLASSIAN_VALIDATOR_NAME.equals(validatorName)) {
             return new AtlassianOpenApiValidator(
                     options.getOpenapiFilePath(),
                     options.isInvalidOpenapiAllowed(),
-                    OpenApiValidatorOptions.fromExtensionOptions(options));
+                    options.getSnapshotDirectory(),
+                    OpenApiValidatorOptions.fromExtensionOptions(options),
+                    options.getValidatorCacheSize(),
+                    options.getRequestVerdictCacheSize(),
+                    options.getRequestVerdictCacheTtlMillis(),
+                    options.getStreamingBodyThreshold(),
+                    metrics);
         }
 
         throw new IllegalArgumentException("Unknown validator name \"" + validatorName + "\".");
@@ -36,7 +55,48 @@ interface OpenApiValidator {
 
     OpenApiValidator withOptions(OpenApiValidatorOptions options);
 
+    CacheStats getVariantCacheStats();
+
+    /**
+     * Get statistics of remembered request verdicts.
+     *
+     * @return Statistics, empty if request verdicts are not remembered
+     */
+    Optional<CacheStats> getRequestVerdictCacheStats();
+
     ValidationResult validateRequest(LoggedRequest request);
 
     ValidationResult validateResponse(LoggedRequest request, Response response);
+
+    /**
+     * Validate response, optionally skipping validation of its body against schema.
+     *
+     * @param request Request the response is returned for
+     * @param response Response to validate
+     * @param validateResponseBody Whether response body should be validated against its schema
+     * @return Validation result of response
+     */
+    ValidationResult validateResponse(LoggedRequest request, Response response, boolean validateResponseBody);
+
+    /**
+     * Validate request and response together. Request is converted and its operation is looked up only once, so this is
+     * cheaper than validating request and response separately.
+     *
+     * @param request Request to validate
+     * @param response Response to validate
+     * @return Validation results of request and response
+     */
+    InteractionValidationResult validateInteraction(LoggedRequest request, Response response);
+
+    /**
+     * Validate request and response together, optionally skipping validation of response body against its schema.
+     * Status code, headers and content type of response are validated in any case.
+     *
+     * @param request Request to validate
+     * @param response Response to validate
+     * @param validateResponseBody Whether response body should be validated against its schema
+     * @return Validation results of request and response
+     */
+    InteractionValidationResult validateInteraction(
+            LoggedRequest request, Response response, boolean validateResponseBody);
 }
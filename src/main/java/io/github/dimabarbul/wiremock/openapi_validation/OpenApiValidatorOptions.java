@@ -15,20 +15,65 @@
  */
 package io.github.dimabarbul.wiremock.openapi_validation;
 
-import com.google.common.collect.ImmutableList;
+import static java.util.Objects.requireNonNull;
 
+import com.google.common.collect.ImmutableSortedSet;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Options that affect how validator is built. Options are compared by value, so they can be used as a key to find
+ * already built validator.
+ */
 final class OpenApiValidatorOptions {
-    private final ImmutableList<String> ignoredErrors;
+    private final ImmutableSortedSet<String> ignoredErrors;
+    private final ExtensionOptions.ValidationDepth validationDepth;
 
-    private OpenApiValidatorOptions(final ImmutableList<String> ignoredErrors) {
-        this.ignoredErrors = ignoredErrors;
+    private OpenApiValidatorOptions(
+            final Collection<String> ignoredErrors, final ExtensionOptions.ValidationDepth validationDepth) {
+        this.ignoredErrors = ImmutableSortedSet.copyOf(ignoredErrors);
+        this.validationDepth = requireNonNull(validationDepth);
     }
 
     public static OpenApiValidatorOptions fromExtensionOptions(final ExtensionOptions options) {
-        return new OpenApiValidatorOptions(options.getIgnoredErrors());
+        return new OpenApiValidatorOptions(options.getIgnoredErrors(), options.getValidationDepth());
     }
 
-    public ImmutableList<String> getIgnoredErrors() {
+    public ImmutableSortedSet<String> getIgnoredErrors() {
         return ignoredErrors;
     }
+
+    public ExtensionOptions.ValidationDepth getValidationDepth() {
+        return validationDepth;
+    }
+
+    /**
+     * Get the same options but with another validation depth.
+     *
+     * @param validationDepth Validation depth
+     * @return Options with the validation depth
+     */
+    public OpenApiValidatorOptions withValidationDepth(final ExtensionOptions.ValidationDepth validationDepth) {
+        return this.validationDepth == validationDepth
+                ? this
+                : new OpenApiValidatorOptions(ignoredErrors, validationDepth);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final OpenApiValidatorOptions that = (OpenApiValidatorOptions) o;
+        return ignoredErrors.equals(that.ignoredErrors) && validationDepth == that.validationDepth;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ignoredErrors, validationDepth);
+    }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import com.google.common.collect.ImmutableSortedSet;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Facts about each operation of OpenAPI model that validation needs, computed once when validator is built instead of
+ * walking operation on every request.
+ *
+ * <p>Operations are looked up by identity, as validator passes the same operation instances that are in the model.
+ */
+final class OperationRequirementTable {
+
+    private final Map<Operation, OperationRequirements> requirements;
+
+    private OperationRequirementTable(final Map<Operation, OperationRequirements> requirements) {
+        this.requirements = requirements;
+    }
+
+    static OperationRequirementTable build(final OpenAPI api) {
+        final Map<Operation, OperationRequirements> requirements = new IdentityHashMap<>();
+        if (api.getPaths() != null) {
+            for (final PathItem pathItem : api.getPaths().values()) {
+                for (final Operation operation : pathItem.readOperations()) {
+                    requirements.put(operation, OperationRequirements.of(api, pathItem, operation));
+                }
+            }
+        }
+
+        return new OperationRequirementTable(requirements);
+    }
+
+    OperationRequirements get(final Operation operation) {
+        final OperationRequirements operationRequirements = requirements.get(operation);
+        // Operation can only be unknown if the model was changed after the table had been built.
+        return operationRequirements == null ? OperationRequirements.of(null, null, operation) : operationRequirements;
+    }
+
+    int size() {
+        return requirements.size();
+    }
+
+    static final class OperationRequirements {
+
+        private static final String COOKIE_HEADER = "cookie";
+
+        private final boolean requestContentTypeRequired;
+        private final Set<Integer> responseContentTypeRequiredStatuses;
+        private final ImmutableSortedSet<String> requestHeaderNames;
+
+        private OperationRequirements(
+                final boolean requestContentTypeRequired,
+                final Set<Integer> responseContentTypeRequiredStatuses,
+                final ImmutableSortedSet<String> requestHeaderNames) {
+            this.requestContentTypeRequired = requestContentTypeRequired;
+            this.responseContentTypeRequiredStatuses = responseContentTypeRequiredStatuses;
+            this.requestHeaderNames = requestHeaderNames;
+        }
+
+        private static OperationRequirements of(final OpenAPI api, final PathItem pathItem, final Operation operation) {
+            final RequestBody requestBody = operation.getRequestBody();
+            final boolean requestContentTypeRequired = requestBody != null
+                    && Boolean.TRUE.equals(requestBody.getRequired())
+                    && hasContent(requestBody.getContent());
+
+            final Set<Integer> responseContentTypeRequiredStatuses = new HashSet<>();
+            final ApiResponses responses = operation.getResponses();
+            if (responses != null) {
+                for (final Map.Entry<String, ApiResponse> response : responses.entrySet()) {
+                    final Integer status = parseStatus(response.getKey());
+                    if (status != null
+                            && response.getValue() != null
+                            && hasContent(response.getValue().getContent())) {
+                        responseContentTypeRequiredStatuses.add(status);
+                    }
+                }
+            }
+
+            return new OperationRequirements(
+                    requestContentTypeRequired,
+                    Collections.unmodifiableSet(responseContentTypeRequiredStatuses),
+                    api == null ? null : findRequestHeaderNames(api, pathItem, operation));
+        }
+
+        /** Whether request must have Content-Type header, that is when request body is required and has content. */
+        boolean isRequestContentTypeRequired() {
+            return requestContentTypeRequired;
+        }
+
+        /**
+         * Whether response with given status must have Content-Type header, that is when response for exactly this
+         * status code has content. Ranges and default response are not taken into account.
+         */
+        boolean isResponseContentTypeRequired(final int status) {
+            return responseContentTypeRequiredStatuses.contains(status);
+        }
+
+        /**
+         * Get names of request headers request validation reads: Content-Type, Accept, declared header parameters and
+         * headers used by security schemes. Cookie header is included when the operation declares cookie parameters.
+         *
+         * @return Lower-case header names, null if it is not known which headers are read
+         */
+        ImmutableSortedSet<String> getRequestHeaderNames() {
+            return requestHeaderNames;
+        }
+
+        private static ImmutableSortedSet<String> findRequestHeaderNames(
+                final OpenAPI api, final PathItem pathItem, final Operation operation) {
+            final ImmutableSortedSet.Builder<String> names = ImmutableSortedSet.naturalOrder();
+            names.add("content-type", "accept");
+
+            final List<Parameter> parameters = new ArrayList<>();
+            if (pathItem.getParameters() != null) {
+                parameters.addAll(pathItem.getParameters());
+            }
+            if (operation.getParameters() != null) {
+                parameters.addAll(operation.getParameters());
+            }
+            for (final Parameter parameter : parameters) {
+                if (parameter.getIn() == null) {
+                    return null;
+                }
+                if ("header".equals(parameter.getIn())) {
+                    names.add(parameter.getName().toLowerCase(Locale.ROOT));
+                } else if ("cookie".equals(parameter.getIn())) {
+                    names.add(COOKIE_HEADER);
+                }
+            }
+
+            final List<SecurityRequirement> security =
+                    operation.getSecurity() != null ? operation.getSecurity() : api.getSecurity();
+            if (security != null && !security.isEmpty()) {
+                final Map<String, SecurityScheme> schemes =
+                        api.getComponents() != null ? api.getComponents().getSecuritySchemes() : null;
+                for (final SecurityRequirement requirement : security) {
+                    for (final String schemeName : requirement.keySet()) {
+                        final SecurityScheme scheme = schemes != null ? schemes.get(schemeName) : null;
+                        if (scheme == null || scheme.getType() == null) {
+                            return null;
+                        }
+                        if (scheme.getType() != SecurityScheme.Type.APIKEY) {
+                            names.add("authorization");
+                        } else if (scheme.getIn() == SecurityScheme.In.HEADER) {
+                            names.add(scheme.getName().toLowerCase(Locale.ROOT));
+                        } else if (scheme.getIn() == SecurityScheme.In.COOKIE) {
+                            names.add(COOKIE_HEADER);
+                        }
+                    }
+                }
+            }
+
+            return names.build();
+        }
+
+        private static boolean hasContent(final Content content) {
+            return content != null && !content.isEmpty();
+        }
+
+        private static Integer parseStatus(final String status) {
+            try {
+                return Integer.valueOf(status);
+            } catch (final NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
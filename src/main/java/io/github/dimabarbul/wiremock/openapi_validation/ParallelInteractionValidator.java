@@ -0,0 +1,201 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.google.common.base.Throwables;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validates request and response of interaction at the same time: request on a dedicated executor and response on the
+ * calling thread. Verdict is the same as when validating them one after another, unless request validation does not
+ * finish in time.
+ *
+ * <p>Virtual threads are used when number of threads is not set and JVM supports them. If all platform threads are
+ * busy, request is validated on the calling thread, so validation never waits for a free thread.
+ */
+final class ParallelInteractionValidator {
+
+    static final String VALIDATION_REQUEST_TIMEOUT_KEY = "validation.request.timeout";
+
+    /** Prefix of keys of errors that are reported by request validation even when validating response. */
+    private static final String REQUEST_ERROR_KEY_PREFIX = "validation.request.";
+
+    private final long timeoutMillis;
+    private final ExtensionOptions.ParallelTimeoutPolicy timeoutPolicy;
+    private final String executorDescription;
+    private final ExecutorService executor;
+    private final LongAdder validatedCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+
+    ParallelInteractionValidator(
+            final int threads, final long timeoutMillis, final ExtensionOptions.ParallelTimeoutPolicy timeoutPolicy) {
+        this.timeoutMillis = timeoutMillis;
+        this.timeoutPolicy = timeoutPolicy;
+
+        final Optional<ExecutorService> virtualThreadExecutor =
+                threads > 0 ? Optional.empty() : createVirtualThreadExecutor();
+        if (virtualThreadExecutor.isPresent()) {
+            executor = virtualThreadExecutor.get();
+            executorDescription = "virtual threads";
+        } else {
+            final int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+            executor = createPlatformThreadExecutor(poolSize);
+            executorDescription = poolSize + " threads";
+        }
+    }
+
+    /**
+     * Validate request and response of interaction at the same time.
+     *
+     * @param validator Validator to use
+     * @param request Request to validate
+     * @param response Response to validate
+     * @param validateResponseBody Whether response body should be validated against its schema
+     * @return Validation results of request and response
+     */
+    InteractionValidationResult validate(
+            final OpenApiValidator validator,
+            final LoggedRequest request,
+            final Response response,
+            final boolean validateResponseBody) {
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Future<ValidationResult> requestValidation;
+        try {
+            final PhaseTimer timer = PhaseTimer.current();
+            final String stubId = ValidationEvents.currentStubId();
+            requestValidation = executor.submit(() -> ValidationEvents.callForStub(
+                    stubId, () -> PhaseTimer.callWith(timer, () -> validator.validateRequest(request))));
+        } catch (final RejectedExecutionException e) {
+            // Executor is stopped, WireMock is shutting down.
+            requestValidation = CompletableFuture.completedFuture(validator.validateRequest(request));
+        }
+        final ValidationResult responseResult = validator.validateResponse(request, response, validateResponseBody);
+        final ValidationResult requestResult = awaitRequestResult(requestValidation, deadlineNanos);
+        validatedCount.increment();
+
+        return new InteractionValidationResult(requestResult, withoutRequestErrors(responseResult));
+    }
+
+    private ValidationResult awaitRequestResult(
+            final Future<ValidationResult> requestValidation, final long deadlineNanos) {
+        try {
+            return timeoutMillis > 0
+                    ? requestValidation.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)
+                    : requestValidation.get();
+        } catch (final TimeoutException e) {
+            requestValidation.cancel(true);
+            return buildTimeoutResult();
+        } catch (final InterruptedException e) {
+            requestValidation.cancel(true);
+            Thread.currentThread().interrupt();
+            return buildTimeoutResult();
+        } catch (final ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException("Request validation has failed", e.getCause());
+        }
+    }
+
+    private ValidationResult buildTimeoutResult() {
+        timeoutCount.increment();
+        if (timeoutPolicy == ExtensionOptions.ParallelTimeoutPolicy.PASS_THROUGH) {
+            return ValidationResult.builder().build();
+        }
+
+        return ValidationResult.builder()
+                .addError(
+                        VALIDATION_REQUEST_TIMEOUT_KEY,
+                        String.format("Request validation has not finished in %d ms", timeoutMillis))
+                .build();
+    }
+
+    /**
+     * Remove errors that response validation reports about request (like unknown path). Request validation reports them
+     * as well, and validating interaction at once reports them only for request.
+     */
+    private static ValidationResult withoutRequestErrors(final ValidationResult responseResult) {
+        if (responseResult.getErrors().stream().noneMatch(e -> e.getKey().startsWith(REQUEST_ERROR_KEY_PREFIX))) {
+            return responseResult;
+        }
+
+        final ValidationResult.Builder builder = ValidationResult.builder();
+        responseResult.getErrors().stream()
+                .filter(e -> !e.getKey().startsWith(REQUEST_ERROR_KEY_PREFIX))
+                .forEach(e -> builder.addError(e.getKey(), e.getMessage()));
+        return builder.build();
+    }
+
+    /** Stop the executor, requests being validated are interrupted. */
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    Map<String, Object> buildStatus() {
+        final Map<String, Object> status = new LinkedHashMap<>();
+        status.put("executor", executorDescription);
+        status.put("validatedCount", validatedCount.sum());
+        status.put("timeoutCount", timeoutCount.sum());
+        return status;
+    }
+
+    /** Create executor running each task on a new virtual thread, empty if JVM does not support virtual threads. */
+    private static Optional<ExecutorService> createVirtualThreadExecutor() {
+        try {
+            return Optional.of((ExecutorService)
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        } catch (final NoSuchMethodException e) {
+            return Optional.empty();
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            notifier().error("Cannot create virtual thread executor, platform threads will be used", e);
+            return Optional.empty();
+        }
+    }
+
+    private static ExecutorService createPlatformThreadExecutor(final int threads) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0,
+                TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    final Thread thread =
+                            new Thread(runnable, "openapi-validation-parallel-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // All threads are busy or executor is stopped, validate on the calling thread.
+                (task, pool) -> task.run());
+    }
+}
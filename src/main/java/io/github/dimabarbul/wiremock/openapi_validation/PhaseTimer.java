@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Durations of phases of validating one interaction.
+ *
+ * <p>Timer is bound to the thread validating the interaction, so validator records phases without timer being passed
+ * through its methods. When nothing is bound, recording does nothing. Phases repeated during validation are summed up.
+ * Timer can be filled from several threads, e.g. when request and response are validated at the same time.
+ */
+final class PhaseTimer {
+
+    private static final ThreadLocal<PhaseTimer> CURRENT = new ThreadLocal<>();
+    private static final double NANOS_IN_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /** Phases of validation in the order they usually happen. */
+    enum Phase {
+        /** Finding OpenAPI file and waiting for its validator to be loaded. */
+        LOOKUP("lookup"),
+        /** Choosing validation depth and getting validator for options of the stub. */
+        MERGE("merge"),
+        /** Wrapping request and response to be passed to validator. */
+        CONVERT("convert"),
+        /** Finding operation in OpenAPI file. */
+        OPERATION("operation"),
+        /** Validating request. */
+        REQUEST("request"),
+        /** Validating response. */
+        RESPONSE("response"),
+        /** Building error response. */
+        RENDER("render");
+
+        private final String metricName;
+
+        Phase(final String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private final long startNanos = System.nanoTime();
+    private final AtomicLongArray phaseNanos = new AtomicLongArray(Phase.values().length);
+    private final AtomicLongArray phaseCounts = new AtomicLongArray(Phase.values().length);
+
+    /**
+     * Record phase to timer bound to current thread.
+     *
+     * @param phase Phase to record
+     * @param phaseStartNanos Time the phase has started at, as returned by {@link System#nanoTime()}
+     */
+    static void record(final Phase phase, final long phaseStartNanos) {
+        final PhaseTimer timer = CURRENT.get();
+        if (timer != null) {
+            timer.add(phase, System.nanoTime() - phaseStartNanos);
+        }
+    }
+
+    /** Get timer bound to current thread, null if nothing is bound. */
+    static PhaseTimer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Call the action with the timer bound to current thread.
+     *
+     * @param timer Timer to bind, nothing is bound if it is null
+     * @param action Action to call
+     * @return Result of the action
+     */
+    static <T> T callWith(final PhaseTimer timer, final Supplier<T> action) {
+        final PhaseTimer previous = CURRENT.get();
+        CURRENT.set(timer);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    void add(final Phase phase, final long nanos) {
+        phaseNanos.addAndGet(phase.ordinal(), nanos);
+        phaseCounts.incrementAndGet(phase.ordinal());
+    }
+
+    /** Get time elapsed since the timer has been created. */
+    long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Build value of {@code Server-Timing} header. Phases that have not happened are skipped.
+     *
+     * @param prefix Prefix of metric names
+     * @param totalNanos Duration of the whole validation
+     * @return Header value
+     */
+    String toServerTiming(final String prefix, final long totalNanos) {
+        final StringBuilder value = new StringBuilder();
+        for (final Phase phase : Phase.values()) {
+            if (phaseCounts.get(phase.ordinal()) > 0) {
+                appendMetric(value, prefix + phase.metricName, phaseNanos.get(phase.ordinal()));
+                value.append(", ");
+            }
+        }
+        appendMetric(value, prefix + "total", totalNanos);
+        return value.toString();
+    }
+
+    private static void appendMetric(final StringBuilder value, final String name, final long nanos) {
+        value.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / NANOS_IN_MILLI));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import io.swagger.v3.oas.models.Operation;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers results of request validation for requests repeating exactly the same payload. Key consists of only what
+ * request validation reads: the operation, the path, query parameters, headers the operation needs and the body.
+ */
+final class RequestVerdictCache {
+
+    private final Cache<Key, ValidationResult> verdicts;
+
+    RequestVerdictCache(final int size, final long ttlMillis) {
+        verdicts = CacheBuilder.newBuilder()
+                .maximumSize(size)
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Build key for the request.
+     *
+     * @param options Options of validator validating the request
+     * @param operation Operation the request is matched to
+     * @param requirements Requirements of the operation
+     * @param request Request to build key for
+     * @param body Request body, can be null
+     * @return Key for the request, null if the request cannot be remembered
+     */
+    Key key(
+            final OpenApiValidatorOptions options,
+            final Operation operation,
+            final OperationRequirementTable.OperationRequirements requirements,
+            final AtlassianRequestAdapter request,
+            final byte[] body) {
+        if (requirements.getRequestHeaderNames() == null) {
+            return null;
+        }
+
+        final ImmutableList.Builder<Object> inputs = ImmutableList.builder();
+        inputs.add(request.getPath());
+        // Query parameters are sorted, so the same parameters in different order give the same key.
+        for (final String name : new TreeSet<>(request.getQueryParameters())) {
+            inputs.add(name).add(request.getQueryParameterValues(name));
+        }
+        for (final String name : requirements.getRequestHeaderNames()) {
+            final Collection<String> values = request.getHeaderValues(name);
+            if (!values.isEmpty()) {
+                inputs.add(name).add(values);
+            }
+        }
+
+        return new Key(
+                options,
+                operation,
+                inputs.build(),
+                body == null ? null : Hashing.murmur3_128().hashBytes(body));
+    }
+
+    ValidationResult get(final Key key) {
+        return verdicts.getIfPresent(key);
+    }
+
+    void put(final Key key, final ValidationResult result) {
+        verdicts.put(key, result);
+    }
+
+    CacheStats stats() {
+        return verdicts.stats();
+    }
+
+    long size() {
+        return verdicts.size();
+    }
+
+    static final class Key {
+
+        private final OpenApiValidatorOptions options;
+        /** Operation is compared by identity, it is an instance from the model of validated OpenAPI file. */
+        private final Operation operation;
+
+        private final ImmutableList<Object> inputs;
+        private final HashCode bodyDigest;
+
+        private Key(
+                final OpenApiValidatorOptions options,
+                final Operation operation,
+                final ImmutableList<Object> inputs,
+                final HashCode bodyDigest) {
+            this.options = options;
+            this.operation = operation;
+            this.inputs = inputs;
+            this.bodyDigest = bodyDigest;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return operation == key.operation
+                    && options.equals(key.options)
+                    && inputs.equals(key.inputs)
+                    && Objects.equals(bodyDigest, key.bodyDigest);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(options, System.identityHashCode(operation), inputs, bodyDigest);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import com.github.tomakehurst.wiremock.common.Urls;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Remembers results of response validation for stubs that return the same response again and again. Validating such
+ * response gives the same verdict each time, so only request is validated when the verdict is known.
+ *
+ * <p>Verdict is bound to the stub version, the validator and the digest of response status, headers and body, so
+ * templated responses that differ from request to request simply get different keys. Response validation also depends
+ * on the operation, which is why request method and path are part of the key too. Responses with body larger than
+ * streaming body threshold are not remembered, as digesting the body would read it into memory.
+ */
+final class ResponseVerdictCache {
+
+    private final Cache<Key, Verdict> verdicts;
+    /** Size of body in bytes above which response is not remembered, 0 if all responses are remembered. */
+    private final long streamingBodyThreshold;
+
+    ResponseVerdictCache(final int size, final long streamingBodyThreshold) {
+        verdicts = CacheBuilder.newBuilder().maximumSize(size).recordStats().build();
+        this.streamingBodyThreshold = streamingBodyThreshold;
+    }
+
+    /**
+     * Build key of verdict for response.
+     *
+     * @return Key, null if response body is too large to be remembered
+     */
+    Key key(
+            final ValidationPlan plan,
+            final String specName,
+            final OpenApiValidator validator,
+            final LoggedRequest request,
+            final Response response) {
+        if (streamingBodyThreshold > 0 && BodySize.isLargerThan(response, streamingBodyThreshold)) {
+            return null;
+        }
+
+        return new Key(
+                plan.getStubId(),
+                plan.getStubVersion(),
+                specName,
+                validator,
+                request.getMethod().getName(),
+                Urls.getPath(request.getUrl()),
+                digest(response));
+    }
+
+    Verdict get(final Key key) {
+        return verdicts.getIfPresent(key);
+    }
+
+    Verdict put(
+            final Key key,
+            final int failureStatusCode,
+            final ValidationResult responseResult,
+            final ExtensionOptions.ValidationDepth validationDepth) {
+        final Verdict verdict = new Verdict(
+                responseResult,
+                responseResult.hasErrors()
+                        ? ErrorResponseBuilder.buildResponse(
+                                failureStatusCode, ValidationResult.builder().build(), responseResult, validationDepth)
+                        : null);
+        verdicts.put(key, verdict);
+        return verdict;
+    }
+
+    void invalidateStub(final UUID stubId) {
+        verdicts.asMap().keySet().removeIf(key -> key.stubId.equals(stubId));
+    }
+
+    void invalidateSpec(final String specName) {
+        verdicts.asMap().keySet().removeIf(key -> key.specName.equals(specName));
+    }
+
+    void invalidateAll() {
+        verdicts.invalidateAll();
+    }
+
+    CacheStats stats() {
+        return verdicts.stats();
+    }
+
+    private static HashCode digest(final Response response) {
+        final Hasher hasher = Hashing.murmur3_128().newHasher().putInt(response.getStatus());
+        for (final HttpHeader header : response.getHeaders().all()) {
+            hasher.putString(header.key(), StandardCharsets.UTF_8).putByte((byte) 0);
+            for (final String value : header.values()) {
+                hasher.putString(value, StandardCharsets.UTF_8).putByte((byte) 0);
+            }
+            hasher.putByte((byte) 1);
+        }
+        final byte[] body = response.getBody();
+        if (body != null) {
+            hasher.putBytes(body);
+        }
+
+        return hasher.hash();
+    }
+
+    static final class Key {
+
+        private final UUID stubId;
+        private final long stubVersion;
+        private final String specName;
+        /** Validator is compared by identity, as reloaded OpenAPI file gets new validator. */
+        private final OpenApiValidator validator;
+
+        private final String method;
+        private final String path;
+        private final HashCode responseDigest;
+
+        private Key(
+                final UUID stubId,
+                final long stubVersion,
+                final String specName,
+                final OpenApiValidator validator,
+                final String method,
+                final String path,
+                final HashCode responseDigest) {
+            this.stubId = stubId;
+            this.stubVersion = stubVersion;
+            this.specName = specName;
+            this.validator = validator;
+            this.method = method;
+            this.path = path;
+            this.responseDigest = responseDigest;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return stubVersion == key.stubVersion
+                    && validator == key.validator
+                    && stubId.equals(key.stubId)
+                    && specName.equals(key.specName)
+                    && method.equals(key.method)
+                    && path.equals(key.path)
+                    && responseDigest.equals(key.responseDigest);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(
+                    stubId, stubVersion, specName, System.identityHashCode(validator), method, path, responseDigest);
+        }
+    }
+
+    static final class Verdict {
+
+        private final ValidationResult responseResult;
+        private final Response errorResponse;
+
+        private Verdict(final ValidationResult responseResult, final Response errorResponse) {
+            this.responseResult = responseResult;
+            this.errorResponse = errorResponse;
+        }
+
+        ValidationResult getResponseResult() {
+            return responseResult;
+        }
+
+        /**
+         * Get error response to return when request is valid.
+         *
+         * @return Error response built for response errors only, null if response is valid
+         */
+        Response getErrorResponse() {
+            return errorResponse;
+        }
+    }
+}
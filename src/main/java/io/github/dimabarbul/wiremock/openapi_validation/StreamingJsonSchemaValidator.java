@@ -0,0 +1,798 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static io.swagger.v3.core.util.Json.mapper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Validates JSON response bodies against their schemas while reading them token by token, so memory used does not
+ * depend on body size. Error keys and messages are the same as ones reported by validator building JSON tree, except
+ * that properties not allowed by the schema are only counted, and that at most {@link #MAX_ERRORS} errors are reported.
+ *
+ * <p>Only part of JSON schema is supported. Schemas using composition (like {@code allOf} or {@code oneOf}),
+ * discriminator, unique items or formats other than {@code uuid}, {@code date}, {@code date-time}, {@code int32} and
+ * {@code int64} are not compiled, and bodies for them have to be validated by building JSON tree. OpenAPI 3.1 files are
+ * not supported.
+ */
+final class StreamingJsonSchemaValidator {
+
+    static final String VALIDATION_RESPONSE_BODY_SCHEMA_KEY_PREFIX = "validation.response.body.schema.";
+    /** Key that disables injecting {@code additionalProperties: false} into object schemas when it is ignored. */
+    static final String VALIDATION_SCHEMA_ADDITIONAL_PROPERTIES_KEY = "validation.schema.additionalProperties";
+    /** Number of errors reported for a body at most, errors found after that are not collected. */
+    static final int MAX_ERRORS = 100;
+
+    private static final String COMPONENT_SCHEMA_REF_PREFIX = "#/components/schemas/";
+    private static final String DEFAULT_RESPONSE = "default";
+    private static final Set<String> SUPPORTED_FORMATS = ImmutableSet.of("uuid", "date", "date-time", "int32", "int64");
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+    private static final Pattern DATE_PATTERN = Pattern.compile("^(\\d{4})-(\\d{2})-(\\d{2})$");
+    private static final Pattern DATE_TIME_PATTERN = Pattern.compile(
+            "^(\\d{4})-(\\d{2})-(\\d{2})[Tt](\\d{2}):(\\d{2}):(\\d{2})(\\.\\d{1,12})?([Zz]|[+-](\\d{2}):?(\\d{2}))$");
+    private static final String DATE_TIME_FORMATS = "[yyyy-MM-dd'T'HH:mm:ssZ, yyyy-MM-dd'T'HH:mm:ss.[0-9]{1,12}Z]";
+    private static final BigDecimal INT32_MIN = BigDecimal.valueOf(Integer.MIN_VALUE);
+    private static final BigDecimal INT32_MAX = BigDecimal.valueOf(Integer.MAX_VALUE);
+    private static final BigDecimal INT64_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal INT64_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    /**
+     * Operations of the model schemas are compiled from, by method and path. Operation found by other model (like the
+     * full one when schemas are compiled from a view of it) is not the same object, so operations are looked up here.
+     */
+    private final Map<String, Operation> operations;
+    /** Compiled schemas of JSON response bodies, only for schemas that can be validated while streaming. */
+    private final Map<MediaType, SchemaNode> schemas;
+
+    private StreamingJsonSchemaValidator(
+            final Map<String, Operation> operations, final Map<MediaType, SchemaNode> schemas) {
+        this.operations = operations;
+        this.schemas = schemas;
+    }
+
+    /**
+     * Compile schemas of JSON response bodies of all operations.
+     *
+     * @param api OpenAPI model
+     * @return Validator
+     */
+    static StreamingJsonSchemaValidator build(final OpenAPI api) {
+        final Map<String, Operation> operations = new HashMap<>();
+        final Map<MediaType, SchemaNode> schemas = new IdentityHashMap<>();
+        if (api.getSpecVersion() == SpecVersion.V31 || api.getPaths() == null) {
+            return new StreamingJsonSchemaValidator(operations, schemas);
+        }
+
+        for (final Map.Entry<String, PathItem> path : api.getPaths().entrySet()) {
+            for (final Map.Entry<PathItem.HttpMethod, Operation> method :
+                    path.getValue().readOperationsMap().entrySet()) {
+                final Operation operation = method.getValue();
+                operations.put(operationKey(path.getKey(), method.getKey().name()), operation);
+                if (operation.getResponses() == null) {
+                    continue;
+                }
+                for (final ApiResponse response : operation.getResponses().values()) {
+                    if (response == null || response.getContent() == null) {
+                        continue;
+                    }
+                    for (final Map.Entry<String, MediaType> mediaType : response.getContent().entrySet()) {
+                        if (mediaType.getValue() == null
+                                || mediaType.getValue().getSchema() == null
+                                || !isJson(mediaType.getKey())) {
+                            continue;
+                        }
+                        // Each schema is compiled on its own, so unsupported part of one schema does not leave
+                        // half-compiled nodes shared with others.
+                        final SchemaNode node = new Compiler(api).compile(mediaType.getValue().getSchema());
+                        if (node != null) {
+                            schemas.put(mediaType.getValue(), node);
+                        }
+                    }
+                }
+            }
+        }
+
+        return new StreamingJsonSchemaValidator(operations, schemas);
+    }
+
+    /**
+     * Find compiled schema of response body.
+     *
+     * @param path Path template of the operation the response is returned by, as written in OpenAPI file
+     * @param method HTTP method of the operation
+     * @param status Response status code
+     * @param contentType Value of response Content-Type header
+     * @return Compiled schema, empty if body cannot be validated while streaming
+     */
+    Optional<SchemaNode> findSchema(
+            final String path, final String method, final int status, final String contentType) {
+        final Operation operation = operations.get(operationKey(path, method.toUpperCase(Locale.ROOT)));
+        final ApiResponses responses = operation != null ? operation.getResponses() : null;
+        if (responses == null || contentType == null) {
+            return Optional.empty();
+        }
+
+        ApiResponse response = responses.get(String.valueOf(status));
+        if (response == null) {
+            // Status code ranges are left to the regular validator.
+            if (responses.keySet().stream().anyMatch(k -> k.toUpperCase(Locale.ROOT).endsWith("XX"))) {
+                return Optional.empty();
+            }
+            response = responses.get(DEFAULT_RESPONSE);
+        }
+        if (response == null || response.getContent() == null) {
+            return Optional.empty();
+        }
+
+        final com.google.common.net.MediaType responseMediaType;
+        try {
+            responseMediaType = com.google.common.net.MediaType.parse(contentType).withoutParameters();
+        } catch (final IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        for (final Map.Entry<String, MediaType> mediaType : response.getContent().entrySet()) {
+            if (responseMediaType.equals(parseMediaType(mediaType.getKey()))) {
+                return Optional.ofNullable(schemas.get(mediaType.getValue()));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Validate JSON body against compiled schema.
+     *
+     * @param body Body to validate
+     * @param schema Compiled schema to validate against
+     * @param additionalPropertiesInjected Whether objects having properties and not specifying additional properties
+     *     are not allowed to have additional properties
+     * @return Validation result of body
+     * @throws IOException When the body cannot be read
+     */
+    static ValidationResult validate(
+            final InputStream body, final SchemaNode schema, final boolean additionalPropertiesInjected)
+            throws IOException {
+        final Walker walker = new Walker(additionalPropertiesInjected);
+        try (JsonParser parser = mapper().getFactory().createParser(body)) {
+            // Like when building JSON tree, anything after the first value is not read.
+            if (parser.nextToken() != null) {
+                walker.validateValue(parser, schema);
+            }
+        } catch (final JsonProcessingException e) {
+            return ValidationResult.builder()
+                    .addError(
+                            VALIDATION_RESPONSE_BODY_SCHEMA_KEY_PREFIX + "invalidJson",
+                            "Unable to parse JSON - " + e.getMessage() + ".")
+                    .build();
+        }
+
+        return walker.buildResult();
+    }
+
+    private static String operationKey(final String path, final String method) {
+        return method + " " + path;
+    }
+
+    private static boolean isJson(final String mediaType) {
+        final com.google.common.net.MediaType parsed = parseMediaType(mediaType);
+        return parsed != null
+                && (parsed.subtype().equals("json") || parsed.subtype().endsWith("+json"));
+    }
+
+    private static com.google.common.net.MediaType parseMediaType(final String mediaType) {
+        try {
+            return com.google.common.net.MediaType.parse(mediaType).withoutParameters();
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /** Schema compiled for validating while streaming. Nodes are not modified after compilation. */
+    static final class SchemaNode {
+
+        /** Allowed JSON types, empty if any type is allowed. */
+        private ImmutableSortedSet<String> types = ImmutableSortedSet.of();
+        /** Declared properties, child node is null if any value is allowed. */
+        private Map<String, SchemaNode> properties = Map.of();
+        private Set<String> required = Set.of();
+        /** Whether additional properties are allowed, null if schema does not say. */
+        private Boolean additionalPropertiesAllowed;
+        /** Schema of additional properties, null if any value is allowed. */
+        private SchemaNode additionalProperties;
+        private Integer minProperties;
+        private Integer maxProperties;
+        /** Schema of array items, null if any value is allowed. */
+        private SchemaNode items;
+        private Integer minItems;
+        private Integer maxItems;
+        private Integer minLength;
+        private Integer maxLength;
+        private Pattern pattern;
+        private String patternSource;
+        private BigDecimal minimum;
+        private boolean exclusiveMinimum;
+        private BigDecimal maximum;
+        private boolean exclusiveMaximum;
+        private BigDecimal multipleOf;
+        private String format;
+        /** Allowed values (strings, numbers, booleans or nulls), null if any value is allowed. */
+        private List<Object> enumValues;
+        private String enumDescription;
+
+        private SchemaNode() {}
+
+        private boolean allowsAdditionalProperties(final boolean additionalPropertiesInjected) {
+            if (additionalPropertiesAllowed != null) {
+                return additionalPropertiesAllowed;
+            }
+
+            return !additionalPropertiesInjected || properties.isEmpty();
+        }
+    }
+
+    /** Compiles schemas, resolving references to component schemas. */
+    private static final class Compiler {
+
+        /** Component schemas by name, values are {@link Schema} instances. */
+        private final Map<String, ?> componentSchemas;
+        private final Map<String, SchemaNode> compiledRefs = new HashMap<>();
+
+        private Compiler(final OpenAPI api) {
+            this.componentSchemas = api.getComponents() != null && api.getComponents().getSchemas() != null
+                    ? api.getComponents().getSchemas()
+                    : Map.of();
+        }
+
+        /** Compile schema, null if the schema or any schema it refers to is not supported. */
+        private SchemaNode compile(final Schema<?> schema) {
+            if (schema.get$ref() != null) {
+                final String ref = schema.get$ref();
+                if (!ref.startsWith(COMPONENT_SCHEMA_REF_PREFIX)) {
+                    return null;
+                }
+                final String name = ref.substring(COMPONENT_SCHEMA_REF_PREFIX.length());
+                if (compiledRefs.containsKey(name)) {
+                    return compiledRefs.get(name);
+                }
+                final Schema<?> target = componentSchema(name);
+                if (target == null) {
+                    return null;
+                }
+                // Node is registered before it is filled, so recursive schemas refer to it.
+                final SchemaNode node = new SchemaNode();
+                compiledRefs.put(name, node);
+                return target.get$ref() == null && fill(node, target) ? node : null;
+            }
+
+            final SchemaNode node = new SchemaNode();
+            return fill(node, schema) ? node : null;
+        }
+
+        private boolean fill(final SchemaNode node, final Schema<?> schema) {
+            if (schema.getAllOf() != null
+                    || schema.getAnyOf() != null
+                    || schema.getOneOf() != null
+                    || schema.getNot() != null
+                    || schema.getDiscriminator() != null
+                    || Boolean.TRUE.equals(schema.getUniqueItems())
+                    || (schema.getFormat() != null && !SUPPORTED_FORMATS.contains(schema.getFormat()))) {
+                return false;
+            }
+
+            final boolean nullable = Boolean.TRUE.equals(schema.getNullable());
+            if (schema.getType() != null) {
+                node.types = nullable
+                        ? ImmutableSortedSet.of(schema.getType(), "null")
+                        : ImmutableSortedSet.of(schema.getType());
+            }
+
+            if (schema.getEnum() != null) {
+                // Type of schema without type but with enum is guessed by parser, nullable enums depend on how
+                // nullable keyword is applied, so both are left to the regular validator.
+                if (schema.getType() == null || nullable) {
+                    return false;
+                }
+                final List<Object> values = new ArrayList<>();
+                for (final Object value : schema.getEnum()) {
+                    if (value != null && !(value instanceof String) && !(value instanceof Number)
+                            && !(value instanceof Boolean)) {
+                        return false;
+                    }
+                    values.add(value instanceof Number ? new BigDecimal(value.toString()) : value);
+                }
+                node.enumValues = Collections.unmodifiableList(values);
+                node.enumDescription = toJson(schema.getEnum());
+            }
+
+            if (schema.getProperties() != null) {
+                final Map<String, SchemaNode> properties = new HashMap<>();
+                for (final String name : schema.getProperties().keySet()) {
+                    final SchemaNode propertyNode = compile(schema.getProperties().get(name));
+                    if (propertyNode == null) {
+                        return false;
+                    }
+                    properties.put(name, propertyNode);
+                }
+                node.properties = Collections.unmodifiableMap(properties);
+            }
+            if (schema.getRequired() != null) {
+                final Set<String> required = new HashSet<>();
+                for (final String name : schema.getRequired()) {
+                    // Write-only properties are not required in responses.
+                    if (schema.getProperties() == null || !isWriteOnly(schema.getProperties().get(name))) {
+                        required.add(name);
+                    }
+                }
+                node.required = Collections.unmodifiableSet(required);
+            }
+            if (schema.getAdditionalProperties() instanceof Boolean) {
+                node.additionalPropertiesAllowed = (Boolean) schema.getAdditionalProperties();
+            } else if (schema.getAdditionalProperties() instanceof Schema) {
+                node.additionalPropertiesAllowed = true;
+                node.additionalProperties = compile((Schema<?>) schema.getAdditionalProperties());
+                if (node.additionalProperties == null) {
+                    return false;
+                }
+            }
+            node.minProperties = schema.getMinProperties();
+            node.maxProperties = schema.getMaxProperties();
+
+            if (schema.getItems() != null) {
+                node.items = compile(schema.getItems());
+                if (node.items == null) {
+                    return false;
+                }
+            }
+            node.minItems = schema.getMinItems();
+            node.maxItems = schema.getMaxItems();
+
+            node.minLength = schema.getMinLength();
+            node.maxLength = schema.getMaxLength();
+            if (schema.getPattern() != null) {
+                try {
+                    node.pattern = Pattern.compile(schema.getPattern());
+                } catch (final PatternSyntaxException e) {
+                    return false;
+                }
+                node.patternSource = schema.getPattern();
+            }
+
+            node.minimum = schema.getMinimum();
+            node.exclusiveMinimum = Boolean.TRUE.equals(schema.getExclusiveMinimum());
+            node.maximum = schema.getMaximum();
+            node.exclusiveMaximum = Boolean.TRUE.equals(schema.getExclusiveMaximum());
+            node.multipleOf = schema.getMultipleOf();
+            node.format = schema.getFormat();
+
+            return true;
+        }
+
+        private boolean isWriteOnly(final Schema<?> schema) {
+            Schema<?> resolved = schema;
+            if (resolved != null && resolved.get$ref() != null
+                    && resolved.get$ref().startsWith(COMPONENT_SCHEMA_REF_PREFIX)) {
+                resolved = componentSchema(resolved.get$ref().substring(COMPONENT_SCHEMA_REF_PREFIX.length()));
+            }
+            return resolved != null && Boolean.TRUE.equals(resolved.getWriteOnly());
+        }
+
+        private Schema<?> componentSchema(final String name) {
+            return (Schema<?>) componentSchemas.get(name);
+        }
+    }
+
+    /**
+     * Walks JSON tokens validating them against compiled schema. Only path to the current value and at most
+     * {@link #MAX_ERRORS} errors are kept in memory.
+     */
+    private static final class Walker {
+
+        private final boolean additionalPropertiesInjected;
+        /** Path to the current value: property names and array indexes. */
+        private final Deque<Object> path = new ArrayDeque<>();
+        private final List<PathError> errors = new ArrayList<>();
+
+        private Walker(final boolean additionalPropertiesInjected) {
+            this.additionalPropertiesInjected = additionalPropertiesInjected;
+        }
+
+        /** Validate value the parser is at, leaving parser at the last token of the value. */
+        private void validateValue(final JsonParser parser, final SchemaNode node) throws IOException {
+            if (node == null) {
+                parser.skipChildren();
+                return;
+            }
+
+            final JsonToken token = parser.currentToken();
+            final String type = typeOf(token);
+            if (!node.types.isEmpty()
+                    && !node.types.contains(type)
+                    && !(type.equals("integer") && node.types.contains("number"))) {
+                addError(
+                        "type",
+                        String.format(
+                                "Instance type (%s) does not match any allowed primitive type (allowed: %s)",
+                                type, toJson(node.types)));
+            }
+
+            switch (token) {
+                case START_OBJECT:
+                    validateObject(parser, node);
+                    break;
+                case START_ARRAY:
+                    validateArray(parser, node);
+                    break;
+                case VALUE_STRING:
+                    validateString(parser.getText(), node);
+                    break;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    validateNumber(parser.getText(), parser.getDecimalValue(), node);
+                    break;
+                case VALUE_TRUE:
+                case VALUE_FALSE:
+                    validateEnum(parser.getBooleanValue(), parser.getText(), node);
+                    break;
+                default:
+                    validateEnum(null, parser.getText(), node);
+                    break;
+            }
+        }
+
+        private void validateObject(final JsonParser parser, final SchemaNode node) throws IOException {
+            final boolean additionalPropertiesAllowed = node.allowsAdditionalProperties(additionalPropertiesInjected);
+            final Set<String> presentRequired = new HashSet<>();
+            int additionalCount = 0;
+            int count = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String name = parser.currentName();
+                parser.nextToken();
+                count++;
+                if (node.required.contains(name)) {
+                    presentRequired.add(name);
+                }
+
+                final SchemaNode child;
+                if (node.properties.containsKey(name)) {
+                    child = node.properties.get(name);
+                } else if (additionalPropertiesAllowed) {
+                    child = node.additionalProperties;
+                } else {
+                    additionalCount++;
+                    parser.skipChildren();
+                    continue;
+                }
+
+                path.addLast(name);
+                validateValue(parser, child);
+                path.removeLast();
+            }
+
+            if (additionalCount > 0) {
+                addError(
+                        "additionalProperties",
+                        String.format(
+                                "Object instance has %d properties which are not allowed by the schema",
+                                additionalCount));
+            }
+            if (node.maxProperties != null && count > node.maxProperties) {
+                addError(
+                        "maxProperties",
+                        String.format(
+                                "Object has too many properties (found %d but schema requires at most %d)",
+                                count, node.maxProperties));
+            }
+            if (node.minProperties != null && count < node.minProperties) {
+                addError(
+                        "minProperties",
+                        String.format(
+                                "Object has too few properties (found %d but schema requires at least %d)",
+                                count, node.minProperties));
+            }
+            if (presentRequired.size() < node.required.size()) {
+                final Set<String> missing = new TreeSet<>(node.required);
+                missing.removeAll(presentRequired);
+                addError("required", "Object has missing required properties (" + toJson(missing) + ")");
+            }
+        }
+
+        private void validateArray(final JsonParser parser, final SchemaNode node) throws IOException {
+            int count = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                path.addLast(count);
+                validateValue(parser, node.items);
+                path.removeLast();
+                count++;
+            }
+
+            if (node.maxItems != null && count > node.maxItems) {
+                addError(
+                        "maxItems",
+                        String.format(
+                                "Array is too long: must have at most %d elements but instance has %d elements",
+                                node.maxItems, count));
+            }
+            if (node.minItems != null && count < node.minItems) {
+                addError(
+                        "minItems",
+                        String.format(
+                                "Array is too short: must have at least %d elements but instance has %d elements",
+                                node.minItems, count));
+            }
+        }
+
+        private void validateString(final String value, final SchemaNode node) {
+            final int length = value.codePointCount(0, value.length());
+            if (node.maxLength != null && length > node.maxLength) {
+                addError(
+                        "maxLength",
+                        String.format(
+                                "String %s is too long (length: %d, maximum allowed: %d)",
+                                toJson(value), length, node.maxLength));
+            }
+            if (node.minLength != null && length < node.minLength) {
+                addError(
+                        "minLength",
+                        String.format(
+                                "String %s is too short (length: %d, required minimum: %d)",
+                                toJson(value), length, node.minLength));
+            }
+            if (node.pattern != null && !node.pattern.matcher(value).find()) {
+                addError(
+                        "pattern",
+                        String.format(
+                                "ECMA 262 regex %s does not match input string %s",
+                                toJson(node.patternSource), toJson(value)));
+            }
+            if ("uuid".equals(node.format) && !UUID_PATTERN.matcher(value).matches()) {
+                addError("format.uuid", String.format("Input string %s is not a valid UUID", toJson(value)));
+            } else if ("date".equals(node.format) && !isDate(value)) {
+                addError(
+                        "format.date",
+                        String.format(
+                                "String %s is invalid against requested date format(s) yyyy-MM-dd", toJson(value)));
+            } else if ("date-time".equals(node.format) && !isDateTime(value)) {
+                addError(
+                        "format.date-time",
+                        String.format(
+                                "String %s is invalid against requested date format(s) %s",
+                                toJson(value), DATE_TIME_FORMATS));
+            }
+            validateEnum(value, toJson(value), node);
+        }
+
+        private void validateNumber(final String text, final BigDecimal value, final SchemaNode node) {
+            if (node.minimum != null) {
+                final int comparison = value.compareTo(node.minimum);
+                if (node.exclusiveMinimum && comparison <= 0) {
+                    addError(
+                            "minimum",
+                            "Numeric instance is not strictly greater than the required minimum "
+                                    + node.minimum.toPlainString());
+                } else if (comparison < 0) {
+                    addError(
+                            "minimum",
+                            String.format(
+                                    "Numeric instance is lower than the required minimum (minimum: %s, found: %s)",
+                                    node.minimum.toPlainString(), text));
+                }
+            }
+            if (node.maximum != null) {
+                final int comparison = value.compareTo(node.maximum);
+                if (node.exclusiveMaximum && comparison >= 0) {
+                    addError(
+                            "maximum",
+                            "Numeric instance is not strictly lower than the required maximum "
+                                    + node.maximum.toPlainString());
+                } else if (comparison > 0) {
+                    addError(
+                            "maximum",
+                            String.format(
+                                    "Numeric instance is greater than the required maximum (maximum: %s, found: %s)",
+                                    node.maximum.toPlainString(), text));
+                }
+            }
+            if (node.multipleOf != null
+                    && node.multipleOf.signum() != 0
+                    && value.remainder(node.multipleOf).signum() != 0) {
+                addError(
+                        "multipleOf",
+                        String.format(
+                                "Remainder of division is not zero (%s / %s)", text, node.multipleOf.toPlainString()));
+            }
+            if ("int32".equals(node.format) && isOutside(value, INT32_MIN, INT32_MAX)) {
+                addError("format.int32", String.format("Value for int32 leads to overflow (found: %s)", text));
+            } else if ("int64".equals(node.format) && isOutside(value, INT64_MIN, INT64_MAX)) {
+                addError("format.int64", String.format("Value for int64 leads to overflow (found: %s)", text));
+            }
+            validateEnum(value, text, node);
+        }
+
+        private void validateEnum(final Object value, final String valueJson, final SchemaNode node) {
+            if (node.enumValues == null) {
+                return;
+            }
+            for (final Object allowed : node.enumValues) {
+                if (value instanceof BigDecimal && allowed instanceof BigDecimal
+                        ? ((BigDecimal) value).compareTo((BigDecimal) allowed) == 0
+                        : Objects.equals(value, allowed)) {
+                    return;
+                }
+            }
+
+            addError(
+                    "enum",
+                    String.format(
+                            "Instance value (%s) not found in enum (possible values: %s)",
+                            valueJson, node.enumDescription));
+        }
+
+        private void addError(final String keyword, final String message) {
+            if (errors.size() == MAX_ERRORS) {
+                return;
+            }
+            errors.add(new PathError(List.copyOf(path), VALIDATION_RESPONSE_BODY_SCHEMA_KEY_PREFIX + keyword, message));
+        }
+
+        /** Build result, errors are ordered by path like validator building JSON tree orders them. */
+        private ValidationResult buildResult() {
+            errors.sort(Comparator.comparing(e -> e.path, StreamingJsonSchemaValidator::comparePaths));
+            final ValidationResult.Builder builder = ValidationResult.builder();
+            for (final PathError error : errors) {
+                builder.addError(
+                        error.key,
+                        error.path.isEmpty()
+                                ? error.message
+                                : "[Path '" + toPointer(error.path) + "'] " + error.message);
+            }
+            return builder.build();
+        }
+    }
+
+    private static final class PathError {
+
+        private final List<Object> path;
+        private final String key;
+        private final String message;
+
+        private PathError(final List<Object> path, final String key, final String message) {
+            this.path = path;
+            this.key = key;
+            this.message = message;
+        }
+    }
+
+    private static String typeOf(final JsonToken token) {
+        switch (token) {
+            case START_OBJECT:
+                return "object";
+            case START_ARRAY:
+                return "array";
+            case VALUE_STRING:
+                return "string";
+            case VALUE_NUMBER_INT:
+                return "integer";
+            case VALUE_NUMBER_FLOAT:
+                return "number";
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return "boolean";
+            default:
+                return "null";
+        }
+    }
+
+    private static int comparePaths(final List<Object> first, final List<Object> second) {
+        final Iterator<Object> firstIterator = first.iterator();
+        final Iterator<Object> secondIterator = second.iterator();
+        while (firstIterator.hasNext() && secondIterator.hasNext()) {
+            final Object firstSegment = firstIterator.next();
+            final Object secondSegment = secondIterator.next();
+            final int comparison = firstSegment instanceof Integer && secondSegment instanceof Integer
+                    ? Integer.compare((Integer) firstSegment, (Integer) secondSegment)
+                    : firstSegment.toString().compareTo(secondSegment.toString());
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+
+        return Boolean.compare(firstIterator.hasNext(), secondIterator.hasNext());
+    }
+
+    private static String toPointer(final List<Object> path) {
+        final StringBuilder pointer = new StringBuilder();
+        for (final Object segment : path) {
+            pointer.append('/')
+                    .append(segment.toString().replace("~", "~0").replace("/", "~1"));
+        }
+        return pointer.toString();
+    }
+
+    private static boolean isOutside(final BigDecimal value, final BigDecimal min, final BigDecimal max) {
+        return value.compareTo(min) < 0 || value.compareTo(max) > 0;
+    }
+
+    private static boolean isDate(final String value) {
+        final Matcher matcher = DATE_PATTERN.matcher(value);
+        return matcher.matches() && isValidDate(matcher.group(1), matcher.group(2), matcher.group(3));
+    }
+
+    private static boolean isDateTime(final String value) {
+        final Matcher matcher = DATE_TIME_PATTERN.matcher(value);
+        return matcher.matches()
+                && isValidDate(matcher.group(1), matcher.group(2), matcher.group(3))
+                && Integer.parseInt(matcher.group(4)) < 24
+                && Integer.parseInt(matcher.group(5)) < 60
+                && Integer.parseInt(matcher.group(6)) < 60
+                && (matcher.group(9) == null
+                        || (Integer.parseInt(matcher.group(9)) < 24 && Integer.parseInt(matcher.group(10)) < 60));
+    }
+
+    private static boolean isValidDate(final String year, final String month, final String day) {
+        try {
+            LocalDate.of(Integer.parseInt(year), Integer.parseInt(month), Integer.parseInt(day));
+            return true;
+        } catch (final DateTimeException e) {
+            return false;
+        }
+    }
+
+    private static String toJson(final Object value) {
+        try {
+            return mapper().writeValueAsString(value);
+        } catch (final JsonProcessingException e) {
+            return String.valueOf(value);
+        }
+    }
+}
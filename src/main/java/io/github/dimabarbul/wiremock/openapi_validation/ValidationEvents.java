@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import java.util.function.Supplier;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events of the extension.
+ *
+ * <p>Events are created, begun and ended unconditionally, and their fields are filled only if they are going to be
+ * committed. When recording is off, this costs a couple of checks, as JIT removes allocation of events that are not
+ * committed.
+ *
+ * <p>Id of stub serving the interaction is bound to the thread validating it, so events name the stub without the id
+ * being passed through validator methods.
+ */
+final class ValidationEvents {
+
+    private static final String PREFIX = "io.github.dimabarbul.wiremock.openapi_validation.";
+
+    private static final EventType VALIDATOR_BUILD_TYPE = EventType.getEventType(ValidatorBuild.class);
+    private static final EventType REQUEST_VALIDATION_TYPE = EventType.getEventType(RequestValidation.class);
+    private static final EventType RESPONSE_VALIDATION_TYPE = EventType.getEventType(ResponseValidation.class);
+    private static final ThreadLocal<String> CURRENT_STUB_ID = new ThreadLocal<>();
+
+    private ValidationEvents() {}
+
+    /** Check whether events about validation of interactions are being recorded. */
+    static boolean isInteractionValidationRecorded() {
+        return REQUEST_VALIDATION_TYPE.isEnabled() || RESPONSE_VALIDATION_TYPE.isEnabled();
+    }
+
+    /** Check whether any event naming stub is being recorded. */
+    static boolean isStubRecorded() {
+        return VALIDATOR_BUILD_TYPE.isEnabled() || isInteractionValidationRecorded();
+    }
+
+    /** Get id of stub serving the interaction validated on current thread, null if it is not known. */
+    static String currentStubId() {
+        return CURRENT_STUB_ID.get();
+    }
+
+    /**
+     * Call the action with id of stub bound to current thread.
+     *
+     * @param stubId Id of stub serving the interaction, nothing is bound if it is null
+     * @param action Action to call
+     * @return Result of the action
+     */
+    static <T> T callForStub(final String stubId, final Supplier<T> action) {
+        final String previous = CURRENT_STUB_ID.get();
+        CURRENT_STUB_ID.set(stubId);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT_STUB_ID.set(previous);
+            } else {
+                CURRENT_STUB_ID.remove();
+            }
+        }
+    }
+
+    @Name(PREFIX + "SpecLoad")
+    @Label("OpenAPI File Load")
+    @Description("Loading and parsing of OpenAPI file")
+    @Category({"WireMock", "OpenAPI Validation"})
+    @StackTrace(false)
+    static final class SpecLoad extends Event {
+
+        @Label("OpenAPI File Path")
+        String openapiFilePath;
+
+        @Label("Snapshot Directory")
+        String snapshotDirectory;
+    }
+
+    @Name(PREFIX + "ValidatorBuild")
+    @Label("Validator Build")
+    @Description("Building of validator for OpenAPI file or for options of a stub")
+    @Category({"WireMock", "OpenAPI Validation"})
+    @StackTrace(false)
+    static final class ValidatorBuild extends Event {
+
+        @Label("Validation Depth")
+        String validationDepth;
+
+        @Label("Variant")
+        @Description("Whether the validator has been built for options of a stub, i.e. on validator cache miss")
+        boolean variant;
+
+        @Label("Stub Id")
+        String stubId;
+    }
+
+    @Name(PREFIX + "RequestValidation")
+    @Label("Request Validation")
+    @Category({"WireMock", "OpenAPI Validation"})
+    @StackTrace(false)
+    static final class RequestValidation extends Event {
+
+        @Label("Operation")
+        @Description("Operation id or, if it is not set, method and path")
+        String operation;
+
+        @Label("Stub Id")
+        String stubId;
+
+        @Label("Body Size")
+        @DataAmount
+        long bodySize;
+
+        @Label("Error Count")
+        int errorCount;
+    }
+
+    @Name(PREFIX + "ResponseValidation")
+    @Label("Response Validation")
+    @Category({"WireMock", "OpenAPI Validation"})
+    @StackTrace(false)
+    static final class ResponseValidation extends Event {
+
+        @Label("Operation")
+        @Description("Operation id or, if it is not set, method and path")
+        String operation;
+
+        @Label("Stub Id")
+        String stubId;
+
+        @Label("Body Size")
+        @Description("Size of response body, -1 if it is larger than streaming body threshold")
+        @DataAmount
+        long bodySize;
+
+        @Label("Error Count")
+        int errorCount;
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import com.google.common.cache.CacheStats;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms of validation. Recording only increments striped counters, so it does not contend
+ * between threads, and histograms have fixed buckets, so their memory does not grow with number of recordings.
+ *
+ * <p>Metrics are exposed in JSON and in Prometheus text format.
+ */
+final class ValidationMetrics {
+
+    /** Upper bounds of histogram buckets in seconds. */
+    private static final double[] BUCKET_BOUNDS_SECONDS = {
+        0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+
+    private static final long[] BUCKET_BOUNDS_NANOS = new long[BUCKET_BOUNDS_SECONDS.length];
+    /** Names of histogram buckets, the last one is for durations above the largest bound. */
+    private static final String[] BUCKET_NAMES = new String[BUCKET_BOUNDS_SECONDS.length + 1];
+
+    static {
+        for (int i = 0; i < BUCKET_BOUNDS_SECONDS.length; i++) {
+            BUCKET_BOUNDS_NANOS[i] = (long) (BUCKET_BOUNDS_SECONDS[i] * TimeUnit.SECONDS.toNanos(1));
+            BUCKET_NAMES[i] = BigDecimal.valueOf(BUCKET_BOUNDS_SECONDS[i])
+                    .stripTrailingZeros()
+                    .toPlainString();
+        }
+        BUCKET_NAMES[BUCKET_BOUNDS_SECONDS.length] = "+Inf";
+    }
+
+    private final Map<String, Histogram> requestValidation = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> responseValidation = new ConcurrentHashMap<>();
+    private final Histogram validatorBuild = new Histogram();
+    private final Histogram specParse = new Histogram();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    /**
+     * Record duration of request validation.
+     *
+     * @param operation Operation id or method and path of operation the request is for
+     * @param nanos Duration in nanoseconds
+     */
+    void recordRequestValidation(final String operation, final long nanos) {
+        requestValidation.computeIfAbsent(operation, o -> new Histogram()).record(nanos);
+    }
+
+    /**
+     * Record duration of response validation.
+     *
+     * @param operation Operation id or method and path of operation the response is for
+     * @param nanos Duration in nanoseconds
+     */
+    void recordResponseValidation(final String operation, final long nanos) {
+        responseValidation.computeIfAbsent(operation, o -> new Histogram()).record(nanos);
+    }
+
+    void recordValidatorBuild(final long nanos) {
+        validatorBuild.record(nanos);
+    }
+
+    void recordSpecParse(final long nanos) {
+        specParse.record(nanos);
+    }
+
+    void recordError(final String key) {
+        errors.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Build JSON representation of metrics.
+     *
+     * @param caches Statistics of caches by their names
+     * @return Metrics ready to be serialized to JSON
+     */
+    Map<String, Object> buildJson(final Map<String, CacheStats> caches) {
+        final Map<String, Object> json = new LinkedHashMap<>();
+        json.put("requestValidation", toJson(requestValidation));
+        json.put("responseValidation", toJson(responseValidation));
+        json.put("validatorBuild", validatorBuild.toJson());
+        json.put("specParse", specParse.toJson());
+        final Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((key, count) -> errorCounts.put(key, count.sum()));
+        json.put("errors", errorCounts);
+        final Map<String, Object> cacheJson = new LinkedHashMap<>();
+        caches.forEach((name, stats) -> {
+            final Map<String, Object> cache = new LinkedHashMap<>();
+            cache.put("hitCount", stats.hitCount());
+            cache.put("missCount", stats.missCount());
+            cache.put("hitRate", stats.hitRate());
+            cache.put("evictionCount", stats.evictionCount());
+            cacheJson.put(name, cache);
+        });
+        json.put("caches", cacheJson);
+        return json;
+    }
+
+    /**
+     * Build representation of metrics in Prometheus text format.
+     *
+     * @param caches Statistics of caches by their names
+     * @return Metrics in Prometheus text format
+     */
+    String buildPrometheus(final Map<String, CacheStats> caches) {
+        final StringBuilder text = new StringBuilder();
+        appendHistograms(
+                text,
+                "openapi_validation_request_duration_seconds",
+                "Duration of request validation by operation.",
+                requestValidation);
+        appendHistograms(
+                text,
+                "openapi_validation_response_duration_seconds",
+                "Duration of response validation by operation.",
+                responseValidation);
+        appendHistograms(
+                text,
+                "openapi_validation_validator_build_duration_seconds",
+                "Duration of building validator.",
+                Map.of("", validatorBuild));
+        appendHistograms(
+                text,
+                "openapi_validation_spec_parse_duration_seconds",
+                "Duration of parsing OpenAPI file.",
+                Map.of("", specParse));
+
+        appendHeader(text, "openapi_validation_errors_total", "Number of validation errors by key.", "counter");
+        new TreeMap<>(errors)
+                .forEach((key, count) -> appendSample(
+                        text, "openapi_validation_errors_total", label("key", key), count.sum()));
+
+        appendHeader(text, "openapi_validation_cache_hits_total", "Number of cache hits.", "counter");
+        caches.forEach((name, stats) -> appendSample(
+                text, "openapi_validation_cache_hits_total", label("cache", name), stats.hitCount()));
+        appendHeader(text, "openapi_validation_cache_misses_total", "Number of cache misses.", "counter");
+        caches.forEach((name, stats) -> appendSample(
+                text, "openapi_validation_cache_misses_total", label("cache", name), stats.missCount()));
+        appendHeader(text, "openapi_validation_cache_hit_ratio", "Share of cache lookups that were hits.", "gauge");
+        caches.forEach((name, stats) -> appendSample(
+                text, "openapi_validation_cache_hit_ratio", label("cache", name), stats.hitRate()));
+        return text.toString();
+    }
+
+    private static Map<String, Object> toJson(final Map<String, Histogram> histograms) {
+        final Map<String, Object> json = new TreeMap<>();
+        histograms.forEach((operation, histogram) -> json.put(operation, histogram.toJson()));
+        return json;
+    }
+
+    private static void appendHistograms(
+            final StringBuilder text,
+            final String name,
+            final String help,
+            final Map<String, Histogram> histograms) {
+        appendHeader(text, name, help, "histogram");
+        new TreeMap<>(histograms).forEach((operation, histogram) -> {
+            final String operationLabel = operation.isEmpty() ? "" : label("operation", operation) + ",";
+            final long[] counts = histogram.bucketCounts();
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                appendSample(text, name + "_bucket", operationLabel + label("le", BUCKET_NAMES[i]), cumulative);
+            }
+            final String labels = operation.isEmpty() ? "" : label("operation", operation);
+            appendSample(text, name + "_sum", labels, histogram.sumSeconds());
+            appendSample(text, name + "_count", labels, cumulative);
+        });
+    }
+
+    private static void appendHeader(
+            final StringBuilder text, final String name, final String help, final String type) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void appendSample(
+            final StringBuilder text, final String name, final String labels, final Object value) {
+        text.append(name);
+        if (!labels.isEmpty()) {
+            text.append('{').append(labels).append('}');
+        }
+        text.append(' ').append(value).append('\n');
+    }
+
+    private static String label(final String name, final String value) {
+        return name + "=\""
+                + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+    }
+
+    /** Histogram with fixed buckets, the last bucket counts durations above the largest bound. */
+    private static final class Histogram {
+
+        private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_NANOS.length + 1];
+        private final LongAdder sumNanos = new LongAdder();
+
+        private Histogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void record(final long nanos) {
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_NANOS.length && nanos > BUCKET_BOUNDS_NANOS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+            sumNanos.add(nanos);
+        }
+
+        private long[] bucketCounts() {
+            final long[] counts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+            }
+            return counts;
+        }
+
+        private double sumSeconds() {
+            return (double) sumNanos.sum() / TimeUnit.SECONDS.toNanos(1);
+        }
+
+        private Map<String, Object> toJson() {
+            final long[] counts = bucketCounts();
+            long count = 0;
+            final Map<String, Long> bucketJson = new LinkedHashMap<>();
+            for (int i = 0; i < counts.length; i++) {
+                count += counts[i];
+                bucketJson.put(BUCKET_NAMES[i], counts[i]);
+            }
+            final Map<String, Object> json = new LinkedHashMap<>();
+            json.put("count", count);
+            json.put("sumSeconds", sumSeconds());
+            json.put("buckets", bucketJson);
+            return json;
+        }
+    }
+}
@@ -32,6 +32,62 @@ final class ValidationParameter {
     public static final ValidationParameter IGNORE_ERRORS = new ValidationParameter("openapi_validation_ignore_errors");
     public static final ValidationParameter DEFAULT_RESPONSE_CONTENT_TYPE =
             new ValidationParameter("openapi_validation_default_response_content_type");
+    public static final ValidationParameter VALIDATOR_CACHE_SIZE =
+            new ValidationParameter("openapi_validation_validator_cache_size");
+    public static final ValidationParameter ASYNC_LOADING = new ValidationParameter("openapi_validation_async_loading");
+    public static final ValidationParameter NOT_READY_POLICY =
+            new ValidationParameter("openapi_validation_not_ready_policy");
+    public static final ValidationParameter NOT_READY_TIMEOUT =
+            new ValidationParameter("openapi_validation_not_ready_timeout");
+    public static final ValidationParameter SNAPSHOT_DIRECTORY =
+            new ValidationParameter("openapi_validation_snapshot_directory");
+    public static final ValidationParameter WATCH_INTERVAL =
+            new ValidationParameter("openapi_validation_watch_interval");
+    public static final ValidationParameter SPECS = new ValidationParameter("openapi_validation_specs");
+    public static final ValidationParameter SPEC_NAME = new ValidationParameter("openapi_validation_spec_name");
+    public static final ValidationParameter VERDICT_CACHE_SIZE =
+            new ValidationParameter("openapi_validation_verdict_cache_size");
+    public static final ValidationParameter REQUEST_VERDICT_CACHE_SIZE =
+            new ValidationParameter("openapi_validation_request_verdict_cache_size");
+    public static final ValidationParameter REQUEST_VERDICT_CACHE_TTL =
+            new ValidationParameter("openapi_validation_request_verdict_cache_ttl");
+    public static final ValidationParameter VALIDATION_MODE = new ValidationParameter("openapi_validation_mode");
+    public static final ValidationParameter REPORT_QUEUE_SIZE =
+            new ValidationParameter("openapi_validation_report_queue_size");
+    public static final ValidationParameter REPORT_THREADS =
+            new ValidationParameter("openapi_validation_report_threads");
+    public static final ValidationParameter SAMPLING_RATE = new ValidationParameter("openapi_validation_sampling_rate");
+    public static final ValidationParameter SHEDDING_LATENCY_BUDGET =
+            new ValidationParameter("openapi_validation_shedding_latency_budget");
+    public static final ValidationParameter SHEDDING_CONCURRENCY_BUDGET =
+            new ValidationParameter("openapi_validation_shedding_concurrency_budget");
+    public static final ValidationParameter SHEDDING_SAMPLING_RATE =
+            new ValidationParameter("openapi_validation_shedding_sampling_rate");
+    public static final ValidationParameter PARALLEL_VALIDATION =
+            new ValidationParameter("openapi_validation_parallel");
+    public static final ValidationParameter PARALLEL_THREADS =
+            new ValidationParameter("openapi_validation_parallel_threads");
+    public static final ValidationParameter PARALLEL_TIMEOUT =
+            new ValidationParameter("openapi_validation_parallel_timeout");
+    public static final ValidationParameter PARALLEL_TIMEOUT_POLICY =
+            new ValidationParameter("openapi_validation_parallel_timeout_policy");
+    public static final ValidationParameter STREAMING_BODY_THRESHOLD =
+            new ValidationParameter("openapi_validation_streaming_body_threshold");
+    public static final ValidationParameter VALIDATION_DEPTH = new ValidationParameter("openapi_validation_depth");
+    public static final ValidationParameter SHALLOW_BODY_THRESHOLD =
+            new ValidationParameter("openapi_validation_shallow_body_threshold");
+    public static final ValidationParameter PARAMETERS_ONLY_BODY_THRESHOLD =
+            new ValidationParameter("openapi_validation_parameters_only_body_threshold");
+    public static final ValidationParameter LOG_QUEUE_SIZE =
+            new ValidationParameter("openapi_validation_log_queue_size");
+    public static final ValidationParameter LOG_BODY_LIMIT =
+            new ValidationParameter("openapi_validation_log_body_limit");
+    public static final ValidationParameter LOG_RATE_LIMIT_INTERVAL =
+            new ValidationParameter("openapi_validation_log_rate_limit_interval");
+    public static final ValidationParameter METRICS = new ValidationParameter("openapi_validation_metrics");
+    public static final ValidationParameter SERVER_TIMING = new ValidationParameter("openapi_validation_server_timing");
+    public static final ValidationParameter SLOW_VALIDATION_THRESHOLD =
+            new ValidationParameter("openapi_validation_slow_threshold");
 
     /** Name in lower_snake_case format. */
     private final String name;
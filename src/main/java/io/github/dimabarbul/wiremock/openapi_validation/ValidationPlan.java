@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Everything needed to validate requests served by a stub: options merged with stub transformer parameters, OpenAPI
+ * file requested by the stub and the validator built for them. The plan is computed once per stub, so serving a request
+ * does not need to re-read transformer parameters or merge options.
+ */
+final class ValidationPlan {
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final StubMapping stub;
+    private final long stubVersion;
+    private final ExtensionOptions options;
+    private final OpenApiValidatorOptions validatorOptions;
+    private final String specName;
+    /** Validator built for the plan options from the global validator it was last used with. */
+    private volatile DerivedValidator derivedValidator;
+
+    private ValidationPlan(final StubMapping stub, final ExtensionOptions options, final String specName) {
+        this.stub = stub;
+        this.stubVersion = VERSIONS.incrementAndGet();
+        this.options = options;
+        this.validatorOptions = OpenApiValidatorOptions.fromExtensionOptions(options);
+        this.specName = specName;
+    }
+
+    public static ValidationPlan create(final ExtensionOptions globalOptions, final StubMapping stubMapping) {
+        final ValidationTransformerParameters parameters = ValidationTransformerParameters.fromStubMapping(stubMapping);
+        final ExtensionOptions mergedOptions =
+                ExtensionOptions.builder(globalOptions).mergeWith(parameters).buildMerged();
+        return new ValidationPlan(stubMapping, mergedOptions, parameters.getSpecName());
+    }
+
+    /**
+     * Check whether the plan has been built for exactly this version of the stub. Edited stub keeps its id, but it is
+     * represented by a new object.
+     *
+     * @param stubMapping Stub to check
+     * @return True if the plan has been built for the stub
+     */
+    public boolean isFor(final StubMapping stubMapping) {
+        return stub == stubMapping;
+    }
+
+    public UUID getStubId() {
+        return stub.getId();
+    }
+
+    /**
+     * Get version of the stub the plan has been built for. Each plan gets its own version, so edited stub has version
+     * different from the one it had before the edit.
+     *
+     * @return Version of the stub
+     */
+    public long getStubVersion() {
+        return stubVersion;
+    }
+
+    public ExtensionOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Get name of OpenAPI file the stub should be validated against.
+     *
+     * @return Name of OpenAPI file, null if it should be chosen by request path and host
+     */
+    public String getSpecName() {
+        return specName;
+    }
+
+    /**
+     * Get validator for the plan options. The validator is remembered, so it is built only when the global validator
+     * changes, e.g. because OpenAPI file has been reloaded or request has been routed to another OpenAPI file.
+     *
+     * @param globalValidator Validator built for OpenAPI file with global options
+     * @return Validator built for the plan options
+     */
+    public OpenApiValidator getValidator(final OpenApiValidator globalValidator) {
+        return getValidator(globalValidator, options.getValidationDepth());
+    }
+
+    /**
+     * Get validator for the plan options, but with the validation depth. Validator with depth other than configured for
+     * the plan is taken from validators already built by the global validator.
+     *
+     * @param globalValidator Validator built for OpenAPI file with global options
+     * @param validationDepth Validation depth
+     * @return Validator built for the plan options and the validation depth
+     */
+    public OpenApiValidator getValidator(
+            final OpenApiValidator globalValidator, final ExtensionOptions.ValidationDepth validationDepth) {
+        if (validationDepth != options.getValidationDepth()) {
+            return globalValidator.withOptions(validatorOptions.withValidationDepth(validationDepth));
+        }
+
+        final DerivedValidator derived = derivedValidator;
+        if (derived != null && derived.globalValidator == globalValidator) {
+            return derived.validator;
+        }
+
+        final OpenApiValidator validator = globalValidator.withOptions(validatorOptions);
+        derivedValidator = new DerivedValidator(globalValidator, validator);
+        return validator;
+    }
+
+    public int getFailureStatusCode() {
+        return options.getFailureStatusCode();
+    }
+
+    public double getSamplingRate() {
+        return options.getSamplingRate();
+    }
+
+    /**
+     * Choose how deep the interaction should be validated. Configured depth is lowered when request or response body is
+     * larger than configured threshold.
+     *
+     * @param request Request to validate
+     * @param response Response to validate
+     * @return Validation depth
+     */
+    public ExtensionOptions.ValidationDepth chooseValidationDepth(
+            final LoggedRequest request, final Response response) {
+        final ExtensionOptions.ValidationDepth depth = options.getValidationDepth();
+        if (depth == ExtensionOptions.ValidationDepth.PARAMETERS) {
+            return depth;
+        }
+        if (options.getParametersOnlyBodyThreshold() > 0
+                && BodySize.isAnyLargerThan(request, response, options.getParametersOnlyBodyThreshold())) {
+            return ExtensionOptions.ValidationDepth.PARAMETERS;
+        }
+        if (depth == ExtensionOptions.ValidationDepth.FULL
+                && options.getShallowBodyThreshold() > 0
+                && BodySize.isAnyLargerThan(request, response, options.getShallowBodyThreshold())) {
+            return ExtensionOptions.ValidationDepth.SHALLOW;
+        }
+
+        return depth;
+    }
+
+    private static final class DerivedValidator {
+
+        private final OpenApiValidator globalValidator;
+        private final OpenApiValidator validator;
+
+        private DerivedValidator(final OpenApiValidator globalValidator, final OpenApiValidator validator) {
+            this.globalValidator = globalValidator;
+            this.validator = validator;
+        }
+    }
+}
@@ -15,22 +15,59 @@
  */
 package io.github.dimabarbul.wiremock.openapi_validation;
 
-import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+import static java.net.HttpURLConnection.HTTP_ACCEPTED;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
 
+import com.github.tomakehurst.wiremock.admin.Router;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.Urls;
+import com.github.tomakehurst.wiremock.extension.AdminApiExtension;
 import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
+import com.github.tomakehurst.wiremock.extension.StubLifecycleListener;
 import com.github.tomakehurst.wiremock.http.ContentTypeHeader;
 import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.google.common.cache.CacheStats;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 
 /**
  * WireMock response transformer that validates request and response against OpenAPI file. It returns original response
  * if request and response are valid, otherwise it replaces response with one describing what exactly went wrong.
+ *
+ * <p>The transformer also listens to stub lifecycle events to prepare validation plan for each stub in advance, so
+ * serving a request requires only a lookup by stub id.
+ *
+ * <p>Several OpenAPI files can be configured, each bound to path prefixes, hosts or referred to by name from stubs.
+ * Request is validated against the file chosen by stub transformer parameter or, if it is not set, by request host and
+ * path.
+ *
+ * <p>Status of OpenAPI files loading is available via admin API at {@code /__admin/openapi-validation/status}. The
+ * files can be reloaded via {@code /__admin/openapi-validation/reload} or automatically when they change. When
+ * metrics are enabled, they are available at {@code /__admin/openapi-validation/metrics}.
  */
-public final class ValidationResponseTransformer implements ResponseTransformerV2 {
+public final class ValidationResponseTransformer
+        implements ResponseTransformerV2, StubLifecycleListener, AdminApiExtension {
 
     private static final List<String> DEFAULT_OPENAPI_FILE_PATHS = List.of(
             "openapi.json",
@@ -39,9 +76,32 @@ public final class ValidationResponseTransformer implements ResponseTransformerV
             "/home/wiremock/openapi.json",
             "/home/wiremock/openapi.yaml",
             "/home/wiremock/openapi.yml");
+    private static final String VALIDATION_REQUEST_SPEC_MISSING_KEY = "validation.request.spec.missing";
+    private static final String VALIDATION_REQUEST_SPEC_UNKNOWN_KEY = "validation.request.spec.unknown";
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+    /** Prefix of metric names in {@code Server-Timing} header, so they are not confused with ones added by others. */
+    private static final String SERVER_TIMING_PREFIX = "openapi-";
 
     private final ExtensionOptions options;
-    private final OpenApiValidator globalValidator;
+    private final Map<String, OpenApiSpec> specs;
+    private final OpenApiSpecRouter<OpenApiSpec> specRouter = new OpenApiSpecRouter<>();
+    private final Map<UUID, ValidationPlan> plans = new ConcurrentHashMap<>();
+    private final ValidationSampler sampler = new ValidationSampler();
+    /** Validator of interactions in report-only mode, null if interactions are validated inline. */
+    private final BackgroundValidator backgroundValidator;
+    /** Verdicts of response validation, null if they are not remembered. */
+    private final ResponseVerdictCache verdictCache;
+    /** Degrades validation under load, null if validation is never degraded. */
+    private final LoadShedder loadShedder;
+    /** Validates request and response at the same time, null if they are validated one after another. */
+    private final ParallelInteractionValidator parallelValidator;
+    private final FailureLogger failureLogger;
+    /** Validation metrics, null if they are not collected. */
+    private final ValidationMetrics metrics;
+    /** Number of validated interactions by depth they have been validated with. */
+    private final Map<ExtensionOptions.ValidationDepth, LongAdder> validationDepthCounts =
+            new EnumMap<>(ExtensionOptions.ValidationDepth.class);
 
     /**
      * Create a new instance of {@link ValidationResponseTransformer} with options configured by environment variables
@@ -52,21 +112,77 @@ public final class ValidationResponseTransformer implements ResponseTransformerV
         this(ExtensionOptions.fromSystemParameters());
     }
 
+    /**
+     * Create a new instance of {@link ValidationResponseTransformer}.
+     *
+     * @param options Options to use
+     */
+    public ValidationResponseTransformer(final ExtensionOptions options) {
+        this.options = options.getSpecs().isEmpty() ? guessOpenapiFilePathIfAbsent(options) : options;
+        this.backgroundValidator = this.options.getValidationMode() == ExtensionOptions.ValidationMode.REPORT_ONLY
+                ? new BackgroundValidator(this.options.getReportThreads(), this.options.getReportQueueSize())
+                : null;
+        this.verdictCache = this.options.getVerdictCacheSize() > 0
+                ? new ResponseVerdictCache(
+                        this.options.getVerdictCacheSize(), this.options.getStreamingBodyThreshold())
+                : null;
+        this.loadShedder =
+                this.options.getSheddingLatencyBudgetMillis() > 0 || this.options.getSheddingConcurrencyBudget() > 0
+                        ? new LoadShedder(
+                                this.options.getSheddingLatencyBudgetMillis(),
+                                this.options.getSheddingConcurrencyBudget(),
+                                this.options.getSheddingSamplingRate())
+                        : null;
+        this.failureLogger = new FailureLogger(
+                this.options.getLogQueueSize(),
+                this.options.getLogBodyLimit(),
+                this.options.getLogRateLimitIntervalMillis());
+        this.metrics = this.options.isMetricsEnabled() ? new ValidationMetrics() : null;
+        for (final ExtensionOptions.ValidationDepth depth : ExtensionOptions.ValidationDepth.values()) {
+            validationDepthCounts.put(depth, new LongAdder());
+        }
+        this.parallelValidator = this.options.isParallelValidation()
+                ? new ParallelInteractionValidator(
+                        this.options.getParallelThreads(),
+                        this.options.getParallelTimeoutMillis(),
+                        this.options.getParallelTimeoutPolicy())
+                : null;
+
+        final Map<String, OpenApiSpec> loadedSpecs = new LinkedHashMap<>();
+        for (final OpenApiSpecDefinition definition : getSpecDefinitions(this.options)) {
+            if (loadedSpecs.containsKey(definition.getName())) {
+                throw new IllegalArgumentException(
+                        String.format("OpenAPI file name \"%s\" is used more than once", definition.getName()));
+            }
+
+            final OpenApiSpec spec = new OpenApiSpec(definition, this.options, metrics);
+            loadedSpecs.put(definition.getName(), spec);
+            specRouter.add(definition, spec);
+            if (verdictCache != null) {
+                spec.addReloadListener(() -> verdictCache.invalidateSpec(definition.getName()));
+            }
+        }
+        this.specs = Collections.unmodifiableMap(loadedSpecs);
+    }
+
     @Override
     public void start() {
         if (options.shouldPrintConfiguration()) {
             printConfiguration();
         }
+        specs.values().forEach(OpenApiSpec::start);
     }
 
-    /**
-     * Create a new instance of {@link ValidationResponseTransformer}.
-     *
-     * @param options Options to use
-     */
-    public ValidationResponseTransformer(final ExtensionOptions options) {
-        this.options = guessOpenapiFilePathIfAbsent(options);
-        this.globalValidator = OpenApiValidator.create(this.options);
+    @Override
+    public void stop() {
+        specs.values().forEach(OpenApiSpec::stop);
+        if (backgroundValidator != null) {
+            backgroundValidator.stop();
+        }
+        if (parallelValidator != null) {
+            parallelValidator.stop();
+        }
+        failureLogger.stop();
     }
 
     @Override
@@ -76,31 +192,467 @@ public final class ValidationResponseTransformer implements ResponseTransformerV
         }
 
         final LoggedRequest request = serveEvent.getRequest();
+        final ValidationPlan plan = getPlan(serveEvent.getStubMapping());
+        final LoadShedder.Level sheddingLevel = loadShedder != null ? loadShedder.getLevel() : LoadShedder.Level.NONE;
+        if (sheddingLevel == LoadShedder.Level.PASS_THROUGH) {
+            return extendResponse(response);
+        }
+
+        final double samplingRate = sheddingLevel == LoadShedder.Level.SAMPLE
+                ? Math.min(plan.getSamplingRate(), loadShedder.getSheddingSamplingRate())
+                : plan.getSamplingRate();
+        if (!sampler.shouldValidate(plan.getStubId(), request, samplingRate)) {
+            return extendResponse(response);
+        }
+
+        final boolean validateResponseBody = sheddingLevel == LoadShedder.Level.NONE;
+        if (backgroundValidator != null) {
+            final Response extendedResponse = extendResponse(response);
+            final Response snapshot = snapshot(extendedResponse);
+            backgroundValidator.submit(
+                    () -> validateForStub(plan, request, snapshot, validateResponseBody, false) != snapshot);
+            return extendedResponse;
+        }
+
+        return validateForStub(plan, request, response, validateResponseBody, options.isServerTimingEnabled());
+    }
+
+    /** Validate the interaction with id of its stub bound for JFR events if they are recorded. */
+    private Response validateForStub(
+            final ValidationPlan plan,
+            final LoggedRequest request,
+            final Response response,
+            final boolean validateResponseBody,
+            final boolean addServerTiming) {
+        if (ValidationEvents.isStubRecorded() && plan.getStubId() != null) {
+            return ValidationEvents.callForStub(
+                    plan.getStubId().toString(),
+                    () -> validateMeasured(plan, request, response, validateResponseBody, addServerTiming));
+        }
+
+        return validateMeasured(plan, request, response, validateResponseBody, addServerTiming);
+    }
+
+    private Response validateMeasured(
+            final ValidationPlan plan,
+            final LoggedRequest request,
+            final Response response,
+            final boolean validateResponseBody,
+            final boolean addServerTiming) {
+        return isPhaseTrackingNeeded()
+                ? validateTimed(plan, request, response, validateResponseBody, addServerTiming)
+                : validate(plan, request, response, validateResponseBody);
+    }
+
+    /** Check whether interaction should be validated with phase timer. */
+    private boolean isPhaseTrackingNeeded() {
+        return options.isServerTimingEnabled() || options.getSlowValidationThresholdMillis() > 0;
+    }
+
+    /**
+     * Validate the interaction measuring its phases, log it if it is slow.
+     *
+     * @param addServerTiming Whether durations of phases should be added to returned response
+     * @return Response to return: the response itself (possibly extended) if it should not be replaced, otherwise error
+     *     response
+     */
+    private Response validateTimed(
+            final ValidationPlan plan,
+            final LoggedRequest request,
+            final Response response,
+            final boolean validateResponseBody,
+            final boolean addServerTiming) {
+        final PhaseTimer timer = new PhaseTimer();
+        final Response result =
+                PhaseTimer.callWith(timer, () -> validate(plan, request, response, validateResponseBody));
+        final long totalNanos = timer.getElapsedNanos();
+        if (options.getSlowValidationThresholdMillis() > 0
+                && totalNanos > TimeUnit.MILLISECONDS.toNanos(options.getSlowValidationThresholdMillis())) {
+            failureLogger.logSlowValidation(plan.getStubId(), request, timer, totalNanos);
+        }
+        if (!addServerTiming) {
+            return result;
+        }
+
+        return Response.Builder.like(result)
+                .headers(result.getHeaders()
+                        .plus(HttpHeader.httpHeader(
+                                SERVER_TIMING_HEADER, timer.toServerTiming(SERVER_TIMING_PREFIX, totalNanos))))
+                .build();
+    }
+
+    /**
+     * Validate the interaction, reporting its duration to load shedder.
+     *
+     * @return Response to return: the response itself (possibly extended) if it should not be replaced, otherwise error
+     *     response
+     */
+    private Response validate(
+            final ValidationPlan plan,
+            final LoggedRequest request,
+            final Response response,
+            final boolean validateResponseBody) {
+        if (loadShedder == null) {
+            return validateInteraction(plan, request, response, validateResponseBody);
+        }
+
+        final long startNanos = loadShedder.enter();
+        try {
+            return validateInteraction(plan, request, response, validateResponseBody);
+        } finally {
+            loadShedder.exit(startNanos);
+        }
+    }
+
+    /**
+     * Validate the interaction.
+     *
+     * @return Response to return: the response itself (possibly extended) if it should not be replaced, otherwise error
+     *     response
+     */
+    private Response validateInteraction(
+            final ValidationPlan plan,
+            final LoggedRequest request,
+            final Response response,
+            final boolean validateResponseBody) {
+        final long lookupStartNanos = System.nanoTime();
+        final Optional<OpenApiSpec> spec = findSpec(plan, request);
+        if (spec.isEmpty()) {
+            final ValidationResult specNotFoundResult = buildSpecNotFoundResult(plan, request);
+            final Response errorResponse = ErrorResponseBuilder.buildResponse(
+                    plan.getFailureStatusCode(), specNotFoundResult, ValidationResult.builder().build());
+            log(plan, request, response, errorResponse, specNotFoundResult, ValidationResult.builder().build());
+            return errorResponse;
+        }
+
+        final ValidatorLoader validatorLoader = spec.get().getValidatorLoader();
+        final Optional<OpenApiValidator> globalValidator = awaitGlobalValidator(validatorLoader);
+        PhaseTimer.record(PhaseTimer.Phase.LOOKUP, lookupStartNanos);
+        if (globalValidator.isEmpty()) {
+            return buildNotReadyResponse(response, validatorLoader);
+        }
+
+        final long convertStartNanos = System.nanoTime();
         final Response extendedResponse = extendResponse(response);
+        PhaseTimer.record(PhaseTimer.Phase.CONVERT, convertStartNanos);
 
-        final ValidationTransformerParameters parameters = ValidationTransformerParameters.fromServeEvent(serveEvent);
-        final ExtensionOptions mergedOptions =
-                ExtensionOptions.builder(options).mergeWith(parameters).build();
-        final OpenApiValidator validator =
-                globalValidator.withOptions(OpenApiValidatorOptions.fromExtensionOptions(mergedOptions));
-        final ValidationResult requestValidationResult = validator.validateRequest(request);
-        final ValidationResult responseValidationResult = validator.validateResponse(request, extendedResponse);
+        final long mergeStartNanos = System.nanoTime();
+        final ExtensionOptions.ValidationDepth validationDepth = plan.chooseValidationDepth(request, extendedResponse);
+        validationDepthCounts.get(validationDepth).increment();
+        final OpenApiValidator validator = plan.getValidator(globalValidator.get(), validationDepth);
+        PhaseTimer.record(PhaseTimer.Phase.MERGE, mergeStartNanos);
+        final ResponseVerdictCache.Key verdictKey = verdictCache != null
+                ? verdictCache.key(plan, spec.get().getName(), validator, request, extendedResponse)
+                : null;
+        final ResponseVerdictCache.Verdict verdict = verdictKey != null ? verdictCache.get(verdictKey) : null;
+        if (verdict != null) {
+            return validateWithKnownVerdict(plan, validator, request, extendedResponse, verdict, validationDepth);
+        }
+
+        final InteractionValidationResult validationResult = parallelValidator != null
+                ? parallelValidator.validate(validator, request, extendedResponse, validateResponseBody)
+                : validator.validateInteraction(request, extendedResponse, validateResponseBody);
+        // Verdict without response body validation must not be reused when body is validated again.
+        if (verdictKey != null && validateResponseBody) {
+            verdictCache.put(
+                    verdictKey, plan.getFailureStatusCode(), validationResult.getResponseResult(), validationDepth);
+        }
 
-        if (requestValidationResult.hasErrors() || responseValidationResult.hasErrors()) {
+        if (validationResult.hasErrors()) {
             final Response errorResponse = ErrorResponseBuilder.buildResponse(
-                    mergedOptions.getFailureStatusCode(), requestValidationResult, responseValidationResult);
-            log(request, extendedResponse, errorResponse);
+                    plan.getFailureStatusCode(),
+                    validationResult.getRequestResult(),
+                    validationResult.getResponseResult(),
+                    validationDepth);
+            log(
+                    plan,
+                    request,
+                    extendedResponse,
+                    errorResponse,
+                    validationResult.getRequestResult(),
+                    validationResult.getResponseResult());
             return errorResponse;
         }
 
         return extendedResponse;
     }
 
+    /** Copy response, so its body can be read later, after the response has been sent. */
+    private static Response snapshot(final Response response) {
+        return Response.Builder.like(response).body(response.getBody()).build();
+    }
+
+    private Response validateWithKnownVerdict(
+            final ValidationPlan plan,
+            final OpenApiValidator validator,
+            final LoggedRequest request,
+            final Response response,
+            final ResponseVerdictCache.Verdict verdict,
+            final ExtensionOptions.ValidationDepth validationDepth) {
+        final ValidationResult requestResult = validator.validateRequest(request);
+        final Response errorResponse = requestResult.hasErrors()
+                ? ErrorResponseBuilder.buildResponse(
+                        plan.getFailureStatusCode(), requestResult, verdict.getResponseResult(), validationDepth)
+                : verdict.getErrorResponse();
+        if (errorResponse == null) {
+            return response;
+        }
+
+        log(plan, request, response, errorResponse, requestResult, verdict.getResponseResult());
+        return errorResponse;
+    }
+
     @Override
     public String getName() {
         return "openapi-validation";
     }
 
+    @Override
+    public void contributeAdminApiRoutes(final Router router) {
+        router.add(RequestMethod.GET, "/openapi-validation/status", (admin, serveEvent, pathParams) -> buildStatus());
+        router.add(
+                RequestMethod.POST,
+                "/openapi-validation/reload",
+                (admin, serveEvent, pathParams) -> handleReloadRequest(serveEvent.getRequest()));
+        router.add(
+                RequestMethod.GET,
+                "/openapi-validation/metrics",
+                (admin, serveEvent, pathParams) -> buildMetrics(serveEvent.getRequest()));
+    }
+
+    /** Reject stub with invalid validation parameters, so that it does not fail every request it matches. */
+    @Override
+    public void beforeStubCreated(final StubMapping stub) {
+        ValidationTransformerParameters.fromStubMapping(stub);
+    }
+
+    @Override
+    public void afterStubCreated(final StubMapping stub) {
+        final ValidationPlan plan = createPlan(stub);
+        plans.put(stub.getId(), plan);
+
+        // Build validator for the stub in advance when it is known which OpenAPI file the stub is validated against.
+        final OpenApiSpec spec = plan.getSpecName() != null
+                ? specs.get(plan.getSpecName())
+                : specs.size() == 1 ? specs.values().iterator().next() : null;
+        if (spec != null) {
+            spec.getValidatorLoader().getIfReady().ifPresent(plan::getValidator);
+        }
+    }
+
+    @Override
+    public void beforeStubEdited(final StubMapping oldStub, final StubMapping newStub) {
+        ValidationTransformerParameters.fromStubMapping(newStub);
+    }
+
+    @Override
+    public void afterStubEdited(final StubMapping oldStub, final StubMapping newStub) {
+        plans.remove(oldStub.getId());
+        if (verdictCache != null) {
+            verdictCache.invalidateStub(oldStub.getId());
+        }
+        afterStubCreated(newStub);
+    }
+
+    @Override
+    public void afterStubRemoved(final StubMapping stub) {
+        plans.remove(stub.getId());
+        if (verdictCache != null) {
+            verdictCache.invalidateStub(stub.getId());
+        }
+    }
+
+    @Override
+    public void afterStubsReset() {
+        plans.clear();
+        if (verdictCache != null) {
+            verdictCache.invalidateAll();
+        }
+    }
+
+    private static List<OpenApiSpecDefinition> getSpecDefinitions(final ExtensionOptions options) {
+        final List<OpenApiSpecDefinition> definitions = new ArrayList<>(options.getSpecs());
+        if (options.getOpenapiFilePath() != null) {
+            definitions.add(
+                    OpenApiSpecDefinition.builder(OpenApiSpecDefinition.DEFAULT_NAME, options.getOpenapiFilePath())
+                            .build());
+        }
+
+        return definitions;
+    }
+
+    private Optional<OpenApiSpec> findSpec(final ValidationPlan plan, final LoggedRequest request) {
+        if (plan.getSpecName() != null) {
+            return Optional.ofNullable(specs.get(plan.getSpecName()));
+        }
+
+        return specRouter.route(request.getHost(), Urls.getPath(request.getUrl()));
+    }
+
+    private static ValidationResult buildSpecNotFoundResult(final ValidationPlan plan, final LoggedRequest request) {
+        return plan.getSpecName() != null
+                ? ValidationResult.builder()
+                        .addError(
+                                VALIDATION_REQUEST_SPEC_UNKNOWN_KEY,
+                                String.format("OpenAPI file \"%s\" is not configured", plan.getSpecName()))
+                        .build()
+                : ValidationResult.builder()
+                        .addError(
+                                VALIDATION_REQUEST_SPEC_MISSING_KEY,
+                                String.format(
+                                        "No OpenAPI file is configured for host '%s' and path '%s'",
+                                        request.getHost(), Urls.getPath(request.getUrl())))
+                        .build();
+    }
+
+    private Optional<OpenApiValidator> awaitGlobalValidator(final ValidatorLoader validatorLoader) {
+        return options.getNotReadyPolicy() == ExtensionOptions.NotReadyPolicy.BLOCK
+                ? validatorLoader.await(options.getNotReadyTimeoutMillis())
+                : validatorLoader.getIfReady();
+    }
+
+    private Response buildNotReadyResponse(final Response response, final ValidatorLoader validatorLoader) {
+        if (options.getNotReadyPolicy() == ExtensionOptions.NotReadyPolicy.PASS_THROUGH) {
+            return extendResponse(response);
+        }
+
+        return ErrorResponseBuilder.buildUnavailableResponse(
+                validatorLoader.getError().orElse("OpenAPI file is still being loaded"));
+    }
+
+    private ValidationPlan getPlan(final StubMapping stub) {
+        final ValidationPlan plan = plans.get(stub.getId());
+        if (plan != null && plan.isFor(stub)) {
+            return plan;
+        }
+
+        // Plans are cached only by stub lifecycle events. Stub without plan might have been removed or edited while the
+        // request was in flight, and caching plan for it here would bring back the entry the event has just removed.
+        return createPlan(stub);
+    }
+
+    private ValidationPlan createPlan(final StubMapping stub) {
+        return ValidationPlan.create(options, stub);
+    }
+
+    private ResponseDefinition buildStatus() {
+        final List<Map<String, Object>> specStatuses = new ArrayList<>(specs.size());
+        final List<ValidatorLoader> loaders = new ArrayList<>(specs.size());
+        for (final OpenApiSpec spec : specs.values()) {
+            loaders.add(spec.getValidatorLoader());
+            specStatuses.add(spec.buildStatus());
+        }
+
+        final ValidatorLoader.Status status = aggregateStatus(loaders);
+        return ResponseDefinitionBuilder.jsonResponse(
+                statusBody(status, specStatuses), status == ValidatorLoader.Status.READY ? HTTP_OK : HTTP_UNAVAILABLE);
+    }
+
+    /** Build body shared by status and reload responses: given status of OpenAPI files and extension state. */
+    private Map<String, Object> statusBody(
+            final ValidatorLoader.Status status, final List<Map<String, Object>> specStatuses) {
+        final Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", status);
+        body.put("specs", specStatuses);
+        body.put("sampling", sampler.buildStatus());
+        body.put("validationDepth", buildValidationDepthStatus());
+        body.put("failureLogging", failureLogger.buildStatus());
+        if (backgroundValidator != null) {
+            body.put("reportOnlyValidation", backgroundValidator.buildStatus());
+        }
+        if (loadShedder != null) {
+            body.put("loadShedding", loadShedder.buildStatus());
+        }
+        if (parallelValidator != null) {
+            body.put("parallelValidation", parallelValidator.buildStatus());
+        }
+        return body;
+    }
+
+    private Map<String, Object> buildValidationDepthStatus() {
+        final Map<String, Object> status = new LinkedHashMap<>();
+        validationDepthCounts.forEach((depth, count) -> status.put(depth.name(), count.sum()));
+        return status;
+    }
+
+    private ResponseDefinition buildMetrics(final LoggedRequest request) {
+        if (metrics == null) {
+            return ResponseDefinitionBuilder.jsonResponse(
+                    Map.of("error", "Metrics are not enabled"), HTTP_NOT_FOUND);
+        }
+
+        final Map<String, CacheStats> caches = new LinkedHashMap<>();
+        specs.forEach((name, spec) ->
+                spec.getCacheStats().forEach((cacheName, stats) -> caches.put(name + "." + cacheName, stats)));
+        if (verdictCache != null) {
+            caches.put("responseVerdicts", verdictCache.stats());
+        }
+
+        if (request.queryParameter("format").isPresent()
+                && "prometheus".equals(request.queryParameter("format").firstValue())) {
+            return ResponseDefinitionBuilder.responseDefinition()
+                    .withStatus(HTTP_OK)
+                    .withHeader("Content-Type", PROMETHEUS_CONTENT_TYPE)
+                    .withBody(metrics.buildPrometheus(caches))
+                    .build();
+        }
+
+        return ResponseDefinitionBuilder.jsonResponse(metrics.buildJson(caches), HTTP_OK);
+    }
+
+    private ResponseDefinition handleReloadRequest(final LoggedRequest request) {
+        final Collection<OpenApiSpec> specsToReload;
+        if (request.queryParameter("spec").isPresent()) {
+            final OpenApiSpec spec = specs.get(request.queryParameter("spec").firstValue());
+            if (spec == null) {
+                return ResponseDefinitionBuilder.jsonResponse(
+                        Map.of(
+                                "error",
+                                "Unknown OpenAPI file "
+                                        + request.queryParameter("spec").firstValue()),
+                        HTTP_NOT_FOUND);
+            }
+            specsToReload = List.of(spec);
+        } else {
+            specsToReload = specs.values();
+        }
+
+        final Map<String, ValidatorLoader> reloadLoaders = new LinkedHashMap<>();
+        specsToReload.forEach(spec -> reloadLoaders.put(spec.getName(), spec.reload()));
+        if (request.queryParameter("wait").isPresent()
+                && Boolean.parseBoolean(request.queryParameter("wait").firstValue())) {
+            reloadLoaders.values().forEach(loader -> loader.await(options.getNotReadyTimeoutMillis()));
+        }
+
+        final List<Map<String, Object>> specStatuses = new ArrayList<>(reloadLoaders.size());
+        reloadLoaders.forEach((name, loader) -> {
+            final Map<String, Object> specStatus = new LinkedHashMap<>();
+            specStatus.put("name", name);
+            specStatus.putAll(OpenApiSpec.buildLoaderStatus(loader));
+            specStatuses.add(specStatus);
+        });
+        final ValidatorLoader.Status status = aggregateStatus(reloadLoaders.values());
+        final int statusCode = status == ValidatorLoader.Status.READY
+                ? HTTP_OK
+                : status == ValidatorLoader.Status.FAILED ? HTTP_INTERNAL_ERROR : HTTP_ACCEPTED;
+        return ResponseDefinitionBuilder.jsonResponse(statusBody(status, specStatuses), statusCode);
+    }
+
+    private static ValidatorLoader.Status aggregateStatus(final Collection<ValidatorLoader> loaders) {
+        ValidatorLoader.Status status = ValidatorLoader.Status.READY;
+        for (final ValidatorLoader loader : loaders) {
+            final ValidatorLoader.Status loaderStatus = loader.getStatus();
+            if (loaderStatus == ValidatorLoader.Status.FAILED) {
+                return ValidatorLoader.Status.FAILED;
+            }
+            if (loaderStatus == ValidatorLoader.Status.LOADING) {
+                status = ValidatorLoader.Status.LOADING;
+            }
+        }
+
+        return status;
+    }
+
     private static ExtensionOptions guessOpenapiFilePathIfAbsent(final ExtensionOptions options) {
         return options.getOpenapiFilePath() == null
                 ? ExtensionOptions.builder(options)
@@ -120,22 +672,20 @@ public final class ValidationResponseTransformer implements ResponseTransformerV
                 "Cannot find OpenAPI file. Checked locations: %s", String.join(", ", DEFAULT_OPENAPI_FILE_PATHS)));
     }
 
-    private static void log(final LoggedRequest request, final Response response, final Response errorResponse) {
-        notifier()
-                .error(String.format(
-                        "OpenAPI validation error\n\n** Request **:\n%s\n\n** Response **:\n%s\n\n** Validation response **:\n%s",
-                        prettifyForOutput(request), prettifyForOutput(response), prettifyForOutput(errorResponse)));
-    }
-
-    private static String prettifyForOutput(final LoggedRequest request) {
-        return String.format(
-                "%s %s\n\n%s\n%s",
-                request.getMethod(), request.getUrl(), request.getHeaders(), request.getBodyAsString());
-    }
-
-    private static String prettifyForOutput(final Response response) {
-        return String.format(
-                "HTTP/1.1 %d\n\n%s\n%s", response.getStatus(), response.getHeaders(), response.getBodyAsString());
+    private void log(
+            final ValidationPlan plan,
+            final LoggedRequest request,
+            final Response response,
+            final Response errorResponse,
+            final ValidationResult requestResult,
+            final ValidationResult responseResult) {
+        final List<String> errorKeys = new ArrayList<>();
+        requestResult.getErrors().forEach(e -> errorKeys.add(e.getKey()));
+        responseResult.getErrors().forEach(e -> errorKeys.add(e.getKey()));
+        if (metrics != null) {
+            errorKeys.forEach(metrics::recordError);
+        }
+        failureLogger.log(plan.getStubId(), request, response, errorResponse, errorKeys);
     }
 
     private void printConfiguration() {
@@ -143,10 +693,58 @@ public final class ValidationResponseTransformer implements ResponseTransformerV
         System.out.println("|   OpenAPI Validation Extension   |");
         System.out.println("------------------------------------");
         System.out.println();
-        System.out.println("OpenAPI:                      " + options.getOpenapiFilePath());
+        System.out.println("OpenAPI:                      "
+                + Optional.ofNullable(options.getOpenapiFilePath()).orElse("<none>"));
+        if (!options.getSpecs().isEmpty()) {
+            System.out.print("OpenAPI files:                ");
+            System.out.println(options.getSpecs().stream()
+                    .map(OpenApiSpecDefinition::toString)
+                    .collect(Collectors.joining("\n                              ")));
+        }
         System.out.println("Validator name:               " + options.getValidatorName());
         System.out.println("Is invalid OpenAPI allowed:   " + options.isInvalidOpenapiAllowed());
         System.out.println("Failure status code:          " + options.getFailureStatusCode());
+        System.out.println("Validator cache size:         " + options.getValidatorCacheSize());
+        System.out.println("Verdict cache size:           " + options.getVerdictCacheSize());
+        System.out.println("Request verdict cache size:   " + options.getRequestVerdictCacheSize());
+        if (options.getRequestVerdictCacheSize() > 0) {
+            System.out.println("Request verdict TTL (ms):     " + options.getRequestVerdictCacheTtlMillis());
+        }
+        System.out.println("Sampling rate:                " + options.getSamplingRate());
+        System.out.println("Validation mode:              " + options.getValidationMode());
+        if (options.getValidationMode() == ExtensionOptions.ValidationMode.REPORT_ONLY) {
+            System.out.println("Report queue size:            " + options.getReportQueueSize());
+            System.out.println("Report threads:               " + options.getReportThreads());
+        }
+        System.out.println("Shedding latency budget (ms): " + options.getSheddingLatencyBudgetMillis());
+        System.out.println("Shedding concurrency budget:  " + options.getSheddingConcurrencyBudget());
+        if (options.getSheddingLatencyBudgetMillis() > 0 || options.getSheddingConcurrencyBudget() > 0) {
+            System.out.println("Shedding sampling rate:       " + options.getSheddingSamplingRate());
+        }
+        System.out.println("Parallel validation:          " + options.isParallelValidation());
+        if (options.isParallelValidation()) {
+            System.out.println("Parallel threads:             " + options.getParallelThreads());
+            System.out.println("Parallel timeout (ms):        " + options.getParallelTimeoutMillis());
+            System.out.println("Parallel timeout policy:      " + options.getParallelTimeoutPolicy());
+        }
+        System.out.println("Streaming body threshold:     " + options.getStreamingBodyThreshold());
+        System.out.println("Validation depth:             " + options.getValidationDepth());
+        System.out.println("Shallow body threshold:       " + options.getShallowBodyThreshold());
+        System.out.println("Parameters-only threshold:    " + options.getParametersOnlyBodyThreshold());
+        System.out.println("Log queue size:               " + options.getLogQueueSize());
+        System.out.println("Log body limit:               " + options.getLogBodyLimit());
+        System.out.println("Log rate limit interval (ms): " + options.getLogRateLimitIntervalMillis());
+        System.out.println("Metrics:                      " + options.isMetricsEnabled());
+        System.out.println("Server-Timing header:         " + options.isServerTimingEnabled());
+        System.out.println("Slow validation (ms):         " + options.getSlowValidationThresholdMillis());
+        System.out.println("Async loading:                " + options.isAsyncLoading());
+        if (options.isAsyncLoading()) {
+            System.out.println("Not ready policy:             " + options.getNotReadyPolicy());
+            System.out.println("Not ready timeout (ms):       " + options.getNotReadyTimeoutMillis());
+        }
+        System.out.println("Watch interval (ms):          " + options.getWatchIntervalMillis());
+        System.out.println("Snapshot directory:           "
+                + Optional.ofNullable(options.getSnapshotDirectory()).orElse("<none>"));
         if (options.getIgnoredErrors().isEmpty()) {
             System.out.println("Ignored errors:               <none>");
         } else {
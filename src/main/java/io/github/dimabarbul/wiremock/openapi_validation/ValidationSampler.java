@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides which interactions are validated when only a share of them should be. The decision is made by hashing stub
+ * id, request method, URL and body, so the same request to the same stub is always either validated or skipped, also
+ * from run to run, and counts of validated and skipped interactions are kept.
+ */
+final class ValidationSampler {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    /** 2^-53, turns 53 random bits into a number from 0 (inclusive) to 1 (exclusive). */
+    private static final double UNIT = 0x1.0p-53;
+
+    private final LongAdder validatedCount = new LongAdder();
+    private final LongAdder skippedCount = new LongAdder();
+
+    /**
+     * Decide whether interaction should be validated and count the decision.
+     *
+     * @param stubId Id of stub the request is matched by
+     * @param request Request
+     * @param samplingRate Share of interactions to validate from 0 (none) to 1 (all)
+     * @return True if the interaction should be validated
+     */
+    boolean shouldValidate(final UUID stubId, final LoggedRequest request, final double samplingRate) {
+        final boolean sampled = isSampled(stubId, request, samplingRate);
+        (sampled ? validatedCount : skippedCount).increment();
+        return sampled;
+    }
+
+    static boolean isSampled(final UUID stubId, final LoggedRequest request, final double samplingRate) {
+        if (samplingRate >= 1) {
+            return true;
+        }
+        if (samplingRate <= 0) {
+            return false;
+        }
+
+        final Hasher hasher = HASH_FUNCTION.newHasher();
+        if (stubId != null) {
+            hasher.putLong(stubId.getMostSignificantBits()).putLong(stubId.getLeastSignificantBits());
+        }
+        hasher.putString(request.getMethod().getName(), StandardCharsets.UTF_8)
+                .putByte((byte) 0)
+                .putString(request.getUrl(), StandardCharsets.UTF_8)
+                .putByte((byte) 0);
+        if (request.getBody() != null) {
+            hasher.putBytes(request.getBody());
+        }
+        final long hash = hasher.hash().asLong();
+        return (hash >>> 11) * UNIT < samplingRate;
+    }
+
+    Map<String, Object> buildStatus() {
+        final Map<String, Object> status = new LinkedHashMap<>();
+        status.put("validatedCount", validatedCount.sum());
+        status.put("skippedCount", skippedCount.sum());
+        return status;
+    }
+}
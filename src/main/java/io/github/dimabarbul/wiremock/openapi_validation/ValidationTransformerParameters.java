@@ -19,18 +19,32 @@ import static java.util.Objects.requireNonNull;
 
 import com.github.tomakehurst.wiremock.common.Metadata;
 import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 final class ValidationTransformerParameters {
 
     private final Integer failureStatusCode;
     private final Map<String, Boolean> ignoredErrors;
+    private final String specName;
+    private final Double samplingRate;
+    private final ExtensionOptions.ValidationDepth validationDepth;
 
-    private ValidationTransformerParameters(final Integer failureStatusCode, final Map<String, Boolean> ignoredErrors) {
+    private ValidationTransformerParameters(
+            final Integer failureStatusCode,
+            final Map<String, Boolean> ignoredErrors,
+            final String specName,
+            final Double samplingRate,
+            final ExtensionOptions.ValidationDepth validationDepth) {
         this.failureStatusCode = failureStatusCode;
         this.ignoredErrors = requireNonNull(ignoredErrors);
+        this.specName = specName;
+        this.samplingRate = samplingRate;
+        this.validationDepth = validationDepth;
     }
 
     public Integer getFailureStatusCode() {
@@ -41,8 +55,39 @@ final class ValidationTransformerParameters {
         return ignoredErrors;
     }
 
+    public String getSpecName() {
+        return specName;
+    }
+
+    public Double getSamplingRate() {
+        return samplingRate;
+    }
+
+    public ExtensionOptions.ValidationDepth getValidationDepth() {
+        return validationDepth;
+    }
+
     public static ValidationTransformerParameters fromServeEvent(final ServeEvent serveEvent) {
-        final Parameters transformerParameters = serveEvent.getTransformerParameters();
+        return fromParameters(serveEvent.getTransformerParameters(), serveEvent.getStubMapping());
+    }
+
+    /**
+     * Read validation parameters of the stub.
+     *
+     * @param stubMapping Stub to read transformer parameters of
+     * @return Validation parameters of the stub
+     * @throws IllegalArgumentException If parameter of the stub has invalid value
+     */
+    public static ValidationTransformerParameters fromStubMapping(final StubMapping stubMapping) {
+        return fromParameters(
+                Optional.ofNullable(stubMapping.getResponse())
+                        .map(ResponseDefinition::getTransformerParameters)
+                        .orElseGet(Parameters::empty),
+                stubMapping);
+    }
+
+    private static ValidationTransformerParameters fromParameters(
+            final Parameters transformerParameters, final StubMapping stubMapping) {
         final Integer failureStatusCode =
                 transformerParameters.getInt(ValidationParameter.FAILURE_STATUS_CODE.transformerParameterName(), null);
         final Metadata ignoreErrorsMetadata =
@@ -57,6 +102,44 @@ final class ValidationTransformerParameters {
             ignoredErrors = Map.of();
         }
 
-        return new ValidationTransformerParameters(failureStatusCode, ignoredErrors);
+        final String specName =
+                transformerParameters.getString(ValidationParameter.SPEC_NAME.transformerParameterName(), null);
+
+        final Double samplingRate =
+                getDouble(transformerParameters, ValidationParameter.SAMPLING_RATE.transformerParameterName());
+        if (samplingRate != null && !(samplingRate >= 0 && samplingRate <= 1)) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: %s must be from 0 to 1, got %s",
+                    describeStub(stubMapping),
+                    ValidationParameter.SAMPLING_RATE.transformerParameterName(),
+                    samplingRate));
+        }
+
+        final String validationDepthName =
+                transformerParameters.getString(ValidationParameter.VALIDATION_DEPTH.transformerParameterName(), null);
+        final ExtensionOptions.ValidationDepth validationDepth =
+                validationDepthName != null ? ExtensionOptions.ValidationDepth.fromString(validationDepthName) : null;
+
+        return new ValidationTransformerParameters(
+                failureStatusCode, ignoredErrors, specName, samplingRate, validationDepth);
+    }
+
+    private static String describeStub(final StubMapping stubMapping) {
+        if (stubMapping == null || stubMapping.getId() == null) {
+            return "Stub";
+        }
+
+        return stubMapping.getName() != null
+                ? String.format("Stub %s (%s)", stubMapping.getId(), stubMapping.getName())
+                : String.format("Stub %s", stubMapping.getId());
+    }
+
+    private static Double getDouble(final Parameters transformerParameters, final String key) {
+        final Object value = transformerParameters.get(key);
+        if (value == null) {
+            return null;
+        }
+
+        return value instanceof Number ? ((Number) value).doubleValue() : Double.valueOf(value.toString());
     }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Loads validator either in the calling thread or in background and tells whether the validator is ready to be used.
+ */
+final class ValidatorLoader {
+
+    private static final Executor BACKGROUND_EXECUTOR = runnable -> {
+        final Thread thread = new Thread(runnable, "openapi-validation-loader");
+        thread.setDaemon(true);
+        thread.start();
+    };
+
+    private final CompletableFuture<OpenApiValidator> validator;
+    private volatile long loadTimeMillis = -1;
+
+    private ValidatorLoader(final Supplier<OpenApiValidator> loader, final Executor executor) {
+        final long startedAtNanos = System.nanoTime();
+        validator = CompletableFuture.supplyAsync(loader, executor).whenComplete((v, e) -> {
+            loadTimeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+            if (e != null) {
+                notifier().error("Failed to load OpenAPI file", e);
+            }
+        });
+    }
+
+    private ValidatorLoader(final OpenApiValidator validator, final long loadTimeMillis) {
+        this.validator = CompletableFuture.completedFuture(validator);
+        this.loadTimeMillis = loadTimeMillis;
+    }
+
+    /**
+     * Load validator in the calling thread. Loading errors are thrown from this method.
+     *
+     * @param loader Function loading validator
+     * @return Loader with the validator ready
+     */
+    public static ValidatorLoader loadSynchronously(final Supplier<OpenApiValidator> loader) {
+        final long startedAtNanos = System.nanoTime();
+        final OpenApiValidator validator = loader.get();
+        return new ValidatorLoader(validator, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos));
+    }
+
+    /**
+     * Start loading validator in background thread.
+     *
+     * @param loader Function loading validator
+     * @return Loader that will have validator ready when background loading finishes
+     */
+    public static ValidatorLoader loadAsynchronously(final Supplier<OpenApiValidator> loader) {
+        return loadAsynchronously(loader, BACKGROUND_EXECUTOR);
+    }
+
+    static ValidatorLoader loadAsynchronously(final Supplier<OpenApiValidator> loader, final Executor executor) {
+        return new ValidatorLoader(loader, executor);
+    }
+
+    public Optional<OpenApiValidator> getIfReady() {
+        return validator.isDone() && !validator.isCompletedExceptionally()
+                ? Optional.of(validator.join())
+                : Optional.empty();
+    }
+
+    /**
+     * Wait for the validator to be loaded.
+     *
+     * @param timeoutMillis Maximum time to wait in milliseconds
+     * @return Validator if it has been loaded within the timeout, empty if it has not or its loading has failed
+     */
+    public Optional<OpenApiValidator> await(final long timeoutMillis) {
+        final Optional<OpenApiValidator> readyValidator = getIfReady();
+        if (readyValidator.isPresent() || validator.isDone()) {
+            return readyValidator;
+        }
+
+        try {
+            return Optional.of(validator.get(timeoutMillis, TimeUnit.MILLISECONDS));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (final ExecutionException | TimeoutException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Run action when loading finishes, either successfully or not. If loading has already finished, the action is run
+     * immediately in the calling thread.
+     *
+     * @param action Action receiving loaded validator or loading error
+     */
+    public void whenComplete(final BiConsumer<OpenApiValidator, Throwable> action) {
+        validator.whenComplete((v, e) -> action.accept(v, e instanceof CompletionException ? e.getCause() : e));
+    }
+
+    public Status getStatus() {
+        if (!validator.isDone()) {
+            return Status.LOADING;
+        }
+
+        return validator.isCompletedExceptionally() ? Status.FAILED : Status.READY;
+    }
+
+    /**
+     * Get error that happened while loading validator.
+     *
+     * @return Error message if loading has failed, empty otherwise
+     */
+    public Optional<String> getError() {
+        if (!validator.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+
+        try {
+            validator.join();
+            return Optional.empty();
+        } catch (final RuntimeException e) {
+            final Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return Optional.of(cause.getMessage() != null ? cause.getMessage() : cause.toString());
+        }
+    }
+
+    /**
+     * Get time spent loading validator.
+     *
+     * @return Loading time in milliseconds, empty if loading is still in progress
+     */
+    public Optional<Long> getLoadTimeMillis() {
+        return loadTimeMillis < 0 ? Optional.empty() : Optional.of(loadTimeMillis);
+    }
+
+    enum Status {
+        LOADING,
+        READY,
+        FAILED
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class AtlassianOpenApiValidatorTest {
+
+    private static final String OPENAPI_FILE_PATH = "src/test/resources/openapi.json";
+
+    @Test
+    void testWithSameOptionsReturnsSameValidator() {
+        final OpenApiValidator validator = createValidator(List.of("error1", "error2"), 10);
+
+        final OpenApiValidator variant = validator.withOptions(options(List.of("error2", "error1", "error1")));
+
+        assertThat(variant).isSameAs(validator);
+    }
+
+    @Test
+    void testVariantsAreBuiltOncePerDistinctIgnoredErrors() {
+        final OpenApiValidator validator = createValidator(List.of(), 10);
+
+        final OpenApiValidator first = validator.withOptions(options(List.of("error1", "error2")));
+        final OpenApiValidator second = validator.withOptions(options(List.of("error2", "error1")));
+        final OpenApiValidator third = first.withOptions(options(List.of("error3")));
+        final OpenApiValidator fourth = third.withOptions(options(List.of("error1", "error2")));
+
+        assertThat(second).isSameAs(first);
+        assertThat(fourth).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        assertThat(validator.getVariantCacheStats().missCount()).isEqualTo(2);
+        assertThat(validator.getVariantCacheStats().hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testVariantsAreEvictedWhenCacheIsFull() {
+        final OpenApiValidator validator = createValidator(List.of(), 1);
+
+        final OpenApiValidator first = validator.withOptions(options(List.of("error1")));
+        validator.withOptions(options(List.of("error2")));
+        final OpenApiValidator firstAgain = validator.withOptions(options(List.of("error1")));
+
+        assertThat(firstAgain).isNotSameAs(first);
+        assertThat(validator.getVariantCacheStats().evictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testInteractionValidationMatchesSeparateValidation() {
+        final OpenApiValidator validator = createValidator(List.of(), 10);
+        final LoggedRequest request =
+                LoggedRequest.createFrom(RequestBuilder.postJsonRequest("http://localhost/users", "{}"));
+        final Response response = Response.response().status(299).build();
+
+        final InteractionValidationResult result = validator.validateInteraction(request, response);
+
+        assertThat(result.hasErrors()).isTrue();
+        assertThat(result.getRequestResult().getErrors())
+                .extracting(ValidationResult.Error::getKey)
+                .containsExactlyElementsOf(validator.validateRequest(request).getErrors().stream()
+                        .map(ValidationResult.Error::getKey)
+                        .collect(Collectors.toList()))
+                .contains("validation.request.body.schema.required");
+        assertThat(result.getResponseResult().getErrors())
+                .extracting(ValidationResult.Error::getKey)
+                .containsExactlyElementsOf(validator.validateResponse(request, response).getErrors().stream()
+                        .map(ValidationResult.Error::getKey)
+                        .collect(Collectors.toList()))
+                .containsExactly("validation.response.status.unknown");
+    }
+
+    @Test
+    void testInteractionValidationReportsUnknownPathAsRequestError() {
+        final OpenApiValidator validator = createValidator(List.of(), 10);
+        final LoggedRequest request = LoggedRequest.createFrom(RequestBuilder.getRequest("http://localhost/unknown"));
+
+        final InteractionValidationResult result = validator.validateInteraction(
+                request, Response.response().status(200).build());
+
+        assertThat(result.getRequestResult().getErrors())
+                .extracting(ValidationResult.Error::getKey)
+                .containsExactly("validation.request.path.missing");
+        assertThat(result.getResponseResult().hasErrors()).isFalse();
+    }
+
+    @Test
+    void testInteractionValidationCanSkipResponseBodySchema() {
+        final OpenApiValidator validator = createValidator(List.of(), 10);
+        final LoggedRequest request = LoggedRequest.createFrom(RequestBuilder.getRequest("http://localhost/users"));
+        final Response response = Response.response()
+                .status(200)
+                .headers(new HttpHeaders(HttpHeader.httpHeader("Content-Type", "application/json")))
+                .body("{\"not\": \"array\"}")
+                .build();
+
+        assertThat(validator
+                        .validateInteraction(request, response, true)
+                        .getResponseResult()
+                        .getErrors())
+                .extracting(ValidationResult.Error::getKey)
+                .containsExactly("validation.response.body.schema.type");
+        assertThat(validator.validateInteraction(request, response, false).hasErrors())
+                .isFalse();
+        assertThat(validator
+                        .validateInteraction(
+                                request, Response.response().status(200).build(), false)
+                        .getResponseResult()
+                        .getErrors())
+                .extracting(ValidationResult.Error::getKey)
+                .containsExactly("validation.response.body.missing", "validation.response.contentType.missing");
+    }
+
+    @Test
+    void testRequestVerdictsAreNotRememberedByDefault() {
+        final OpenApiValidator validator = createValidator(List.of(), 10);
+
+        assertThat(validator.getRequestVerdictCacheStats()).isEmpty();
+    }
+
+    @Test
+    void testRequestVerdictIsRememberedForIdenticalRequest() {
+        final OpenApiValidator validator = createValidatorRememberingRequestVerdicts();
+
+        final ValidationResult first = validator.validateRequest(
+                LoggedRequest.createFrom(RequestBuilder.postJsonRequest("http://localhost/users", "{}")));
+        final ValidationResult second = validator.validateRequest(
+                LoggedRequest.createFrom(RequestBuilder.postJsonRequest("http://localhost/users", "{}")));
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getErrors())
+                .extracting(ValidationResult.Error::getKey)
+                .contains("validation.request.body.schema.required");
+        assertThat(validator.getRequestVerdictCacheStats())
+                .hasValueSatisfying(stats -> assertThat(stats.hitCount()).isEqualTo(1));
+    }
+
+    @Test
+    void testRequestVerdictIsNotReusedForDifferentBodyOrQuery() {
+        final OpenApiValidator validator = createValidatorRememberingRequestVerdicts();
+
+        validator.validateRequest(
+                LoggedRequest.createFrom(RequestBuilder.postJsonRequest("http://localhost/users", "{}")));
+        final ValidationResult differentBody = validator.validateRequest(
+                LoggedRequest.createFrom(RequestBuilder.postJsonRequest("http://localhost/users", "{\"username\":1}")));
+        validator.validateRequest(LoggedRequest.createFrom(RequestBuilder.getRequest("http://localhost/users?a=1")));
+        validator.validateRequest(LoggedRequest.createFrom(RequestBuilder.getRequest("http://localhost/users?a=2")));
+
+        assertThat(differentBody.getErrors())
+                .extracting(ValidationResult.Error::getMessage)
+                .anyMatch(message -> message.contains("username"));
+        assertThat(validator.getRequestVerdictCacheStats())
+                .hasValueSatisfying(stats -> assertThat(stats.hitCount()).isZero());
+    }
+
+    @Test
+    void testInteractionValidationUsesRememberedRequestVerdict() {
+        final OpenApiValidator validator = createValidatorRememberingRequestVerdicts();
+        final LoggedRequest request =
+                LoggedRequest.createFrom(RequestBuilder.postJsonRequest("http://localhost/users", "{}"));
+
+        validator.validateInteraction(request, Response.response().status(201).build());
+        final InteractionValidationResult result = validator.validateInteraction(
+                request, Response.response().status(299).build());
+
+        assertThat(result.getRequestResult().getErrors())
+                .extracting(ValidationResult.Error::getKey)
+                .contains("validation.request.body.schema.required");
+        assertThat(result.getResponseResult().getErrors())
+                .extracting(ValidationResult.Error::getKey)
+                .containsExactly("validation.response.status.unknown");
+        assertThat(validator.getRequestVerdictCacheStats())
+                .hasValueSatisfying(stats -> assertThat(stats.hitCount()).isEqualTo(1));
+    }
+
+    @Test
+    void testShallowDepthValidatesOnlyTopLevelOfBodies() {
+        final OpenApiValidator validator = createValidator(List.of(), 10)
+                .withOptions(depthOptions(ExtensionOptions.ValidationDepth.SHALLOW));
+        final LoggedRequest request = LoggedRequest.createFrom(RequestBuilder.postJsonRequest(
+                "http://localhost/users", "{\"id\": \"not uuid\", \"username\": \"too long username\", \"role\": 1}"));
+        final LoggedRequest getRequest =
+                LoggedRequest.createFrom(RequestBuilder.getRequest("http://localhost/users"));
+
+        assertThat(validator.validateRequest(request).getErrors())
+                .extracting(ValidationResult.Error::getKey)
+                .containsExactly("validation.request.body.schema.type");
+        assertThat(validator
+                        .validateResponse(getRequest, jsonResponse("[{\"id\": 1}]"))
+                        .hasErrors())
+                .isFalse();
+        assertThat(validator.validateResponse(getRequest, jsonResponse("[1]")).getErrors())
+                .extracting(ValidationResult.Error::getKey)
+                .containsExactly("validation.response.body.schema.type");
+    }
+
+    @Test
+    void testParametersDepthSkipsBodySchemas() {
+        final OpenApiValidator validator = createValidator(List.of(), 10)
+                .withOptions(depthOptions(ExtensionOptions.ValidationDepth.PARAMETERS));
+        final LoggedRequest request =
+                LoggedRequest.createFrom(RequestBuilder.postJsonRequest("http://localhost/users", "{\"role\": 1}"));
+        final LoggedRequest getRequest =
+                LoggedRequest.createFrom(RequestBuilder.getRequest("http://localhost/users"));
+
+        assertThat(validator.validateRequest(request).hasErrors()).isFalse();
+        assertThat(validator
+                        .validateInteraction(getRequest, jsonResponse("{\"not\": \"array\"}"))
+                        .hasErrors())
+                .isFalse();
+        assertThat(validator
+                        .validateInteraction(getRequest, Response.response().status(299).build())
+                        .getResponseResult()
+                        .getErrors())
+                .extracting(ValidationResult.Error::getKey)
+                .containsExactly("validation.response.status.unknown");
+    }
+
+    private static OpenApiValidator createValidatorRememberingRequestVerdicts() {
+        return OpenApiValidator.create(ExtensionOptions.builder()
+                .withOpenapiFilePath(OPENAPI_FILE_PATH)
+                .withRequestVerdictCacheSize(10)
+                .build());
+    }
+
+    private static OpenApiValidator createValidator(final List<String> ignoredErrors, final int cacheSize) {
+        return OpenApiValidator.create(ExtensionOptions.builder()
+                .withOpenapiFilePath(OPENAPI_FILE_PATH)
+                .withIgnoredErrors(ignoredErrors)
+                .withValidatorCacheSize(cacheSize)
+                .build());
+    }
+
+    private static OpenApiValidatorOptions depthOptions(final ExtensionOptions.ValidationDepth validationDepth) {
+        return OpenApiValidatorOptions.fromExtensionOptions(
+                ExtensionOptions.builder().withValidationDepth(validationDepth).build());
+    }
+
+    private static Response jsonResponse(final String body) {
+        return Response.response()
+                .status(200)
+                .headers(new HttpHeaders(HttpHeader.httpHeader("Content-Type", "application/json")))
+                .body(body)
+                .build();
+    }
+
+    private static OpenApiValidatorOptions options(final List<String> ignoredErrors) {
+        return OpenApiValidatorOptions.fromExtensionOptions(
+                ExtensionOptions.builder().withIgnoredErrors(ignoredErrors).build());
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.atlassian.oai.validator.model.Body;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AtlassianRequestAdapterTest {
+
+    @Test
+    public void testPathAndMethod() {
+        final AtlassianRequestAdapter request = new AtlassianRequestAdapter(
+                LoggedRequest.createFrom(RequestBuilder.getRequest("http://localhost/users/1?a=b")));
+
+        assertThat(request.getPath()).isEqualTo("/users/1");
+        assertThat(request.getMethod()).isEqualTo(com.atlassian.oai.validator.model.Request.Method.GET);
+    }
+
+    @Test
+    public void testQueryParametersAreCaseInsensitive() {
+        final AtlassianRequestAdapter request = new AtlassianRequestAdapter(LoggedRequest.createFrom(
+                RequestBuilder.getRequest("http://localhost/users?Filter=a&filter2=b&Filter=c")));
+
+        assertThat(request.getQueryParameterValues("Filter")).containsExactly("a", "c");
+        assertThat(request.getQueryParameterValues("filter")).containsExactly("a", "c");
+        assertThat(request.getQueryParameterValues("missing")).isEmpty();
+        assertThat(request.getQueryParameters()).containsExactly("Filter", "filter2");
+    }
+
+    @Test
+    public void testHeadersAreCaseInsensitiveAndKeepAllValues() {
+        final AtlassianRequestAdapter request =
+                new AtlassianRequestAdapter(LoggedRequest.createFrom(ImmutableRequest.create()
+                        .withMethod(RequestMethod.GET)
+                        .withAbsoluteUrl("http://localhost/users")
+                        .withHeader("X-Values", "1")
+                        .withHeader("X-Values", "2")
+                        .build()));
+
+        assertThat(request.getHeaderValues("x-values")).containsExactly("1", "2");
+        assertThat(request.getHeaders().get("X-VALUES")).containsExactly("1", "2");
+        assertThat(request.getHeaderValues("missing")).isEmpty();
+    }
+
+    @Test
+    public void testRequestBodyIsNotCopied() throws Exception {
+        final LoggedRequest loggedRequest =
+                LoggedRequest.createFrom(RequestBuilder.postJsonRequest("http://localhost/users", "{\"a\":1}"));
+        final AtlassianRequestAdapter request = new AtlassianRequestAdapter(loggedRequest);
+
+        final Body body = request.getRequestBody().orElseThrow();
+        assertThat(body.hasBody()).isTrue();
+        assertThat(body.toJsonNode().get("a").asInt()).isEqualTo(1);
+        assertThat(request.getContentType())
+                .hasValueSatisfying(v -> assertThat(v).startsWith("application/json"));
+    }
+
+    // getBody() is deprecated in Request, but the adapter must still return nothing from it,
+    // so that the validator reads body via getRequestBody() without copying it to string.
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testRequestBodyIsNotReturnedAsString() {
+        final LoggedRequest loggedRequest =
+                LoggedRequest.createFrom(RequestBuilder.postJsonRequest("http://localhost/users", "{\"a\":1}"));
+        final AtlassianRequestAdapter request = new AtlassianRequestAdapter(loggedRequest);
+
+        assertThat(request.getBody()).isEmpty();
+    }
+
+    @Test
+    public void testResponseAdapter() throws Exception {
+        final AtlassianResponseAdapter response = new AtlassianResponseAdapter(Response.response()
+                .status(201)
+                .headers(new com.github.tomakehurst.wiremock.http.HttpHeaders(
+                        new HttpHeader("Content-Type", "application/json"),
+                        new HttpHeader("X-Values", List.of("1", "2"))))
+                .body("{\"id\":5}".getBytes(StandardCharsets.UTF_8))
+                .build());
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getHeaderValues("x-values")).containsExactly("1", "2");
+        assertThat(response.getContentType()).hasValue("application/json");
+        final Body body = response.getResponseBody().orElseThrow();
+        assertThat(body.hasBody()).isTrue();
+        assertThat(body.toJsonNode().get("id").asInt()).isEqualTo(5);
+        assertThat(body.toString(StandardCharsets.UTF_8)).isEqualTo("{\"id\":5}");
+    }
+
+    @Test
+    public void testEmptyResponseBody() {
+        final AtlassianResponseAdapter response =
+                new AtlassianResponseAdapter(Response.response().status(204).build());
+
+        assertThat(response.getResponseBody().map(Body::hasBody).orElse(false)).isFalse();
+    }
+
+    @Test
+    public void testResponseBodyStreamsAreClosed() throws Exception {
+        final List<TrackedStream> streams = new ArrayList<>();
+        final AtlassianResponseAdapter response = new AtlassianResponseAdapter(Response.response()
+                .status(200)
+                .body(() -> {
+                    final TrackedStream stream = new TrackedStream("{\"id\":5}".getBytes(StandardCharsets.UTF_8));
+                    streams.add(stream);
+                    return stream;
+                })
+                .build());
+
+        final Body body = response.getResponseBody().orElseThrow();
+        assertThat(response.getResponseBody()).containsSame(body);
+        assertThat(body.hasBody()).isTrue();
+        assertThat(body.hasBody()).isTrue();
+        assertThat(body.toJsonNode().get("id").asInt()).isEqualTo(5);
+
+        assertThat(streams).hasSize(2).allMatch(TrackedStream::isClosed);
+    }
+
+    private static final class TrackedStream extends ByteArrayInputStream {
+
+        private boolean closed = false;
+
+        private TrackedStream(final byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+
+        private boolean isClosed() {
+            return closed;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+class BackgroundValidatorTest {
+
+    @Test
+    void testFailuresAreCounted() {
+        final BackgroundValidator validator = new BackgroundValidator(1, 10);
+
+        validator.submit(() -> true);
+        validator.submit(() -> false);
+        validator.stop();
+
+        assertThat(validator.buildStatus())
+                .containsEntry("submittedCount", 2L)
+                .containsEntry("validatedCount", 2L)
+                .containsEntry("failedCount", 1L)
+                .containsEntry("droppedCount", 0L);
+    }
+
+    @Test
+    void testInteractionsNotFittingIntoQueueAreDropped() throws InterruptedException {
+        final BackgroundValidator validator = new BackgroundValidator(1, 1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        validator.submit(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        });
+        started.await();
+        validator.submit(() -> false);
+        validator.submit(() -> false);
+        final int queueDepth = (int) validator.buildStatus().get("queueDepth");
+        release.countDown();
+        validator.stop();
+
+        assertThat(queueDepth).isEqualTo(1);
+        assertThat(validator.buildStatus()).containsEntry("validatedCount", 2L).containsEntry("droppedCount", 1L);
+    }
+}
@@ -16,6 +16,7 @@
 package io.github.dimabarbul.wiremock.openapi_validation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -44,7 +45,39 @@ class ExtensionOptionsTest {
                 () -> assertThat(options.getFailureStatusCode()).isEqualTo(500),
                 () -> assertThat(options.getIgnoredErrors()).isEmpty(),
                 () -> assertThat(options.getValidatorName()).isEqualTo("atlassian"),
-                () -> assertThat(options.getDefaultResponseContentType()).isNull());
+                () -> assertThat(options.getDefaultResponseContentType()).isNull(),
+                () -> assertThat(options.getValidatorCacheSize()).isEqualTo(100),
+                () -> assertThat(options.isAsyncLoading()).isFalse(),
+                () -> assertThat(options.getNotReadyPolicy()).isEqualTo(ExtensionOptions.NotReadyPolicy.BLOCK),
+                () -> assertThat(options.getNotReadyTimeoutMillis()).isEqualTo(60_000),
+                () -> assertThat(options.getSnapshotDirectory()).isNull(),
+                () -> assertThat(options.getWatchIntervalMillis()).isZero(),
+                () -> assertThat(options.getSpecs()).isEmpty(),
+                () -> assertThat(options.getVerdictCacheSize()).isEqualTo(1000),
+                () -> assertThat(options.getRequestVerdictCacheSize()).isZero(),
+                () -> assertThat(options.getRequestVerdictCacheTtlMillis()).isEqualTo(60_000),
+                () -> assertThat(options.getValidationMode()).isEqualTo(ExtensionOptions.ValidationMode.INLINE),
+                () -> assertThat(options.getReportQueueSize()).isEqualTo(10_000),
+                () -> assertThat(options.getReportThreads()).isEqualTo(1),
+                () -> assertThat(options.getSamplingRate()).isEqualTo(1.0),
+                () -> assertThat(options.getSheddingLatencyBudgetMillis()).isEqualTo(0),
+                () -> assertThat(options.getSheddingConcurrencyBudget()).isEqualTo(0),
+                () -> assertThat(options.getSheddingSamplingRate()).isEqualTo(0.1),
+                () -> assertThat(options.isParallelValidation()).isFalse(),
+                () -> assertThat(options.getParallelThreads()).isEqualTo(0),
+                () -> assertThat(options.getParallelTimeoutMillis()).isEqualTo(10_000),
+                () -> assertThat(options.getParallelTimeoutPolicy())
+                        .isEqualTo(ExtensionOptions.ParallelTimeoutPolicy.FAIL),
+                () -> assertThat(options.getStreamingBodyThreshold()).isEqualTo(0),
+                () -> assertThat(options.getValidationDepth()).isEqualTo(ExtensionOptions.ValidationDepth.FULL),
+                () -> assertThat(options.getShallowBodyThreshold()).isEqualTo(0),
+                () -> assertThat(options.getParametersOnlyBodyThreshold()).isEqualTo(0),
+                () -> assertThat(options.getLogQueueSize()).isEqualTo(1000),
+                () -> assertThat(options.getLogBodyLimit()).isEqualTo(0),
+                () -> assertThat(options.getLogRateLimitIntervalMillis()).isEqualTo(0),
+                () -> assertThat(options.isMetricsEnabled()).isFalse(),
+                () -> assertThat(options.isServerTimingEnabled()).isFalse(),
+                () -> assertThat(options.getSlowValidationThresholdMillis()).isEqualTo(0));
     }
 
     @Test
@@ -57,6 +90,40 @@ class ExtensionOptionsTest {
                 .addSystemProperties("openapi_validation_ignore_errors", "1,2, 3 ")
                 .addSystemProperties("openapi_validation_validator_name", "validator")
                 .addSystemProperties("openapi_validation_default_response_content_type", "application/json")
+                .addSystemProperties("openapi_validation_validator_cache_size", "7")
+                .addSystemProperties("openapi_validation_async_loading", "true")
+                .addSystemProperties("openapi_validation_not_ready_policy", "pass-through")
+                .addSystemProperties("openapi_validation_not_ready_timeout", "1000")
+                .addSystemProperties("openapi_validation_snapshot_directory", "/tmp/snapshots")
+                .addSystemProperties("openapi_validation_watch_interval", "2000")
+                .addSystemProperties(
+                        "openapi_validation_specs",
+                        "name=users,file=users.yaml,prefix=/users;"
+                                + "name=orders,file=orders.yaml,host=orders.local,host=shop.local")
+                .addSystemProperties("openapi_validation_verdict_cache_size", "50")
+                .addSystemProperties("openapi_validation_request_verdict_cache_size", "200")
+                .addSystemProperties("openapi_validation_request_verdict_cache_ttl", "5000")
+                .addSystemProperties("openapi_validation_mode", "report-only")
+                .addSystemProperties("openapi_validation_report_queue_size", "50")
+                .addSystemProperties("openapi_validation_report_threads", "3")
+                .addSystemProperties("openapi_validation_sampling_rate", "0.25")
+                .addSystemProperties("openapi_validation_shedding_latency_budget", "250")
+                .addSystemProperties("openapi_validation_shedding_concurrency_budget", "64")
+                .addSystemProperties("openapi_validation_shedding_sampling_rate", "0.05")
+                .addSystemProperties("openapi_validation_parallel", "true")
+                .addSystemProperties("openapi_validation_parallel_threads", "4")
+                .addSystemProperties("openapi_validation_parallel_timeout", "500")
+                .addSystemProperties("openapi_validation_parallel_timeout_policy", "pass-through")
+                .addSystemProperties("openapi_validation_streaming_body_threshold", "1048576")
+                .addSystemProperties("openapi_validation_depth", "shallow")
+                .addSystemProperties("openapi_validation_shallow_body_threshold", "65536")
+                .addSystemProperties("openapi_validation_parameters_only_body_threshold", "10485760")
+                .addSystemProperties("openapi_validation_log_queue_size", "100")
+                .addSystemProperties("openapi_validation_log_body_limit", "4096")
+                .addSystemProperties("openapi_validation_log_rate_limit_interval", "10000")
+                .addSystemProperties("openapi_validation_metrics", "true")
+                .addSystemProperties("openapi_validation_server_timing", "true")
+                .addSystemProperties("openapi_validation_slow_threshold", "250")
                 .build();
 
         ExtensionOptions options = ExtensionOptions.fromSystemParameters(systemAccessor);
@@ -70,7 +137,43 @@ class ExtensionOptionsTest {
                 () -> assertThat(options.getFailureStatusCode()).isEqualTo(512),
                 () -> assertThat(options.getIgnoredErrors()).containsExactly("1", "2", "3"),
                 () -> assertThat(options.getValidatorName()).isEqualTo("validator"),
-                () -> assertThat(options.getDefaultResponseContentType()).isEqualTo("application/json"));
+                () -> assertThat(options.getDefaultResponseContentType()).isEqualTo("application/json"),
+                () -> assertThat(options.getValidatorCacheSize()).isEqualTo(7),
+                () -> assertThat(options.isAsyncLoading()).isTrue(),
+                () -> assertThat(options.getNotReadyPolicy()).isEqualTo(ExtensionOptions.NotReadyPolicy.PASS_THROUGH),
+                () -> assertThat(options.getNotReadyTimeoutMillis()).isEqualTo(1000),
+                () -> assertThat(options.getSnapshotDirectory()).isEqualTo("/tmp/snapshots"),
+                () -> assertThat(options.getWatchIntervalMillis()).isEqualTo(2000),
+                () -> assertThat(options.getSpecs())
+                        .extracting(OpenApiSpecDefinition::toString)
+                        .containsExactly(
+                                "users: users.yaml (path prefixes: /users, hosts: <any>)",
+                                "orders: orders.yaml (path prefixes: <any>, hosts: orders.local, shop.local)"),
+                () -> assertThat(options.getVerdictCacheSize()).isEqualTo(50),
+                () -> assertThat(options.getRequestVerdictCacheSize()).isEqualTo(200),
+                () -> assertThat(options.getRequestVerdictCacheTtlMillis()).isEqualTo(5000),
+                () -> assertThat(options.getValidationMode()).isEqualTo(ExtensionOptions.ValidationMode.REPORT_ONLY),
+                () -> assertThat(options.getReportQueueSize()).isEqualTo(50),
+                () -> assertThat(options.getReportThreads()).isEqualTo(3),
+                () -> assertThat(options.getSamplingRate()).isEqualTo(0.25),
+                () -> assertThat(options.getSheddingLatencyBudgetMillis()).isEqualTo(250),
+                () -> assertThat(options.getSheddingConcurrencyBudget()).isEqualTo(64),
+                () -> assertThat(options.getSheddingSamplingRate()).isEqualTo(0.05),
+                () -> assertThat(options.isParallelValidation()).isTrue(),
+                () -> assertThat(options.getParallelThreads()).isEqualTo(4),
+                () -> assertThat(options.getParallelTimeoutMillis()).isEqualTo(500),
+                () -> assertThat(options.getParallelTimeoutPolicy())
+                        .isEqualTo(ExtensionOptions.ParallelTimeoutPolicy.PASS_THROUGH),
+                () -> assertThat(options.getStreamingBodyThreshold()).isEqualTo(1048576),
+                () -> assertThat(options.getValidationDepth()).isEqualTo(ExtensionOptions.ValidationDepth.SHALLOW),
+                () -> assertThat(options.getShallowBodyThreshold()).isEqualTo(65536),
+                () -> assertThat(options.getParametersOnlyBodyThreshold()).isEqualTo(10485760),
+                () -> assertThat(options.getLogQueueSize()).isEqualTo(100),
+                () -> assertThat(options.getLogBodyLimit()).isEqualTo(4096),
+                () -> assertThat(options.getLogRateLimitIntervalMillis()).isEqualTo(10000),
+                () -> assertThat(options.isMetricsEnabled()).isTrue(),
+                () -> assertThat(options.isServerTimingEnabled()).isTrue(),
+                () -> assertThat(options.getSlowValidationThresholdMillis()).isEqualTo(250));
     }
 
     @Test
@@ -83,6 +186,40 @@ class ExtensionOptionsTest {
                 .addEnvironmentVariables("OPENAPI_VALIDATION_IGNORE_ERRORS", "1, 2 ,3")
                 .addEnvironmentVariables("OPENAPI_VALIDATION_VALIDATOR_NAME", "validator")
                 .addEnvironmentVariables("OPENAPI_VALIDATION_DEFAULT_RESPONSE_CONTENT_TYPE", "application/json")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_VALIDATOR_CACHE_SIZE", "7")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_ASYNC_LOADING", "true")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_NOT_READY_POLICY", "PASS_THROUGH")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_NOT_READY_TIMEOUT", "1000")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_SNAPSHOT_DIRECTORY", "/tmp/snapshots")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_WATCH_INTERVAL", "2000")
+                .addEnvironmentVariables(
+                        "OPENAPI_VALIDATION_SPECS",
+                        "name=users,file=users.yaml,prefix=/users;"
+                                + "name=orders,file=orders.yaml,host=orders.local,host=shop.local")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_VERDICT_CACHE_SIZE", "50")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_REQUEST_VERDICT_CACHE_SIZE", "200")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_REQUEST_VERDICT_CACHE_TTL", "5000")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_MODE", "report-only")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_REPORT_QUEUE_SIZE", "50")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_REPORT_THREADS", "3")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_SAMPLING_RATE", "0.25")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_SHEDDING_LATENCY_BUDGET", "250")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_SHEDDING_CONCURRENCY_BUDGET", "64")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_SHEDDING_SAMPLING_RATE", "0.05")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_PARALLEL", "true")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_PARALLEL_THREADS", "4")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_PARALLEL_TIMEOUT", "500")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_PARALLEL_TIMEOUT_POLICY", "pass-through")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_STREAMING_BODY_THRESHOLD", "1048576")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_DEPTH", "shallow")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_SHALLOW_BODY_THRESHOLD", "65536")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_PARAMETERS_ONLY_BODY_THRESHOLD", "10485760")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_LOG_QUEUE_SIZE", "100")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_LOG_BODY_LIMIT", "4096")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_LOG_RATE_LIMIT_INTERVAL", "10000")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_METRICS", "true")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_SERVER_TIMING", "true")
+                .addEnvironmentVariables("OPENAPI_VALIDATION_SLOW_THRESHOLD", "250")
                 .build();
 
         ExtensionOptions options = ExtensionOptions.fromSystemParameters(systemAccessor);
@@ -96,7 +233,101 @@ class ExtensionOptionsTest {
                 () -> assertThat(options.getFailureStatusCode()).isEqualTo(512),
                 () -> assertThat(options.getIgnoredErrors()).containsExactly("1", "2", "3"),
                 () -> assertThat(options.getValidatorName()).isEqualTo("validator"),
-                () -> assertThat(options.getDefaultResponseContentType()).isEqualTo("application/json"));
+                () -> assertThat(options.getDefaultResponseContentType()).isEqualTo("application/json"),
+                () -> assertThat(options.getValidatorCacheSize()).isEqualTo(7),
+                () -> assertThat(options.isAsyncLoading()).isTrue(),
+                () -> assertThat(options.getNotReadyPolicy()).isEqualTo(ExtensionOptions.NotReadyPolicy.PASS_THROUGH),
+                () -> assertThat(options.getNotReadyTimeoutMillis()).isEqualTo(1000),
+                () -> assertThat(options.getSnapshotDirectory()).isEqualTo("/tmp/snapshots"),
+                () -> assertThat(options.getWatchIntervalMillis()).isEqualTo(2000),
+                () -> assertThat(options.getSpecs())
+                        .extracting(OpenApiSpecDefinition::toString)
+                        .containsExactly(
+                                "users: users.yaml (path prefixes: /users, hosts: <any>)",
+                                "orders: orders.yaml (path prefixes: <any>, hosts: orders.local, shop.local)"),
+                () -> assertThat(options.getVerdictCacheSize()).isEqualTo(50),
+                () -> assertThat(options.getRequestVerdictCacheSize()).isEqualTo(200),
+                () -> assertThat(options.getRequestVerdictCacheTtlMillis()).isEqualTo(5000),
+                () -> assertThat(options.getValidationMode()).isEqualTo(ExtensionOptions.ValidationMode.REPORT_ONLY),
+                () -> assertThat(options.getReportQueueSize()).isEqualTo(50),
+                () -> assertThat(options.getReportThreads()).isEqualTo(3),
+                () -> assertThat(options.getSamplingRate()).isEqualTo(0.25),
+                () -> assertThat(options.getSheddingLatencyBudgetMillis()).isEqualTo(250),
+                () -> assertThat(options.getSheddingConcurrencyBudget()).isEqualTo(64),
+                () -> assertThat(options.getSheddingSamplingRate()).isEqualTo(0.05),
+                () -> assertThat(options.isParallelValidation()).isTrue(),
+                () -> assertThat(options.getParallelThreads()).isEqualTo(4),
+                () -> assertThat(options.getParallelTimeoutMillis()).isEqualTo(500),
+                () -> assertThat(options.getParallelTimeoutPolicy())
+                        .isEqualTo(ExtensionOptions.ParallelTimeoutPolicy.PASS_THROUGH),
+                () -> assertThat(options.getStreamingBodyThreshold()).isEqualTo(1048576),
+                () -> assertThat(options.getValidationDepth()).isEqualTo(ExtensionOptions.ValidationDepth.SHALLOW),
+                () -> assertThat(options.getShallowBodyThreshold()).isEqualTo(65536),
+                () -> assertThat(options.getParametersOnlyBodyThreshold()).isEqualTo(10485760),
+                () -> assertThat(options.getLogQueueSize()).isEqualTo(100),
+                () -> assertThat(options.getLogBodyLimit()).isEqualTo(4096),
+                () -> assertThat(options.getLogRateLimitIntervalMillis()).isEqualTo(10000),
+                () -> assertThat(options.isMetricsEnabled()).isTrue(),
+                () -> assertThat(options.isServerTimingEnabled()).isTrue(),
+                () -> assertThat(options.getSlowValidationThresholdMillis()).isEqualTo(250));
+    }
+
+    @Test
+    void testFromSystemParametersRejectsSpecWithoutFile() {
+        final SystemAccessor systemAccessor = new TestSystemAccessor.Builder()
+                .addEnvironmentVariables("OPENAPI_VALIDATION_SPECS", "name=users,prefix=/users")
+                .build();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ExtensionOptions.fromSystemParameters(systemAccessor))
+                .withMessageContaining("must have both name and file");
+    }
+
+    @Test
+    void testFromSystemParametersRejectsSamplingRateOutOfRange() {
+        final SystemAccessor systemAccessor = new TestSystemAccessor.Builder()
+                .addEnvironmentVariables("OPENAPI_VALIDATION_SAMPLING_RATE", "1.5")
+                .build();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ExtensionOptions.fromSystemParameters(systemAccessor))
+                .withMessageContaining("openapi_validation_sampling_rate");
+    }
+
+    @Test
+    void testBuildRejectsSheddingSamplingRateOutOfRange() {
+        final ExtensionOptions.Builder builder = ExtensionOptions.builder().withSheddingSamplingRate(-0.1);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(builder::build)
+                .withMessageContaining("openapi_validation_shedding_sampling_rate");
+    }
+
+    @Test
+    void testBuildRejectsNegativeCacheSize() {
+        final ExtensionOptions.Builder builder = ExtensionOptions.builder().withVerdictCacheSize(-1);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(builder::build)
+                .withMessageContaining("openapi_validation_verdict_cache_size");
+    }
+
+    @Test
+    void testBuildRejectsZeroReportThreads() {
+        final ExtensionOptions.Builder builder = ExtensionOptions.builder().withReportThreads(0);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(builder::build)
+                .withMessageContaining("openapi_validation_report_threads");
+    }
+
+    @Test
+    void testBuildRejectsNegativeParallelThreads() {
+        final ExtensionOptions.Builder builder = ExtensionOptions.builder().withParallelThreads(-1);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(builder::build)
+                .withMessageContaining("openapi_validation_parallel_threads");
     }
 
     @Test
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.common.LocalNotifier;
+import com.github.tomakehurst.wiremock.common.Notifier;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class FailureLoggerTest {
+
+    private static final LoggedRequest REQUEST =
+            LoggedRequest.createFrom(RequestBuilder.postJsonRequest("http://localhost/users", "{\"name\": \"user\"}"));
+    private static final Response RESPONSE =
+            Response.response().status(200).body("0123456789").build();
+    private static final Response ERROR_RESPONSE =
+            Response.response().status(500).body("error").build();
+
+    private final CapturingNotifier notifier = new CapturingNotifier();
+
+    @AfterEach
+    void tearDown() {
+        LocalNotifier.set(null);
+    }
+
+    @Test
+    void testBodiesAreTruncated() {
+        LocalNotifier.set(notifier);
+        final FailureLogger logger = new FailureLogger(0, 4, 0);
+
+        logger.log(UUID.randomUUID(), REQUEST, RESPONSE, ERROR_RESPONSE, List.of("key"));
+
+        assertThat(notifier.errors).hasSize(1);
+        assertThat(notifier.errors.get(0))
+                .contains("{\"na\n... (4 of 16 bytes shown)")
+                .contains("0123\n... (first 4 bytes shown)")
+                .contains("erro\n... (first 4 bytes shown)")
+                .doesNotContain("\"user\"")
+                .doesNotContain("0123456789");
+    }
+
+    @Test
+    void testIdenticalFailuresAreRateLimitedAndSummarized() {
+        LocalNotifier.set(notifier);
+        final FailureLogger logger = new FailureLogger(0, 0, 60_000);
+        final UUID stubId = UUID.randomUUID();
+
+        logger.log(stubId, REQUEST, RESPONSE, ERROR_RESPONSE, List.of("key1", "key2"));
+        logger.log(stubId, REQUEST, RESPONSE, ERROR_RESPONSE, List.of("key2", "key1"));
+        logger.log(stubId, REQUEST, RESPONSE, ERROR_RESPONSE, List.of("key1", "key2"));
+        logger.log(stubId, REQUEST, RESPONSE, ERROR_RESPONSE, List.of("key1"));
+        logger.log(UUID.randomUUID(), REQUEST, RESPONSE, ERROR_RESPONSE, List.of("key1", "key2"));
+        final int loggedBeforeStop = notifier.errors.size();
+        logger.stop();
+
+        assertThat(loggedBeforeStop).isEqualTo(3);
+        assertThat(notifier.errors)
+                .last()
+                .asString()
+                .contains("repeated 2 more times")
+                .contains(stubId.toString())
+                .contains("[key1, key2]");
+        assertThat(logger.buildStatus())
+                .containsEntry("loggedCount", 3L)
+                .containsEntry("suppressedCount", 2L);
+    }
+
+    @Test
+    void testFailuresNotFittingIntoQueueAreDropped() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        LocalNotifier.set(new CapturingNotifier() {
+            @Override
+            public void error(final String message) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        final FailureLogger logger = new FailureLogger(1, 0, 0);
+
+        logger.log(UUID.randomUUID(), REQUEST, RESPONSE, ERROR_RESPONSE, List.of("key"));
+        started.await();
+        logger.log(UUID.randomUUID(), REQUEST, RESPONSE, ERROR_RESPONSE, List.of("key"));
+        logger.log(UUID.randomUUID(), REQUEST, RESPONSE, ERROR_RESPONSE, List.of("key"));
+        final int queueDepth = (int) logger.buildStatus().get("queueDepth");
+        release.countDown();
+        logger.stop();
+
+        assertThat(queueDepth).isEqualTo(1);
+        assertThat(logger.buildStatus()).containsEntry("loggedCount", 2L).containsEntry("droppedCount", 1L);
+    }
+
+    @Test
+    void testSlowValidationIsLoggedWithPhases() {
+        LocalNotifier.set(notifier);
+        final FailureLogger logger = new FailureLogger(0, 0, 0);
+        final PhaseTimer timer = new PhaseTimer();
+        timer.add(PhaseTimer.Phase.REQUEST, TimeUnit.MILLISECONDS.toNanos(150));
+        timer.add(PhaseTimer.Phase.RESPONSE, TimeUnit.MILLISECONDS.toNanos(50));
+        final UUID stubId = UUID.randomUUID();
+
+        logger.logSlowValidation(stubId, REQUEST, timer, TimeUnit.MILLISECONDS.toNanos(201));
+
+        assertThat(notifier.infos)
+                .singleElement()
+                .asString()
+                .contains("took 201 ms")
+                .contains(stubId.toString())
+                .contains("POST /users")
+                .contains("request;dur=150.000, response;dur=50.000, total;dur=201.000");
+        assertThat(logger.buildStatus()).containsEntry("slowCount", 1L);
+    }
+
+    private static class CapturingNotifier implements Notifier {
+
+        private final List<String> infos = new CopyOnWriteArrayList<>();
+        private final List<String> errors = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void info(final String message) {
+            infos.add(message);
+        }
+
+        @Override
+        public void error(final String message) {
+            errors.add(message);
+        }
+
+        @Override
+        public void error(final String message, final Throwable t) {
+            errors.add(message);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LoadShedderTest {
+
+    private static final long INTERVAL_MILLIS = 1_000;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void testSlowValidationsDegradeOneLevelPerInterval() {
+        final LoadShedder shedder = new LoadShedder(100, 0, 0.1, INTERVAL_MILLIS, clock::get);
+
+        for (final LoadShedder.Level expected : new LoadShedder.Level[] {
+            LoadShedder.Level.SKIP_RESPONSE_BODY, LoadShedder.Level.SAMPLE, LoadShedder.Level.PASS_THROUGH
+        }) {
+            validate(shedder, 150);
+            nextInterval();
+            assertThat(shedder.getLevel()).isEqualTo(expected);
+        }
+
+        validate(shedder, 150);
+        nextInterval();
+        assertThat(shedder.getLevel()).isEqualTo(LoadShedder.Level.PASS_THROUGH);
+        assertThat(shedder.buildStatus())
+                .containsEntry("level", "PASS_THROUGH")
+                .containsEntry("degradationCount", 3L)
+                .containsEntry("recoveryCount", 0L)
+                .containsEntry("lastP99Millis", 150L);
+    }
+
+    @Test
+    void testLevelIsNotEvaluatedBeforeIntervalPasses() {
+        final LoadShedder shedder = new LoadShedder(100, 0, 0.1, INTERVAL_MILLIS, clock::get);
+
+        validate(shedder, 150);
+
+        assertThat(shedder.getLevel()).isEqualTo(LoadShedder.Level.NONE);
+    }
+
+    @Test
+    void testValidationRecoversWhenLoadDrops() {
+        final LoadShedder shedder = new LoadShedder(100, 0, 0.1, INTERVAL_MILLIS, clock::get);
+        validate(shedder, 150);
+        nextInterval();
+        shedder.getLevel();
+        validate(shedder, 150);
+        nextInterval();
+        assertThat(shedder.getLevel()).isEqualTo(LoadShedder.Level.SAMPLE);
+
+        // Duration within budget but above half of it keeps the level.
+        validate(shedder, 80);
+        nextInterval();
+        assertThat(shedder.getLevel()).isEqualTo(LoadShedder.Level.SAMPLE);
+
+        validate(shedder, 10);
+        nextInterval();
+        assertThat(shedder.getLevel()).isEqualTo(LoadShedder.Level.SKIP_RESPONSE_BODY);
+
+        // No validations at all also mean no load.
+        nextInterval();
+        assertThat(shedder.getLevel()).isEqualTo(LoadShedder.Level.NONE);
+        assertThat(shedder.buildStatus()).containsEntry("degradationCount", 2L).containsEntry("recoveryCount", 2L);
+    }
+
+    @Test
+    void testTooManyValidationsInFlightDegrade() {
+        final LoadShedder shedder = new LoadShedder(0, 2, 0.1, INTERVAL_MILLIS, clock::get);
+        final long first = shedder.enter();
+        final long second = shedder.enter();
+        final long third = shedder.enter();
+        shedder.exit(first);
+        shedder.exit(second);
+        shedder.exit(third);
+
+        nextInterval();
+
+        assertThat(shedder.getLevel()).isEqualTo(LoadShedder.Level.SKIP_RESPONSE_BODY);
+        assertThat(shedder.buildStatus()).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    void testP99IgnoresRareSlowValidations() {
+        final LoadShedder shedder = new LoadShedder(100, 0, 0.1, INTERVAL_MILLIS, clock::get);
+        for (int i = 0; i < 199; i++) {
+            validate(shedder, 10);
+        }
+        validate(shedder, 1_000);
+
+        nextInterval();
+
+        assertThat(shedder.getLevel()).isEqualTo(LoadShedder.Level.NONE);
+    }
+
+    private void validate(final LoadShedder shedder, final long durationMillis) {
+        final long startNanos = shedder.enter();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(durationMillis));
+        shedder.exit(startNanos);
+    }
+
+    private void nextInterval() {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(INTERVAL_MILLIS));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OpenApiFileWatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testChangeOfReferencedFileIsDetectedOnce() throws IOException {
+        final Path openapiFile = tempDir.resolve("openapi.yaml");
+        final Path schemaFile = tempDir.resolve("user.yaml");
+        Files.writeString(openapiFile, "schema:\n  $ref: user.yaml#/User\n");
+        Files.writeString(schemaFile, "User:\n  type: object\n");
+        final AtomicInteger changeCount = new AtomicInteger();
+        final OpenApiFileWatcher watcher =
+                new OpenApiFileWatcher(openapiFile.toString(), 60_000, changeCount::incrementAndGet);
+        watcher.start();
+
+        try {
+            final boolean changedBeforeEdit = watcher.check();
+            Files.writeString(schemaFile, "User:\n  type: string\n");
+            final boolean changedAfterEdit = watcher.check();
+            final boolean changedOnNextCheck = watcher.check();
+
+            assertThat(changedBeforeEdit).isFalse();
+            assertThat(changedAfterEdit).isTrue();
+            assertThat(changedOnNextCheck).isFalse();
+            assertThat(changeCount).hasValue(1);
+        } finally {
+            watcher.stop();
+        }
+    }
+
+    @Test
+    void testMissingFileIsNotReportedAsChange() throws IOException {
+        final Path openapiFile = tempDir.resolve("openapi.yaml");
+        Files.writeString(openapiFile, "openapi: 3.0.1\n");
+        final AtomicInteger changeCount = new AtomicInteger();
+        final OpenApiFileWatcher watcher =
+                new OpenApiFileWatcher(openapiFile.toString(), 60_000, changeCount::incrementAndGet);
+        watcher.start();
+
+        try {
+            Files.delete(openapiFile);
+
+            assertThat(watcher.check()).isFalse();
+            assertThat(changeCount).hasValue(0);
+        } finally {
+            watcher.stop();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OpenApiSnapshotCacheTest {
+
+    private static final String OPENAPI_FILE_PATH = "src/test/resources/openapi.yaml";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSnapshotIsUsedOnNextLoad() throws IOException {
+        final Path snapshotDirectory = tempDir.resolve("snapshots");
+        final CountingLoader loader = new CountingLoader(OPENAPI_FILE_PATH);
+
+        final OpenAPI loaded = new OpenApiSnapshotCache(snapshotDirectory).load(OPENAPI_FILE_PATH, false, loader);
+        final OpenAPI fromSnapshot = new OpenApiSnapshotCache(snapshotDirectory).load(OPENAPI_FILE_PATH, false, loader);
+
+        assertThat(loader.getCount()).isEqualTo(1);
+        assertThat(fromSnapshot).isNotSameAs(loaded);
+        assertThat(Json.mapper().writeValueAsString(fromSnapshot))
+                .isEqualTo(Json.mapper().writeValueAsString(loaded));
+        try (var files = Files.list(snapshotDirectory)) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    void testOlderSnapshotOfChangedFileIsDeleted() throws IOException {
+        final Path snapshotDirectory = tempDir.resolve("snapshots");
+        final Path openapiFile = tempDir.resolve("openapi.yaml");
+        Files.copy(Path.of(OPENAPI_FILE_PATH), openapiFile);
+        final OpenApiSnapshotCache cache = new OpenApiSnapshotCache(snapshotDirectory);
+
+        cache.load(OPENAPI_FILE_PATH, false, new CountingLoader(OPENAPI_FILE_PATH));
+        cache.load(openapiFile.toString(), false, new CountingLoader(openapiFile.toString()));
+        Files.writeString(openapiFile, "\n# changed\n", StandardOpenOption.APPEND);
+        cache.load(openapiFile.toString(), false, new CountingLoader(openapiFile.toString()));
+
+        try (var files = Files.list(snapshotDirectory)) {
+            assertThat(files)
+                    .containsExactlyInAnyOrder(
+                            cache.snapshotPath(OPENAPI_FILE_PATH, false).orElseThrow(),
+                            cache.snapshotPath(openapiFile.toString(), false).orElseThrow());
+        }
+    }
+
+    @Test
+    void testSnapshotIsNotSharedBetweenStrictAndLenientLoading() {
+        final OpenApiSnapshotCache cache = new OpenApiSnapshotCache(tempDir);
+        final CountingLoader loader = new CountingLoader(OPENAPI_FILE_PATH);
+
+        cache.load(OPENAPI_FILE_PATH, false, loader);
+        cache.load(OPENAPI_FILE_PATH, true, loader);
+
+        assertThat(loader.getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testDigestChangesWhenReferencedFileChanges() throws IOException {
+        final Path openapiFile = tempDir.resolve("openapi.yaml");
+        final Path schemaFile = tempDir.resolve("schemas/user.yaml");
+        Files.createDirectories(schemaFile.getParent());
+        Files.writeString(
+                openapiFile, "paths:\n  /users:\n    get:\n      schema:\n        $ref: './schemas/user.yaml#/User'\n");
+        Files.writeString(schemaFile, "User:\n  type: object\n");
+        final OpenApiSnapshotCache cache = new OpenApiSnapshotCache(tempDir);
+
+        final String originalDigest =
+                cache.digest(openapiFile.toString(), false).orElseThrow();
+        Files.writeString(schemaFile, "User:\n  type: string\n");
+        final String changedDigest = cache.digest(openapiFile.toString(), false).orElseThrow();
+
+        assertThat(changedDigest).isNotEqualTo(originalDigest);
+    }
+
+    @Test
+    void testCacheIsBypassedForRemoteReferences() throws IOException {
+        final Path openapiFile = tempDir.resolve("openapi.json");
+        Files.writeString(openapiFile, "{\"schema\": {\"$ref\": \"https://example.com/schemas.json#/User\"}}");
+
+        assertThat(new OpenApiSnapshotCache(tempDir).digest(openapiFile.toString(), false))
+                .isEmpty();
+    }
+
+    @Test
+    void testCorruptedSnapshotIsReplaced() throws IOException {
+        final OpenApiSnapshotCache cache = new OpenApiSnapshotCache(tempDir);
+        Files.writeString(cache.snapshotPath(OPENAPI_FILE_PATH, false).orElseThrow(), "{");
+        final CountingLoader loader = new CountingLoader(OPENAPI_FILE_PATH);
+
+        cache.load(OPENAPI_FILE_PATH, false, loader);
+        cache.load(OPENAPI_FILE_PATH, false, loader);
+
+        assertThat(loader.getCount()).isEqualTo(1);
+    }
+
+    private static final class CountingLoader implements Supplier<OpenAPI> {
+
+        private final String openapiFilePath;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private CountingLoader(final String openapiFilePath) {
+            this.openapiFilePath = openapiFilePath;
+        }
+
+        @Override
+        public OpenAPI get() {
+            count.incrementAndGet();
+            return new OpenApiSpecRegistry().get(openapiFilePath, false);
+        }
+
+        int getCount() {
+            return count.get();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+
+class OpenApiSpecRegistryTest {
+
+    private static final String OPENAPI_FILE_PATH = "src/test/resources/openapi.json";
+    private static final String INVALID_OPENAPI_FILE_PATH = "src/test/resources/invalid_openapi.json";
+
+    @Test
+    void testSpecIsParsedOnce() {
+        final OpenApiSpecRegistry registry = new OpenApiSpecRegistry();
+
+        final OpenAPI first = registry.get(OPENAPI_FILE_PATH, false);
+        final OpenAPI second = registry.get(OPENAPI_FILE_PATH, false);
+
+        assertThat(first).isNotNull().isSameAs(second);
+    }
+
+    @Test
+    void testSpecIsParsedSeparatelyWhenInvalidOpenapiIsAllowed() {
+        final OpenApiSpecRegistry registry = new OpenApiSpecRegistry();
+
+        final OpenAPI strict = registry.get(OPENAPI_FILE_PATH, false);
+        final OpenAPI lenient = registry.get(OPENAPI_FILE_PATH, true);
+
+        assertThat(lenient).isNotNull().isNotSameAs(strict);
+    }
+
+    @Test
+    void testInvalidSpecIsNotRegistered() {
+        final OpenApiSpecRegistry registry = new OpenApiSpecRegistry();
+
+        assertThatExceptionOfType(OpenApiInteractionValidator.ApiLoadException.class)
+                .isThrownBy(() -> registry.get(INVALID_OPENAPI_FILE_PATH, false));
+        assertThat(registry.get(INVALID_OPENAPI_FILE_PATH, true)).isNotNull();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.Test;
+
+class OpenApiSpecRouterTest {
+
+    @Test
+    void testLongestPathPrefixWins() {
+        final OpenApiSpecRouter<String> router = new OpenApiSpecRouter<>();
+        router.add(
+                OpenApiSpecDefinition.builder("api", "api.yaml")
+                        .withPathPrefix("/api")
+                        .build(),
+                "api");
+        router.add(
+                OpenApiSpecDefinition.builder("users", "users.yaml")
+                        .withPathPrefix("/api/users")
+                        .build(),
+                "users");
+
+        assertThat(router.route("localhost", "/api/users/1")).hasValue("users");
+        assertThat(router.route("localhost", "/api/users")).hasValue("users");
+        assertThat(router.route("localhost", "/api/orders")).hasValue("api");
+        assertThat(router.route("localhost", "/other")).isEmpty();
+    }
+
+    @Test
+    void testPathPrefixIsMatchedBySegments() {
+        final OpenApiSpecRouter<String> router = new OpenApiSpecRouter<>();
+        router.add(
+                OpenApiSpecDefinition.builder("users", "users.yaml")
+                        .withPathPrefix("/users/")
+                        .build(),
+                "users");
+
+        assertThat(router.route("localhost", "//users//1")).hasValue("users");
+        assertThat(router.route("localhost", "/users-admin")).isEmpty();
+    }
+
+    @Test
+    void testHostIsPreferredOverAnyHostOnTheSamePrefix() {
+        final OpenApiSpecRouter<String> router = new OpenApiSpecRouter<>();
+        router.add(OpenApiSpecDefinition.builder("default", "openapi.yaml").build(), "default");
+        router.add(
+                OpenApiSpecDefinition.builder("users", "users.yaml")
+                        .withHost("Users.Local")
+                        .build(),
+                "users");
+        router.add(
+                OpenApiSpecDefinition.builder("admin", "admin.yaml")
+                        .withPathPrefix("/admin")
+                        .build(),
+                "admin");
+
+        assertThat(router.route("users.local", "/users")).hasValue("users");
+        assertThat(router.route("USERS.LOCAL", "/users")).hasValue("users");
+        assertThat(router.route("other.local", "/users")).hasValue("default");
+        assertThat(router.route("users.local", "/admin/1")).hasValue("admin");
+    }
+
+    @Test
+    void testConflictingDefinitionsAreRejected() {
+        final OpenApiSpecRouter<String> router = new OpenApiSpecRouter<>();
+        router.add(
+                OpenApiSpecDefinition.builder("first", "first.yaml")
+                        .withPathPrefix("/api")
+                        .build(),
+                "first");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> router.add(
+                        OpenApiSpecDefinition.builder("second", "second.yaml")
+                                .withPathPrefix("/api")
+                                .build(),
+                        "second"))
+                .withMessageContaining("\"first\"");
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OpenApiSpecTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReloadAskedForDuringReloadIsNotLost() throws IOException, InterruptedException {
+        final Path openapiFile = tempDir.resolve("openapi.json");
+        Files.copy(Path.of("src/test/resources/openapi.json"), openapiFile);
+        final OpenApiSpec spec = new OpenApiSpec(
+                OpenApiSpecDefinition.builder(OpenApiSpecDefinition.DEFAULT_NAME, openapiFile.toString())
+                        .build(),
+                ExtensionOptions.builder().build(),
+                null);
+
+        spec.reload();
+        // Whether the first reload is still in progress or not, the file is read once more after this call.
+        spec.reload();
+
+        assertThat(awaitReloadCount(spec, 2)).isEqualTo(2);
+        Thread.sleep(100);
+        assertThat(spec.buildStatus().get("reloadCount")).isEqualTo(2L);
+    }
+
+    private static long awaitReloadCount(final OpenApiSpec spec, final long expectedCount)
+            throws InterruptedException {
+        long reloadCount = 0;
+        for (int i = 0; i < 100; i++) {
+            reloadCount = (long) spec.buildStatus().get("reloadCount");
+            if (reloadCount >= expectedCount) {
+                return reloadCount;
+            }
+            Thread.sleep(100);
+        }
+
+        return reloadCount;
+    }
+}
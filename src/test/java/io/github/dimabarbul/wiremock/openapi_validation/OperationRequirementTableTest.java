@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import org.junit.jupiter.api.Test;
+
+class OperationRequirementTableTest {
+
+    private static final String OPENAPI_FILE_PATH = "src/test/resources/openapi.json";
+
+    private final OpenAPI api = new OpenApiSpecRegistry().get(OPENAPI_FILE_PATH, false);
+    private final OperationRequirementTable table = OperationRequirementTable.build(api);
+
+    @Test
+    void testTableHasAllOperations() {
+        assertThat(table.size()).isEqualTo(4);
+    }
+
+    @Test
+    void testRequestContentTypeIsRequiredOnlyForRequiredBody() {
+        final Operation createUser = api.getPaths().get("/users").getPost();
+        final Operation getUsers = api.getPaths().get("/users").getGet();
+
+        assertThat(table.get(createUser).isRequestContentTypeRequired()).isTrue();
+        assertThat(table.get(getUsers).isRequestContentTypeRequired()).isFalse();
+    }
+
+    @Test
+    void testResponseContentTypeIsRequiredOnlyForStatusWithContent() {
+        final OperationRequirementTable.OperationRequirements getUsers =
+                table.get(api.getPaths().get("/users").getGet());
+        final OperationRequirementTable.OperationRequirements deleteUser =
+                table.get(api.getPaths().get("/users/{userId}").getDelete());
+
+        assertThat(getUsers.isResponseContentTypeRequired(200)).isTrue();
+        assertThat(getUsers.isResponseContentTypeRequired(404)).isFalse();
+        assertThat(deleteUser.isResponseContentTypeRequired(204)).isFalse();
+    }
+
+    @Test
+    void testRequestHeaderNamesIncludeContentTypeAndAccept() {
+        final OperationRequirementTable.OperationRequirements createUser =
+                table.get(api.getPaths().get("/users").getPost());
+
+        assertThat(createUser.getRequestHeaderNames()).contains("content-type", "accept");
+    }
+}
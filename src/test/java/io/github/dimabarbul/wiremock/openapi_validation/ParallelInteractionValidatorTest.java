@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelInteractionValidatorTest {
+
+    private static final String OPENAPI_FILE_PATH = "src/test/resources/openapi.json";
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ParallelInteractionValidator parallelValidator;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (parallelValidator != null) {
+            parallelValidator.stop();
+        }
+    }
+
+    @Test
+    void testVerdictMatchesSerialValidation() {
+        parallelValidator = new ParallelInteractionValidator(2, 10_000, ExtensionOptions.ParallelTimeoutPolicy.FAIL);
+        final OpenApiValidator validator = createValidator();
+        final LoggedRequest request =
+                LoggedRequest.createFrom(RequestBuilder.postJsonRequest("http://localhost/users", "{}"));
+        final Response response = Response.response().status(299).build();
+
+        final InteractionValidationResult parallel = parallelValidator.validate(validator, request, response, true);
+        final InteractionValidationResult serial = validator.validateInteraction(request, response, true);
+
+        assertThat(errorKeys(parallel.getRequestResult()))
+                .isEqualTo(errorKeys(serial.getRequestResult()))
+                .contains("validation.request.body.schema.required");
+        assertThat(errorKeys(parallel.getResponseResult()))
+                .isEqualTo(errorKeys(serial.getResponseResult()))
+                .containsExactly("validation.response.status.unknown");
+        assertThat(parallelValidator.buildStatus())
+                .containsEntry("executor", "2 threads")
+                .containsEntry("validatedCount", 1L);
+    }
+
+    @Test
+    void testUnknownPathIsReportedOnlyForRequest() {
+        parallelValidator = new ParallelInteractionValidator(2, 10_000, ExtensionOptions.ParallelTimeoutPolicy.FAIL);
+        final LoggedRequest request = LoggedRequest.createFrom(RequestBuilder.getRequest("http://localhost/unknown"));
+
+        final InteractionValidationResult result = parallelValidator.validate(
+                createValidator(), request, Response.response().status(200).build(), true);
+
+        assertThat(errorKeys(result.getRequestResult())).containsExactly("validation.request.path.missing");
+        assertThat(result.getResponseResult().hasErrors()).isFalse();
+    }
+
+    @Test
+    void testRequestValidationTimeoutFailsRequest() {
+        parallelValidator = new ParallelInteractionValidator(2, 50, ExtensionOptions.ParallelTimeoutPolicy.FAIL);
+        final LoggedRequest request = LoggedRequest.createFrom(RequestBuilder.getRequest("http://localhost/users"));
+
+        final InteractionValidationResult result = parallelValidator.validate(
+                createBlockingValidator(),
+                request,
+                Response.response().status(299).build(),
+                true);
+
+        assertThat(errorKeys(result.getRequestResult()))
+                .containsExactly(ParallelInteractionValidator.VALIDATION_REQUEST_TIMEOUT_KEY);
+        assertThat(errorKeys(result.getResponseResult())).containsExactly("validation.response.status.unknown");
+        assertThat(parallelValidator.buildStatus()).containsEntry("timeoutCount", 1L);
+    }
+
+    @Test
+    void testRequestValidationTimeoutPassesRequestWhenConfigured() {
+        parallelValidator =
+                new ParallelInteractionValidator(2, 50, ExtensionOptions.ParallelTimeoutPolicy.PASS_THROUGH);
+        final LoggedRequest request = LoggedRequest.createFrom(RequestBuilder.getRequest("http://localhost/users"));
+
+        final InteractionValidationResult result = parallelValidator.validate(
+                createBlockingValidator(),
+                request,
+                Response.response().status(299).build(),
+                true);
+
+        assertThat(result.getRequestResult().hasErrors()).isFalse();
+        assertThat(errorKeys(result.getResponseResult())).containsExactly("validation.response.status.unknown");
+        assertThat(parallelValidator.buildStatus()).containsEntry("timeoutCount", 1L);
+    }
+
+    private static OpenApiValidator createValidator() {
+        return OpenApiValidator.create(ExtensionOptions.builder()
+                .withOpenapiFilePath(OPENAPI_FILE_PATH)
+                .build());
+    }
+
+    /** Create validator that does not finish request validation until the test is over. */
+    private OpenApiValidator createBlockingValidator() {
+        final ExtensionOptions options = ExtensionOptions.builder()
+                .withOpenapiFilePath(OPENAPI_FILE_PATH)
+                .build();
+        return new AtlassianOpenApiValidator(
+                OPENAPI_FILE_PATH,
+                false,
+                null,
+                OpenApiValidatorOptions.fromExtensionOptions(options),
+                10,
+                0,
+                0,
+                0,
+                null) {
+            @Override
+            public ValidationResult validateRequest(final LoggedRequest request) {
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.validateRequest(request);
+            }
+        };
+    }
+
+    private static List<String> errorKeys(final ValidationResult result) {
+        return result.getErrors().stream().map(ValidationResult.Error::getKey).collect(Collectors.toList());
+    }
+}
@@ -67,6 +67,13 @@ class RequestBuilder {
                 .build();
     }
 
+    public static Request postRequest(final String url) {
+        return ImmutableRequest.create()
+                .withMethod(RequestMethod.POST)
+                .withAbsoluteUrl(url)
+                .build();
+    }
+
     public static Request deleteRequest(final String url) {
         return ImmutableRequest.create()
                 .withMethod(RequestMethod.DELETE)
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import org.junit.jupiter.api.Test;
+
+class ResponseVerdictCacheTest {
+
+    private static final String OPENAPI_FILE_PATH = "src/test/resources/openapi.json";
+
+    private final ExtensionOptions options =
+            ExtensionOptions.builder().withOpenapiFilePath(OPENAPI_FILE_PATH).build();
+    private final OpenApiValidator validator = OpenApiValidator.create(options);
+    private final ValidationPlan plan =
+            ValidationPlan.create(options, get(anyUrl()).willReturn(ok()).build());
+    private final LoggedRequest request = LoggedRequest.createFrom(RequestBuilder.getRequest("http://localhost/users"));
+    private final ResponseVerdictCache cache = new ResponseVerdictCache(10, 10);
+
+    @Test
+    void testSameResponseGetsRememberedVerdict() {
+        cache.put(key(response("[]")), 500, ValidationResult.builder().build(), ExtensionOptions.ValidationDepth.FULL);
+
+        final ResponseVerdictCache.Verdict verdict = cache.get(key(response("[]")));
+
+        assertThat(verdict).isNotNull();
+        assertThat(verdict.getErrorResponse()).isNull();
+    }
+
+    @Test
+    void testDifferentResponseBodyMisses() {
+        cache.put(key(response("[]")), 500, ValidationResult.builder().build(), ExtensionOptions.ValidationDepth.FULL);
+
+        assertThat(cache.get(key(response("[{}]")))).isNull();
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testVerdictWithErrorsHasPrebuiltErrorResponse() {
+        cache.put(
+                key(response("[{}]")),
+                599,
+                ValidationResult.builder().addError("key", "message").build(),
+                ExtensionOptions.ValidationDepth.SHALLOW);
+
+        final Response errorResponse = cache.get(key(response("[{}]"))).getErrorResponse();
+
+        assertThat(errorResponse.getStatus()).isEqualTo(599);
+        assertThat(errorResponse.getBodyAsString()).contains("message").contains("SHALLOW");
+    }
+
+    @Test
+    void testVerdictsAreInvalidatedForStub() {
+        cache.put(key(response("[]")), 500, ValidationResult.builder().build(), ExtensionOptions.ValidationDepth.FULL);
+
+        cache.invalidateStub(plan.getStubId());
+
+        assertThat(cache.get(key(response("[]")))).isNull();
+    }
+
+    @Test
+    void testVerdictsAreNotSharedBetweenValidators() {
+        cache.put(key(response("[]")), 500, ValidationResult.builder().build(), ExtensionOptions.ValidationDepth.FULL);
+        final OpenApiValidator reloadedValidator = OpenApiValidator.create(options);
+
+        assertThat(cache.get(cache.key(
+                        plan, OpenApiSpecDefinition.DEFAULT_NAME, reloadedValidator, request, response("[]"))))
+                .isNull();
+    }
+
+    @Test
+    void testResponseWithBodyLargerThanStreamingThresholdIsNotRemembered() {
+        assertThat(key(response("[\"0123456789\"]"))).isNull();
+        assertThat(key(response("[\"01234\"]"))).isNotNull();
+    }
+
+    private ResponseVerdictCache.Key key(final Response response) {
+        return cache.key(plan, OpenApiSpecDefinition.DEFAULT_NAME, validator, request, response);
+    }
+
+    private static Response response(final String body) {
+        return Response.response().status(200).body(body).build();
+    }
+}
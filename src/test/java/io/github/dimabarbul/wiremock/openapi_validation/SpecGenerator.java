@@ -0,0 +1,503 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generator of synthetic OpenAPI files and WireMock mappings matching them, for tests, benchmarks and measuring how
+ * startup time, memory and validation cost grow with the file.
+ *
+ * <p>Operations are grouped by resources, resource {@code N} has operations {@code listItemsN} ({@code GET /itemsN}),
+ * {@code createItemN} ({@code POST /itemsN}) and {@code getItemN} ({@code GET /itemsN/{id}}), each using schema
+ * {@code ItemN}. Item has {@code refFanOut} properties referring to schemas of the first level, each schema of a level
+ * has {@code refFanOut} properties referring to schemas of the next level, and so on up to {@code schemaDepth} levels.
+ * The last level refers to leaf schema, which is {@code oneOf} of two schemas when combinators are used. Item also has
+ * array of leaves, its length in generated bodies is {@code arrayLength}.
+ *
+ * <p>Generated bodies fill only the first property of each level, so their size depends on depth and array length, but
+ * not on fan-out. Validator inlines referred schemas, so its size grows as fan-out to the power of depth, e.g., 2100
+ * operations with depth 5 and fan-out 3 take minutes to load.
+ *
+ * <p>Generator can be run to write files for running WireMock standalone, parameters are passed as system properties
+ * {@code spec.operations}, {@code spec.depth}, {@code spec.fanOut}, {@code spec.combinators} and {@code
+ * spec.arrayLength}, and the only argument is directory to write {@code openapi.json} and {@code
+ * mappings/generated.json} to.
+ */
+final class SpecGenerator {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+    private static final String ID = "3fa85f64-5717-4562-b3fc-2c963f66afa6";
+    private static final int OPERATIONS_PER_RESOURCE = 3;
+
+    /** Presets of generated files. */
+    enum Size {
+        SMALL(builder().withOperationCount(15).withSchemaDepth(1).withRefFanOut(1).withArrayLength(2)),
+        MEDIUM(builder()
+                .withOperationCount(150)
+                .withSchemaDepth(3)
+                .withRefFanOut(2)
+                .withCombinators(true)
+                .withArrayLength(5)),
+        LARGE(builder()
+                .withOperationCount(2100)
+                .withSchemaDepth(4)
+                .withRefFanOut(2)
+                .withCombinators(true)
+                .withArrayLength(20));
+
+        private final SpecGenerator generator;
+
+        Size(final Builder builder) {
+            generator = builder.build();
+        }
+
+        SpecGenerator generator() {
+            return generator;
+        }
+    }
+
+    private final int operationCount;
+    private final int schemaDepth;
+    private final int refFanOut;
+    private final boolean combinators;
+    private final int arrayLength;
+
+    private SpecGenerator(
+            final int operationCount,
+            final int schemaDepth,
+            final int refFanOut,
+            final boolean combinators,
+            final int arrayLength) {
+        this.operationCount = operationCount;
+        this.schemaDepth = schemaDepth;
+        this.refFanOut = refFanOut;
+        this.combinators = combinators;
+        this.arrayLength = arrayLength;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Directory to write files to must be passed as the only argument");
+        }
+        final SpecGenerator generator = builder()
+                .withOperationCount(Integer.getInteger("spec.operations", 2000))
+                .withSchemaDepth(Integer.getInteger("spec.depth", 4))
+                .withRefFanOut(Integer.getInteger("spec.fanOut", 2))
+                .withCombinators(Boolean.parseBoolean(System.getProperty("spec.combinators", "true")))
+                .withArrayLength(Integer.getInteger("spec.arrayLength", 10))
+                .build();
+        final Path rootDir = Path.of(args[0]);
+        Files.createDirectories(rootDir.resolve("mappings"));
+        generator.writeSpec(rootDir.resolve("openapi.json"));
+        generator.writeMappings(rootDir.resolve("mappings").resolve("generated.json"));
+    }
+
+    /** Get number of resources, the last one may have fewer operations than others. */
+    int getResourceCount() {
+        return (operationCount + OPERATIONS_PER_RESOURCE - 1) / OPERATIONS_PER_RESOURCE;
+    }
+
+    /**
+     * Write generated OpenAPI file to temporary file.
+     *
+     * @return Path to the file, it is deleted when JVM exits
+     */
+    Path writeTempFile() {
+        try {
+            final Path file = Files.createTempFile("openapi-" + operationCount + "-", ".json");
+            file.toFile().deleteOnExit();
+            writeSpec(file);
+            return file;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write generated OpenAPI file.
+     *
+     * @param file File to write to
+     */
+    void writeSpec(final Path file) {
+        write(file, generateSpec());
+    }
+
+    /**
+     * Write WireMock mappings for all generated operations. Mappings respond with valid bodies.
+     *
+     * @param file File to write to
+     */
+    void writeMappings(final Path file) {
+        write(file, generateMappings());
+    }
+
+    /**
+     * Build body of item of the resource that is valid against its schema.
+     *
+     * @param resource Number of the resource
+     * @param count Value of count property, allows building distinct bodies for the same resource
+     * @return JSON body
+     */
+    String validItem(final int resource, final int count) {
+        return item(resource, count, true).toString();
+    }
+
+    /**
+     * Build body of item of the resource that violates constraints of its schema at every level.
+     *
+     * @param resource Number of the resource
+     * @param count Absolute value of count property, allows building distinct bodies for the same resource
+     * @return JSON body
+     */
+    String invalidItem(final int resource, final int count) {
+        return item(resource, count, false).toString();
+    }
+
+    ObjectNode generateSpec() {
+        final ObjectNode api = NODES.objectNode();
+        api.put("openapi", "3.0.3");
+        api.putObject("info")
+                .put("title", "Generated " + operationCount + " operations")
+                .put("version", "1.0.0");
+        final ObjectNode paths = api.putObject("paths");
+        final ObjectNode schemas = api.putObject("components").putObject("schemas");
+        addSharedSchemas(schemas);
+        for (int resource = 0; resource < getResourceCount(); resource++) {
+            final String itemSchema = "Item" + resource;
+            schemas.set(itemSchema, itemSchema());
+            final int firstOperation = resource * OPERATIONS_PER_RESOURCE;
+            final ObjectNode collectionPath = paths.putObject("/items" + resource);
+            collectionPath.set("get", listOperation(resource, itemSchema));
+            if (firstOperation + 1 < operationCount) {
+                collectionPath.set("post", createOperation(resource, itemSchema));
+            }
+            if (firstOperation + 2 < operationCount) {
+                paths.putObject("/items" + resource + "/{id}").set("get", getOperation(resource, itemSchema));
+            }
+        }
+        return api;
+    }
+
+    ObjectNode generateMappings() {
+        final ObjectNode root = NODES.objectNode();
+        final ArrayNode mappings = root.putArray("mappings");
+        for (int operation = 0; operation < operationCount; operation++) {
+            final int resource = operation / OPERATIONS_PER_RESOURCE;
+            final ObjectNode item = item(resource, 1, true);
+            switch (operation % OPERATIONS_PER_RESOURCE) {
+                case 0:
+                    mappings.add(mapping("GET", "urlPath", "/items" + resource, 200, NODES.arrayNode().add(item)));
+                    break;
+                case 1:
+                    mappings.add(mapping("POST", "urlPath", "/items" + resource, 201, item));
+                    break;
+                default:
+                    mappings.add(mapping("GET", "urlPathPattern", "/items" + resource + "/[^/]+", 200, item));
+                    break;
+            }
+        }
+        return root;
+    }
+
+    private ObjectNode listOperation(final int resource, final String itemSchema) {
+        final ObjectNode list = NODES.objectNode();
+        list.put("operationId", "listItems" + resource);
+        list.putArray("parameters")
+                .addObject()
+                .put("name", "limit")
+                .put("in", "query")
+                .set("schema", NODES.objectNode().put("type", "integer").put("minimum", 1));
+        final ObjectNode listSchema = NODES.objectNode().put("type", "array");
+        listSchema.set("items", ref(itemSchema));
+        list.set("responses", responses("200", listSchema));
+        return list;
+    }
+
+    private ObjectNode createOperation(final int resource, final String itemSchema) {
+        final ObjectNode create = NODES.objectNode();
+        create.put("operationId", "createItem" + resource);
+        create.putObject("requestBody")
+                .put("required", true)
+                .putObject("content")
+                .putObject("application/json")
+                .set("schema", ref(itemSchema));
+        create.set("responses", responses("201", ref(itemSchema)));
+        return create;
+    }
+
+    private ObjectNode getOperation(final int resource, final String itemSchema) {
+        final ObjectNode get = NODES.objectNode();
+        get.put("operationId", "getItem" + resource);
+        get.putArray("parameters")
+                .addObject()
+                .put("name", "id")
+                .put("in", "path")
+                .put("required", true)
+                .set("schema", NODES.objectNode().put("type", "string").put("format", "uuid"));
+        get.set("responses", responses("200", ref(itemSchema)));
+        return get;
+    }
+
+    private static ObjectNode responses(final String status, final ObjectNode schema) {
+        final ObjectNode responses = NODES.objectNode();
+        responses
+                .putObject(status)
+                .put("description", "OK")
+                .putObject("content")
+                .putObject("application/json")
+                .set("schema", schema);
+        return responses;
+    }
+
+    private void addSharedSchemas(final ObjectNode schemas) {
+        schemas.set("Base", baseSchema().put("additionalProperties", true));
+        for (int level = 1; level <= schemaDepth; level++) {
+            for (int index = 0; index < refFanOut; index++) {
+                schemas.set(levelSchemaName(level, index), levelSchema(level));
+            }
+        }
+        schemas.set("LeafA", leafSchema("a", "text", NODES.objectNode().put("type", "string").put("maxLength", 32)));
+        if (combinators) {
+            schemas.set(
+                    "LeafB", leafSchema("b", "number", NODES.objectNode().put("type", "integer").put("minimum", 0)));
+            final ObjectNode leaf = NODES.objectNode();
+            leaf.putArray("oneOf").add(ref("LeafA")).add(ref("LeafB"));
+            schemas.set("Leaf", leaf);
+        } else {
+            schemas.set("Leaf", ref("LeafA"));
+        }
+    }
+
+    private static ObjectNode baseSchema() {
+        final ObjectNode schema = NODES.objectNode().put("type", "object");
+        schema.putArray("required").add("id").add("name");
+        final ObjectNode properties = schema.putObject("properties");
+        properties.putObject("id").put("type", "string").put("format", "uuid");
+        properties.putObject("name").put("type", "string").put("minLength", 1).put("maxLength", 64);
+        properties.putObject("count").put("type", "integer").put("minimum", 0);
+        return schema;
+    }
+
+    private ObjectNode itemSchema() {
+        final ObjectNode own = NODES.objectNode().put("type", "object");
+        final ObjectNode properties = own.putObject("properties");
+        properties.putObject("tags").put("type", "array").set("items", NODES.objectNode().put("type", "string"));
+        properties.putObject("entries").put("type", "array").set("items", ref("Leaf"));
+        addChildren(properties, 1);
+        if (combinators) {
+            // Validator forbids additional properties unless they are allowed explicitly, so parts of allOf must allow
+            // properties of each other.
+            own.put("additionalProperties", true);
+            final ObjectNode schema = NODES.objectNode();
+            schema.putArray("allOf").add(ref("Base")).add(own);
+            return schema;
+        }
+        own.set("required", baseSchema().get("required"));
+        properties.setAll((ObjectNode) baseSchema().get("properties"));
+        return own;
+    }
+
+    private ObjectNode levelSchema(final int level) {
+        final ObjectNode schema = NODES.objectNode().put("type", "object");
+        schema.putArray("required").add("value");
+        final ObjectNode properties = schema.putObject("properties");
+        properties.putObject("value").put("type", "string");
+        if (level < schemaDepth) {
+            addChildren(properties, level + 1);
+        } else {
+            properties.set("leaf", ref("Leaf"));
+        }
+        return schema;
+    }
+
+    private void addChildren(final ObjectNode properties, final int level) {
+        if (level > schemaDepth) {
+            return;
+        }
+        for (int index = 0; index < refFanOut; index++) {
+            properties.set("child" + index, ref(levelSchemaName(level, index)));
+        }
+    }
+
+    private static ObjectNode leafSchema(final String kind, final String property, final ObjectNode propertySchema) {
+        final ObjectNode schema = NODES.objectNode().put("type", "object");
+        schema.putArray("required").add("kind").add(property);
+        final ObjectNode properties = schema.putObject("properties");
+        properties.putObject("kind").put("type", "string").putArray("enum").add(kind);
+        properties.set(property, propertySchema);
+        return schema;
+    }
+
+    private ObjectNode item(final int resource, final int count, final boolean valid) {
+        final ObjectNode item = NODES.objectNode();
+        item.put("id", valid ? ID : "not-uuid");
+        item.put("name", valid ? "item" + resource : "");
+        item.put("count", valid ? count : -count);
+        final ArrayNode tags = item.putArray("tags");
+        if (valid) {
+            tags.add("a").add("b");
+        } else {
+            tags.add(resource);
+        }
+        final ArrayNode entries = item.putArray("entries");
+        for (int index = 0; index < arrayLength; index++) {
+            entries.add(leaf(index, valid));
+        }
+        ObjectNode parent = item;
+        for (int level = 1; level <= schemaDepth; level++) {
+            final ObjectNode child = parent.putObject("child0");
+            if (valid || level < schemaDepth) {
+                child.put("value", "level" + level);
+            } else {
+                child.put("value", level);
+            }
+            parent = child;
+        }
+        if (schemaDepth > 0) {
+            parent.set("leaf", leaf(0, valid));
+        }
+        return item;
+    }
+
+    private ObjectNode leaf(final int index, final boolean valid) {
+        if (!valid) {
+            return NODES.objectNode().put("kind", "c");
+        }
+        return combinators && index % 2 == 1
+                ? NODES.objectNode().put("kind", "b").put("number", index)
+                : NODES.objectNode().put("kind", "a").put("text", "entry" + index);
+    }
+
+    private static ObjectNode mapping(
+            final String method,
+            final String urlMatcher,
+            final String url,
+            final int status,
+            final JsonNode body) {
+        final ObjectNode mapping = NODES.objectNode();
+        mapping.putObject("request").put("method", method).put(urlMatcher, url);
+        final ObjectNode response = mapping.putObject("response").put("status", status);
+        response.putObject("headers").put("Content-Type", "application/json");
+        response.set("jsonBody", body);
+        return mapping;
+    }
+
+    private static String levelSchemaName(final int level, final int index) {
+        return "Level" + level + "_" + index;
+    }
+
+    private static ObjectNode ref(final String schema) {
+        return NODES.objectNode().put("$ref", "#/components/schemas/" + schema);
+    }
+
+    private static void write(final Path file, final ObjectNode content) {
+        try {
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), content);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Builder for generator. */
+    static final class Builder {
+
+        private int operationCount = 15;
+        private int schemaDepth = 1;
+        private int refFanOut = 1;
+        private boolean combinators = false;
+        private int arrayLength = 1;
+
+        private Builder() {}
+
+        /**
+         * Set number of operations.
+         *
+         * @param operationCount Number of operations, at least 1
+         * @return Builder
+         */
+        Builder withOperationCount(final int operationCount) {
+            this.operationCount = operationCount;
+            return this;
+        }
+
+        /**
+         * Set number of levels of schemas referred from item schema.
+         *
+         * @param schemaDepth Number of levels, 0 to refer to no schemas except leaf and base ones
+         * @return Builder
+         */
+        Builder withSchemaDepth(final int schemaDepth) {
+            this.schemaDepth = schemaDepth;
+            return this;
+        }
+
+        /**
+         * Set number of schemas on each level, every schema refers to all schemas of the next level.
+         *
+         * @param refFanOut Number of schemas on each level, at least 1
+         * @return Builder
+         */
+        Builder withRefFanOut(final int refFanOut) {
+            this.refFanOut = refFanOut;
+            return this;
+        }
+
+        /**
+         * Set whether {@code allOf} and {@code oneOf} are used in schemas.
+         *
+         * @param combinators True to build item schema as {@code allOf} and leaf schema as {@code oneOf}
+         * @return Builder
+         */
+        Builder withCombinators(final boolean combinators) {
+            this.combinators = combinators;
+            return this;
+        }
+
+        /**
+         * Set length of array of leaves in generated bodies.
+         *
+         * @param arrayLength Length of array
+         * @return Builder
+         */
+        Builder withArrayLength(final int arrayLength) {
+            this.arrayLength = arrayLength;
+            return this;
+        }
+
+        SpecGenerator build() {
+            if (operationCount < 1 || schemaDepth < 0 || refFanOut < 1 || arrayLength < 0) {
+                throw new IllegalArgumentException(String.format(
+                        "Invalid generator parameters: operations %d, depth %d, fan-out %d, array length %d",
+                        operationCount, schemaDepth, refFanOut, arrayLength));
+            }
+            return new SpecGenerator(operationCount, schemaDepth, refFanOut, combinators, arrayLength);
+        }
+    }
+}
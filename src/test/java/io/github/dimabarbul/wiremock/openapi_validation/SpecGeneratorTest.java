@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SpecGeneratorTest {
+
+    @Test
+    void testGeneratedSpecAndMappingsHaveRequestedOperations() {
+        final SpecGenerator generator = SpecGenerator.builder().withOperationCount(7).build();
+
+        final JsonNode spec = generator.generateSpec();
+        final JsonNode mappings = generator.generateMappings().get("mappings");
+
+        final List<String> operationIds = new ArrayList<>();
+        spec.get("paths")
+                .forEach(path -> path.forEach(
+                        operation -> operationIds.add(operation.get("operationId").asText())));
+        assertThat(operationIds)
+                .containsExactly(
+                        "listItems0", "createItem0", "getItem0", "listItems1", "createItem1", "getItem1", "listItems2");
+        assertThat(mappings).hasSize(7);
+        mappings.forEach(mapping -> assertThat(StubMapping.buildFrom(mapping.toString())
+                        .getResponse()
+                        .getJsonBody())
+                .isNotNull());
+    }
+
+    @Test
+    void testBodiesMatchSpecWithCombinators() {
+        assertBodiesMatchSpec(SpecGenerator.builder()
+                .withSchemaDepth(3)
+                .withRefFanOut(2)
+                .withCombinators(true)
+                .withArrayLength(3)
+                .build());
+    }
+
+    @Test
+    void testBodiesMatchSpecWithoutCombinators() {
+        assertBodiesMatchSpec(SpecGenerator.builder()
+                .withSchemaDepth(2)
+                .withRefFanOut(3)
+                .withArrayLength(2)
+                .build());
+    }
+
+    @Test
+    void testMappingsRespondWithValidBodies() {
+        final SpecGenerator generator = SpecGenerator.builder()
+                .withOperationCount(3)
+                .withSchemaDepth(2)
+                .withCombinators(true)
+                .build();
+        final OpenApiValidator validator = OpenApiValidator.create(ExtensionOptions.builder()
+                .withOpenapiFilePath(generator.writeTempFile().toString())
+                .build());
+
+        for (final JsonNode mapping : generator.generateMappings().get("mappings")) {
+            final String url = mapping.get("request").has("urlPath")
+                    ? mapping.get("request").get("urlPath").asText()
+                    : "/items0/3fa85f64-5717-4562-b3fc-2c963f66afa6";
+            final LoggedRequest request = "GET".equals(mapping.get("request").get("method").asText())
+                    ? LoggedRequest.createFrom(RequestBuilder.getRequest("http://localhost" + url))
+                    : LoggedRequest.createFrom(
+                            RequestBuilder.postJsonRequest("http://localhost" + url, generator.validItem(0, 1)));
+            final JsonNode response = mapping.get("response");
+
+            final InteractionValidationResult result = validator.validateInteraction(
+                    request, jsonResponse(response.get("status").asInt(), response.get("jsonBody").toString()));
+
+            assertThat(result.hasErrors()).as(url).isFalse();
+        }
+    }
+
+    private static void assertBodiesMatchSpec(final SpecGenerator generator) {
+        final OpenApiValidator validator = OpenApiValidator.create(ExtensionOptions.builder()
+                .withOpenapiFilePath(generator.writeTempFile().toString())
+                .build());
+
+        final InteractionValidationResult validResult = validator.validateInteraction(
+                LoggedRequest.createFrom(
+                        RequestBuilder.postJsonRequest("http://localhost/items1", generator.validItem(1, 5))),
+                jsonResponse(201, generator.validItem(1, 5)));
+        final InteractionValidationResult invalidResult = validator.validateInteraction(
+                LoggedRequest.createFrom(
+                        RequestBuilder.postJsonRequest("http://localhost/items1", generator.invalidItem(1, 5))),
+                jsonResponse(201, generator.invalidItem(1, 5)));
+
+        assertThat(validResult.hasErrors()).isFalse();
+        assertThat(invalidResult.getRequestResult().hasErrors()).isTrue();
+        assertThat(invalidResult.getResponseResult().hasErrors()).isTrue();
+    }
+
+    private static Response jsonResponse(final int status, final String body) {
+        return Response.response()
+                .status(status)
+                .headers(new HttpHeaders(HttpHeader.httpHeader("Content-Type", "application/json")))
+                .body(body)
+                .build();
+    }
+}
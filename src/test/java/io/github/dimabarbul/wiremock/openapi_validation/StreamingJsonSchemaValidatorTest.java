@@ -0,0 +1,269 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class StreamingJsonSchemaValidatorTest {
+
+    private static final String OPENAPI_FILE_PATH = "src/test/resources/streaming_openapi.yaml";
+
+    private static final OpenAPI API = OpenApiSpecRegistry.INSTANCE.get(OPENAPI_FILE_PATH, false);
+
+    @Test
+    void testStreamingReportsSameErrorsAsParsedBody() {
+        final OpenApiValidator streamingValidator = createValidator(1, List.of());
+        final OpenApiValidator parsingValidator = createValidator(0, List.of());
+        final LoggedRequest request = LoggedRequest.createFrom(RequestBuilder.getRequest("http://localhost/items"));
+        final List<String> bodies = List.of(
+                "{\"b\":true,\"free\":{\"q\":1},\"untyped\":{\"x\":1},\"map\":{\"k\":\"v\"},\"n\":null}",
+                "{\"b\":1,\"n\":5,\"f\":0.7,\"i32\":3000000000,\"dt\":[\"2020-01-01\"],\"p\":\"b\","
+                        + "\"arr\":[{\"id\":\"x\"}],\"e\":3}",
+                "{\"b\":false,\"n\":0,\"arr\":[{\"id\":\"3fa85f64-5717-4562-b3fc-2c963f66afa6\",\"name\":\"a\","
+                        + "\"dob\":\"2020-02-30\",\"child\":{\"id\":1,\"child\":{\"name\":\"toolongname\"}}},{},{},{}],"
+                        + "\"i32\":1.0,\"f\":1,\"e\":1.0}",
+                "{\"b\":false,\"i64\":99999999999999999999,\"dt\":[\"2020-01-01T00:00:00+01:00\","
+                        + "\"2020-02-30T00:00:00Z\",\"2020-01-01T00:00:00.1234567890123Z\",\"2020-01-01T24:00:00Z\"]}",
+                "{\"b\":false,\"i64\":2,\"e\":2.0}",
+                "{}",
+                "[]",
+                "{\"b\": tru");
+
+        for (final String body : bodies) {
+            final InteractionValidationResult streamed =
+                    streamingValidator.validateInteraction(request, jsonResponse(body));
+            final InteractionValidationResult parsed =
+                    parsingValidator.validateInteraction(request, jsonResponse(body));
+
+            assertThat(streamed.getResponseResult().hasErrors()).as(body).isTrue();
+            assertThat(describe(streamed.getResponseResult()))
+                    .as(body)
+                    .isEqualTo(describe(parsed.getResponseResult()));
+        }
+    }
+
+    @Test
+    void testIgnoredErrorsAreNotReported() {
+        final LoggedRequest request = LoggedRequest.createFrom(RequestBuilder.getRequest("http://localhost/items"));
+        final Response response = jsonResponse("{\"b\":false,\"e\":3,\"extra\":1}");
+
+        final InteractionValidationResult result = createValidator(
+                        1,
+                        List.of(
+                                "validation.response.body.schema.enum",
+                                StreamingJsonSchemaValidator.VALIDATION_SCHEMA_ADDITIONAL_PROPERTIES_KEY))
+                .validateInteraction(request, response);
+
+        assertThat(result.hasErrors()).isFalse();
+    }
+
+    @Test
+    void testPropertiesNotAllowedBySchemaAreCounted() throws IOException {
+        final StreamingJsonSchemaValidator.SchemaNode schema = StreamingJsonSchemaValidator.build(API)
+                .findSchema("/items", "GET", 200, "application/json")
+                .orElseThrow();
+
+        final ValidationResult result = StreamingJsonSchemaValidator.validate(
+                body("{\"b\":true,\"zz\":1,\"aa\":2,\"arr\":[{\"id\":\"3fa85f64-5717-4562-b3fc-2c963f66afa6\","
+                        + "\"x\":1},{\"id\":\"3fa85f64-5717-4562-b3fc-2c963f66afa6\"}],\"untyped\":{\"x\":1,\"y\":2}}"),
+                schema,
+                true);
+
+        assertThat(describe(result))
+                .containsExactly(
+                        "validation.response.body.schema.additionalProperties | "
+                                + "Object instance has 2 properties which are not allowed by the schema",
+                        "validation.response.body.schema.additionalProperties | [Path '/arr/0'] "
+                                + "Object instance has 1 properties which are not allowed by the schema",
+                        "validation.response.body.schema.additionalProperties | [Path '/untyped'] "
+                                + "Object instance has 1 properties which are not allowed by the schema");
+    }
+
+    @Test
+    void testNumberOfErrorsIsLimited() throws IOException {
+        final StreamingJsonSchemaValidator.SchemaNode schema = StreamingJsonSchemaValidator.build(API)
+                .findSchema("/items", "GET", 200, "application/json")
+                .orElseThrow();
+        final String invalidDates = Stream.generate(() -> "\"x\"")
+                .limit(StreamingJsonSchemaValidator.MAX_ERRORS * 2L)
+                .collect(Collectors.joining(","));
+
+        final ValidationResult result = StreamingJsonSchemaValidator.validate(
+                body("{\"b\":true,\"dt\":[" + invalidDates + "]}"), schema, true);
+
+        assertThat(result.getErrors())
+                .hasSize(StreamingJsonSchemaValidator.MAX_ERRORS)
+                .last()
+                .extracting(ValidationResult.Error::getMessage)
+                .asString()
+                .startsWith("[Path '/dt/" + (StreamingJsonSchemaValidator.MAX_ERRORS - 1) + "']");
+    }
+
+    @Test
+    void testOnlySupportedSchemasAreCompiled() {
+        final StreamingJsonSchemaValidator validator = StreamingJsonSchemaValidator.build(API);
+
+        assertThat(validator.findSchema("/items", "GET", 200, "application/json; charset=utf-8"))
+                .isPresent();
+        assertThat(validator.findSchema("/items", "GET", 200, "text/plain"))
+                .isEmpty();
+        assertThat(validator.findSchema("/items", "GET", 404, "application/json"))
+                .isEmpty();
+        assertThat(validator.findSchema("/composed", "GET", 200, "application/json"))
+                .isEmpty();
+    }
+
+    @Test
+    void testLargeBodyIsValidatedWithoutReadingItIntoMemory() throws IOException {
+        final StreamingJsonSchemaValidator.SchemaNode schema = StreamingJsonSchemaValidator.build(API)
+                .findSchema("/items", "GET", 200, "application/json")
+                .orElseThrow();
+        final int itemCount = 1_000_000;
+
+        final ValidationResult result = StreamingJsonSchemaValidator.validate(
+                new GeneratedBodyStream(itemCount), schema, true);
+
+        assertThat(describe(result))
+                .containsExactly(
+                        "validation.response.body.schema.maxItems | [Path '/arr'] Array is too long: "
+                                + "must have at most 3 elements but instance has " + itemCount + " elements",
+                        "validation.response.body.schema.minLength | [Path '/arr/" + (itemCount - 1)
+                                + "/name'] String \"a\" is too short (length: 1, required minimum: 2)");
+    }
+
+    @Test
+    void testLargeBodyIsStreamedAtShallowDepth() {
+        final OpenApiValidator validator = createValidator(1, List.of())
+                .withOptions(OpenApiValidatorOptions.fromExtensionOptions(ExtensionOptions.builder()
+                        .withValidationDepth(ExtensionOptions.ValidationDepth.SHALLOW)
+                        .build()));
+        final LoggedRequest request = LoggedRequest.createFrom(RequestBuilder.getRequest("http://localhost/items"));
+        // String nested in the body is longer than JSON parser allows to read into memory, so the body can be
+        // validated only by skipping the string while streaming.
+        final int nestedStringLength = StreamReadConstraints.DEFAULT_MAX_STRING_LEN + 1;
+
+        final InteractionValidationResult result = validator.validateInteraction(
+                request,
+                Response.response()
+                        .status(200)
+                        .headers(new HttpHeaders(HttpHeader.httpHeader("Content-Type", "application/json")))
+                        .body(() -> new LongNestedStringBodyStream(nestedStringLength))
+                        .build());
+
+        assertThat(describe(result.getResponseResult())).isEmpty();
+    }
+
+    private static OpenApiValidator createValidator(
+            final long streamingBodyThreshold, final List<String> ignoredErrors) {
+        return OpenApiValidator.create(ExtensionOptions.builder()
+                .withOpenapiFilePath(OPENAPI_FILE_PATH)
+                .withIgnoredErrors(ignoredErrors)
+                .withStreamingBodyThreshold(streamingBodyThreshold)
+                .build());
+    }
+
+    private static InputStream body(final String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Response jsonResponse(final String body) {
+        return Response.response()
+                .status(200)
+                .headers(new HttpHeaders(HttpHeader.httpHeader("Content-Type", "application/json; charset=utf-8")))
+                .body(body)
+                .build();
+    }
+
+    private static List<String> describe(final ValidationResult result) {
+        return result.getErrors().stream()
+                .map(e -> e.getKey() + " | " + e.getMessage())
+                .collect(Collectors.toList());
+    }
+
+    /** Body having single array item with long string property, produced while being read. */
+    private static final class LongNestedStringBodyStream extends InputStream {
+
+        private static final byte[] HEAD = "{\"b\":true,\"arr\":[{\"id\":\"".getBytes(StandardCharsets.UTF_8);
+        private static final byte[] TAIL = "\"}]}".getBytes(StandardCharsets.UTF_8);
+
+        private final long length;
+        private long position;
+
+        private LongNestedStringBodyStream(final int stringLength) {
+            this.length = HEAD.length + stringLength + TAIL.length;
+        }
+
+        @Override
+        public int read() {
+            if (position == length) {
+                return -1;
+            }
+            final long index = position++;
+            if (index < HEAD.length) {
+                return HEAD[(int) index];
+            }
+            final long tailIndex = index - (length - TAIL.length);
+            return tailIndex >= 0 ? TAIL[(int) tailIndex] : 'a';
+        }
+    }
+
+    /** Body with many array items, produced while being read. The last item is invalid. */
+    private static final class GeneratedBodyStream extends InputStream {
+
+        private static final byte[] HEAD = "{\"b\":true,\"arr\":[".getBytes(StandardCharsets.UTF_8);
+        private static final byte[] ITEM =
+                "{\"id\":\"3fa85f64-5717-4562-b3fc-2c963f66afa6\",\"name\":\"ab\"},".getBytes(StandardCharsets.UTF_8);
+        private static final byte[] LAST_ITEM =
+                "{\"id\":\"3fa85f64-5717-4562-b3fc-2c963f66afa6\",\"name\":\"a\"}]}".getBytes(StandardCharsets.UTF_8);
+
+        private final int itemCount;
+        private byte[] chunk = HEAD;
+        private int position;
+        private int itemsWritten;
+
+        private GeneratedBodyStream(final int itemCount) {
+            this.itemCount = itemCount;
+        }
+
+        @Override
+        public int read() {
+            if (position == chunk.length) {
+                if (itemsWritten == itemCount) {
+                    return -1;
+                }
+                itemsWritten++;
+                chunk = itemsWritten == itemCount ? LAST_ITEM : ITEM;
+                position = 0;
+            }
+            return chunk[position++];
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.direct.DirectCallHttpServerFactory;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ValidationEventsTest {
+
+    private static final String OPENAPI_FILE_PATH = "src/test/resources/openapi.json";
+    private static final String PREFIX = "io.github.dimabarbul.wiremock.openapi_validation.";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testEventsAreRecorded() throws IOException {
+        final UUID stubId = UUID.randomUUID();
+        final LoggedRequest request =
+                LoggedRequest.createFrom(RequestBuilder.postJsonRequest("http://localhost/users", "{}"));
+        final Response response = Response.response().status(299).body("[]").build();
+
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(PREFIX + "SpecLoad").withoutThreshold();
+            recording.enable(PREFIX + "ValidatorBuild").withoutThreshold();
+            recording.enable(PREFIX + "RequestValidation").withoutThreshold();
+            recording.enable(PREFIX + "ResponseValidation").withoutThreshold();
+            recording.start();
+            OpenApiSpecRegistry.INSTANCE.reload(OPENAPI_FILE_PATH, false, null, null);
+            final OpenApiValidator validator = OpenApiValidator.create(ExtensionOptions.builder()
+                    .withOpenapiFilePath(OPENAPI_FILE_PATH)
+                    .build());
+            ValidationEvents.callForStub(stubId.toString(), () -> validator
+                    .withOptions(OpenApiValidatorOptions.fromExtensionOptions(ExtensionOptions.builder()
+                            .withIgnoredErrors(List.of("validation.request.body.schema.required"))
+                            .build()))
+                    .validateInteraction(request, response));
+            recording.stop();
+            final Path file = tempDir.resolve("recording.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertThat(names(events))
+                .containsExactly(
+                        "SpecLoad", "ValidatorBuild", "ValidatorBuild", "RequestValidation", "ResponseValidation");
+        assertThat(events.get(0).getString("openapiFilePath")).isEqualTo(OPENAPI_FILE_PATH);
+        assertThat(events.get(1).getBoolean("variant")).isFalse();
+        assertThat(events.get(2).getBoolean("variant")).isTrue();
+        assertThat(events.get(2).getString("stubId")).isEqualTo(stubId.toString());
+        final RecordedEvent requestEvent = events.get(3);
+        assertThat(requestEvent.getString("operation")).isEqualTo("POST /users");
+        assertThat(requestEvent.getString("stubId")).isEqualTo(stubId.toString());
+        assertThat(requestEvent.getLong("bodySize")).isEqualTo(2);
+        assertThat(requestEvent.getInt("errorCount")).isEqualTo(0);
+        final RecordedEvent responseEvent = events.get(4);
+        assertThat(responseEvent.getString("operation")).isEqualTo("POST /users");
+        assertThat(responseEvent.getLong("bodySize")).isEqualTo(2);
+        assertThat(responseEvent.getInt("errorCount")).isEqualTo(1);
+    }
+
+    @Test
+    void testStubIsRecordedWithoutTimingPhases() throws IOException {
+        final UUID stubId = UUID.randomUUID();
+        final DirectCallHttpServerFactory factory = new DirectCallHttpServerFactory();
+        final WireMockServer wm = new WireMockServer(wireMockConfig()
+                .httpServerFactory(factory)
+                .extensions(new ValidationResponseTransformer(ExtensionOptions.builder()
+                        .withOpenapiFilePath(OPENAPI_FILE_PATH)
+                        .build())));
+        wm.stubFor(get("/users").withId(stubId).willReturn(okJson("[]")));
+
+        final Response response;
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(PREFIX + "RequestValidation").withoutThreshold();
+            recording.enable(PREFIX + "ResponseValidation").withoutThreshold();
+            recording.start();
+            response = factory.getHttpServer().stubRequest(RequestBuilder.getRequest(wm.url("/users")));
+            recording.stop();
+            final Path file = tempDir.resolve("recording.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertThat(response.getHeaders().keys()).doesNotContain("Server-Timing");
+        assertThat(names(events)).containsExactly("RequestValidation", "ResponseValidation");
+        assertThat(events)
+                .extracting(event -> event.getString("stubId"))
+                .containsOnly(stubId.toString());
+    }
+
+    private static List<String> names(final List<RecordedEvent> events) {
+        return events.stream()
+                .map(event -> event.getEventType().getName().substring(PREFIX.length()))
+                .collect(Collectors.toList());
+    }
+}
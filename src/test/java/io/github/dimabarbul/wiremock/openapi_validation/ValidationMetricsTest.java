@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.cache.CacheStats;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ValidationMetricsTest {
+
+    @Test
+    void testHistogramBucketsAreCumulativeInPrometheusFormat() {
+        final ValidationMetrics metrics = new ValidationMetrics();
+        metrics.recordRequestValidation("getUsers", TimeUnit.MICROSECONDS.toNanos(50));
+        metrics.recordRequestValidation("getUsers", TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.recordRequestValidation("getUsers", TimeUnit.SECONDS.toNanos(20));
+
+        final String text = metrics.buildPrometheus(Map.of());
+
+        final String bucket = "openapi_validation_request_duration_seconds_bucket{operation=\"getUsers\",";
+        assertThat(text)
+                .contains("# TYPE openapi_validation_request_duration_seconds histogram\n")
+                .contains(bucket + "le=\"0.0001\"} 1\n")
+                .contains(bucket + "le=\"0.0025\"} 1\n")
+                .contains(bucket + "le=\"0.005\"} 2\n")
+                .contains(bucket + "le=\"10\"} 2\n")
+                .contains(bucket + "le=\"+Inf\"} 3\n")
+                .contains("openapi_validation_request_duration_seconds_sum{operation=\"getUsers\"} 20.00305\n")
+                .contains("openapi_validation_request_duration_seconds_count{operation=\"getUsers\"} 3\n");
+    }
+
+    @Test
+    void testErrorsAndCachesAreReported() {
+        final ValidationMetrics metrics = new ValidationMetrics();
+        metrics.recordError("validation.request.body.schema.required");
+        metrics.recordError("validation.request.body.schema.required");
+        metrics.recordError("validation.response.status.unknown");
+        final Map<String, CacheStats> caches = Map.of("default.variants", new CacheStats(3, 1, 1, 0, 0, 0));
+
+        final String text = metrics.buildPrometheus(caches);
+        final Map<String, Object> json = metrics.buildJson(caches);
+
+        assertThat(text)
+                .contains("openapi_validation_errors_total{key=\"validation.request.body.schema.required\"} 2\n")
+                .contains("openapi_validation_errors_total{key=\"validation.response.status.unknown\"} 1\n")
+                .contains("openapi_validation_cache_hits_total{cache=\"default.variants\"} 3\n")
+                .contains("openapi_validation_cache_misses_total{cache=\"default.variants\"} 1\n")
+                .contains("openapi_validation_cache_hit_ratio{cache=\"default.variants\"} 0.75\n");
+        assertThat(json.get("errors"))
+                .isEqualTo(Map.of(
+                        "validation.request.body.schema.required", 2L, "validation.response.status.unknown", 1L));
+        assertThat(json.get("caches").toString()).contains("hitRate=0.75");
+    }
+
+    @Test
+    void testLabelValuesAreEscaped() {
+        final ValidationMetrics metrics = new ValidationMetrics();
+        metrics.recordResponseValidation("GET /a\"b", 1);
+
+        assertThat(metrics.buildPrometheus(Map.of()))
+                .contains("openapi_validation_response_duration_seconds_count{operation=\"GET /a\\\"b\"} 1\n");
+    }
+}
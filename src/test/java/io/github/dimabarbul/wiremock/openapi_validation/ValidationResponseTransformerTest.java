@@ -31,11 +31,16 @@ import com.github.tomakehurst.wiremock.http.MultiValue;
 import com.github.tomakehurst.wiremock.http.Response;
 import com.github.tomakehurst.wiremock.matching.UrlPattern;
 import com.google.common.net.MediaType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 abstract class ValidationResponseTransformerTest {
 
@@ -54,6 +59,9 @@ abstract class ValidationResponseTransformerTest {
 
     private final String validatorName;
 
+    @TempDir
+    Path tempDir;
+
     public ValidationResponseTransformerTest(final String validatorName) {
         this.validatorName = validatorName;
         factory = new DirectCallHttpServerFactory();
@@ -280,6 +288,374 @@ abstract class ValidationResponseTransformerTest {
         assertResponseFailedBecauseOfValidation(response, statusCode);
     }
 
+    @Test
+    void testEditedStubUsesNewTransformerParameters() {
+        UUID stubId = UUID.randomUUID();
+        wm.stubFor(get(UrlPattern.ANY)
+                .withId(stubId)
+                .willReturn(noContent().withTransformerParameter("openapiValidationFailureStatusCode", 598)));
+        server.stubRequest(getRequest(wm.url("/test")));
+
+        wm.editStub(get(UrlPattern.ANY)
+                .withId(stubId)
+                .willReturn(noContent().withTransformerParameter("openapiValidationFailureStatusCode", 597)));
+        Response response = server.stubRequest(getRequest(wm.url("/test")));
+
+        assertResponseFailedBecauseOfValidation(response, 597);
+    }
+
+    @Test
+    void testRecreatedStubUsesNewTransformerParameters() {
+        UUID stubId = UUID.randomUUID();
+        wm.stubFor(get(UrlPattern.ANY)
+                .withId(stubId)
+                .willReturn(noContent().withTransformerParameter("openapiValidationFailureStatusCode", 598)));
+        server.stubRequest(getRequest(wm.url("/test")));
+
+        wm.resetMappings();
+        wm.stubFor(get(UrlPattern.ANY).withId(stubId).willReturn(noContent()));
+        Response response = server.stubRequest(getRequest(wm.url("/test")));
+
+        assertResponseFailedBecauseOfValidation(response);
+    }
+
+    @Test
+    void testRememberedResponseVerdictStillValidatesRequest() {
+        wm.stubFor(post(ADD_USER_URL).willReturn(created()));
+
+        Response validResponse = server.stubRequest(postJsonRequest(
+                wm.url(ADD_USER_URL),
+                JsonNodeFactory.instance
+                        .objectNode()
+                        .put("id", UUID.randomUUID().toString())
+                        .put("username", "root")
+                        .put("role", "admin")));
+        Response invalidResponse = server.stubRequest(postJsonRequest(wm.url(ADD_USER_URL), "{}"));
+
+        assertThat(validResponse.getStatus()).isEqualTo(HttpStatus.SC_CREATED);
+        assertResponseFailedBecauseOfValidation(invalidResponse);
+        assertThat(invalidResponse.getBodyAsString()).contains("Object has missing required properties");
+    }
+
+    @Test
+    void testRememberedResponseVerdictReportsResponseErrors() {
+        wm.stubFor(get(GET_USERS_URL).willReturn(jsonResponse("[{}]", HttpStatus.SC_OK)));
+
+        Response firstResponse = server.stubRequest(getRequest(wm.url(GET_USERS_URL)));
+        Response secondResponse = server.stubRequest(getRequest(wm.url(GET_USERS_URL)));
+
+        assertResponseFailedBecauseOfValidation(firstResponse);
+        assertResponseFailedBecauseOfValidation(secondResponse);
+        assertThat(secondResponse.getBodyAsString()).isEqualTo(firstResponse.getBodyAsString());
+    }
+
+    @Test
+    void testReportOnlyModeReturnsOriginalResponseAndReportsFailure() {
+        WireMockServer wm = new WireMockServer(getWireMockConfiguration(
+                ExtensionOptions.builder().withValidationMode(ExtensionOptions.ValidationMode.REPORT_ONLY)));
+        DirectCallHttpServer server = factory.getHttpServer();
+        wm.stubFor(get(GET_USERS_URL).willReturn(jsonResponse("[{}]", HttpStatus.SC_OK)));
+
+        Response response = server.stubRequest(getRequest(wm.url(GET_USERS_URL)));
+        Response statusResponse = awaitStatus(server, wm, "\"failedCount\" : 1");
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.getBodyAsString()).isEqualTo("[{}]");
+        assertThat(statusResponse.getBodyAsString())
+                .contains("\"failedCount\" : 1")
+                .contains("\"droppedCount\" : 0");
+    }
+
+    @Test
+    void testStubCanDisableValidationBySamplingRate() {
+        wm.stubFor(get(GET_USERS_URL)
+                .willReturn(jsonResponse("[{}]", HttpStatus.SC_OK)
+                        .withTransformerParameter("openapiValidationSamplingRate", 0)));
+
+        Response response = server.stubRequest(getRequest(wm.url(GET_USERS_URL)));
+        Response statusResponse = server.adminRequest(getRequest(wm.url("/__admin/openapi-validation/status")));
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(statusResponse.getBodyAsString()).contains("\"skippedCount\" : 1");
+    }
+
+    @Test
+    void testStubWithInvalidSamplingRateIsRejected() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> wm.stubFor(get(GET_USERS_URL)
+                        .willReturn(jsonResponse("[{}]", HttpStatus.SC_OK)
+                                .withTransformerParameter("openapiValidationSamplingRate", 2))))
+                .withMessageContaining("openapiValidationSamplingRate");
+
+        assertThat(wm.listAllStubMappings().getMappings()).isEmpty();
+    }
+
+    @Test
+    void testStubCanLowerValidationDepth() {
+        wm.stubFor(get(GET_USERS_URL)
+                .willReturn(jsonResponse("[{}]", HttpStatus.SC_OK)
+                        .withTransformerParameter("openapiValidationDepth", "shallow")));
+
+        Response response = server.stubRequest(getRequest(wm.url(GET_USERS_URL)));
+        Response statusResponse = server.adminRequest(getRequest(wm.url("/__admin/openapi-validation/status")));
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(statusResponse.getBodyAsString()).contains("\"SHALLOW\" : 1");
+    }
+
+    @Test
+    void testLargeBodyIsValidatedWithLowerDepth() {
+        WireMockServer wm = new WireMockServer(getWireMockConfiguration(ExtensionOptions.builder()
+                .withShallowBodyThreshold(10)
+                .withParametersOnlyBodyThreshold(100)));
+        DirectCallHttpServer server = factory.getHttpServer();
+        wm.stubFor(get(GET_USERS_URL).willReturn(jsonResponse("[{\"id\": 1}, 2]", HttpStatus.SC_OK)));
+
+        Response response = server.stubRequest(getRequest(wm.url(GET_USERS_URL)));
+
+        assertResponseFailedBecauseOfValidation(response);
+        assertThat(response.getBodyAsString())
+                .contains("Validation depth: <b>SHALLOW</b>")
+                .doesNotContain("\"id\"");
+    }
+
+    @Test
+    void testMetricsAreExposedInPrometheusFormat() {
+        WireMockServer wm = new WireMockServer(
+                getWireMockConfiguration(ExtensionOptions.builder().withMetricsEnabled(true)));
+        DirectCallHttpServer server = factory.getHttpServer();
+        wm.stubFor(get(GET_USERS_URL).willReturn(jsonResponse("[{}]", HttpStatus.SC_OK)));
+
+        server.stubRequest(getRequest(wm.url(GET_USERS_URL)));
+        Response response =
+                server.adminRequest(getRequest(wm.url("/__admin/openapi-validation/metrics?format=prometheus")));
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.getBodyAsString())
+                .contains("openapi_validation_request_duration_seconds_count{operation=\"GET /users\"} 1")
+                .contains("openapi_validation_response_duration_seconds_count{operation=\"GET /users\"} 1")
+                .contains("openapi_validation_errors_total{key=\"validation.response.body.schema.required\"} 1")
+                .contains("openapi_validation_cache_hits_total{cache=\"default.variants\"}");
+    }
+
+    @Test
+    void testMetricsAreNotFoundWhenDisabled() {
+        Response response = server.adminRequest(getRequest(wm.url("/__admin/openapi-validation/metrics")));
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_NOT_FOUND);
+    }
+
+    @Test
+    void testPhaseDurationsAreAddedInServerTimingHeader() {
+        WireMockServer wm = new WireMockServer(
+                getWireMockConfiguration(ExtensionOptions.builder().withServerTimingEnabled(true)));
+        DirectCallHttpServer server = factory.getHttpServer();
+        wm.stubFor(post(ADD_USER_URL).willReturn(created()));
+
+        Response response = server.stubRequest(postJsonRequest(wm.url(ADD_USER_URL), "{}"));
+
+        assertResponseFailedBecauseOfValidation(response);
+        assertThat(response.getHeaders().getHeader("Server-Timing").firstValue())
+                .matches("openapi-lookup;dur=[0-9.]+, openapi-merge;dur=[0-9.]+, openapi-convert;dur=[0-9.]+, "
+                        + "openapi-operation;dur=[0-9.]+, openapi-request;dur=[0-9.]+, openapi-response;dur=[0-9.]+, "
+                        + "openapi-render;dur=[0-9.]+, openapi-total;dur=[0-9.]+");
+    }
+
+    @Test
+    void testStatusIsReadyWhenOpenapiIsLoaded() {
+        Response response = server.adminRequest(getRequest(wm.url("/__admin/openapi-validation/status")));
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.getBodyAsString())
+                .contains("\"status\" : \"READY\"")
+                .contains(JSON_OPENAPI_FILE_PATH);
+    }
+
+    @Test
+    void testAsyncLoadingWaitsForOpenapiFile() {
+        WireMockServer wm = new WireMockServer(getWireMockConfiguration(ExtensionOptions.builder()
+                .withAsyncLoading(true)
+                .withNotReadyPolicy(ExtensionOptions.NotReadyPolicy.BLOCK)));
+        DirectCallHttpServer server = factory.getHttpServer();
+
+        wm.stubFor(post(ADD_USER_URL).willReturn(created()));
+
+        Response response = server.stubRequest(postJsonRequest(wm.url(ADD_USER_URL), "{}"));
+
+        assertResponseFailedBecauseOfValidation(response);
+        assertThat(response.getBodyAsString()).contains("Object has missing required properties");
+    }
+
+    @Test
+    void testAsyncLoadingFailureIsReportedInStatus() {
+        WireMockServer wm = new WireMockServer(getWireMockConfiguration(
+                ExtensionOptions.builder().withAsyncLoading(true).withOpenapiFilePath(INVALID_OPENAPI_FILE_PATH)));
+        DirectCallHttpServer server = factory.getHttpServer();
+        wm.stubFor(get(UrlPattern.ANY).willReturn(noContent()));
+
+        Response response = server.stubRequest(getRequest(wm.url("/test")));
+        Response statusResponse = server.adminRequest(getRequest(wm.url("/__admin/openapi-validation/status")));
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_SERVICE_UNAVAILABLE);
+        assertThat(statusResponse.getStatus()).isEqualTo(HttpStatus.SC_SERVICE_UNAVAILABLE);
+        assertThat(statusResponse.getBodyAsString()).contains("\"status\" : \"FAILED\"");
+    }
+
+    @Test
+    void testAsyncLoadingFailurePassesThroughWhenConfigured() {
+        WireMockServer wm = new WireMockServer(getWireMockConfiguration(ExtensionOptions.builder()
+                .withAsyncLoading(true)
+                .withNotReadyPolicy(ExtensionOptions.NotReadyPolicy.PASS_THROUGH)
+                .withDefaultResponseContentType(MediaType.JSON_UTF_8.toString())
+                .withOpenapiFilePath(INVALID_OPENAPI_FILE_PATH)));
+        DirectCallHttpServer server = factory.getHttpServer();
+        wm.stubFor(get(UrlPattern.ANY).willReturn(noContent()));
+
+        await(server, wm);
+        Response response = server.stubRequest(getRequest(wm.url("/test")));
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_NO_CONTENT);
+        assertThat(response.getHeaders().getContentTypeHeader().values())
+                .isEqualTo(List.of(MediaType.JSON_UTF_8.toString()));
+    }
+
+    @Test
+    void testLoadSheddingIsReportedInStatus() {
+        WireMockServer wm = new WireMockServer(
+                getWireMockConfiguration(ExtensionOptions.builder().withSheddingLatencyBudgetMillis(60_000)));
+        DirectCallHttpServer server = factory.getHttpServer();
+        wm.stubFor(post(ADD_USER_URL).willReturn(created()));
+
+        Response response = server.stubRequest(postJsonRequest(wm.url(ADD_USER_URL), "{}"));
+        Response statusResponse = server.adminRequest(getRequest(wm.url("/__admin/openapi-validation/status")));
+
+        assertResponseFailedBecauseOfValidation(response);
+        assertThat(statusResponse.getBodyAsString())
+                .contains("\"loadShedding\"")
+                .contains("\"level\" : \"NONE\"")
+                .contains("\"inFlight\" : 0");
+    }
+
+    @Test
+    void testReloadReplacesValidator() throws IOException {
+        Path openapiFile = tempDir.resolve("openapi.yaml");
+        Files.writeString(openapiFile, readOptionalSoftDeleteOpenapi());
+        WireMockServer wm = new WireMockServer(
+                getWireMockConfiguration(ExtensionOptions.builder().withOpenapiFilePath(openapiFile.toString())));
+        DirectCallHttpServer server = factory.getHttpServer();
+        wm.stubFor(delete(urlPathEqualTo(DELETE_USER_URL)).willReturn(noContent()));
+
+        Response responseBeforeReload = server.stubRequest(deleteRequest(wm.url(DELETE_USER_URL)));
+        Files.copy(Path.of(YAML_OPENAPI_FILE_PATH), openapiFile, StandardCopyOption.REPLACE_EXISTING);
+        Response reloadResponse =
+                server.adminRequest(postRequest(wm.url("/__admin/openapi-validation/reload?wait=true")));
+        Response responseAfterReload = server.stubRequest(deleteRequest(wm.url(DELETE_USER_URL)));
+        Response statusResponse = server.adminRequest(getRequest(wm.url("/__admin/openapi-validation/status")));
+
+        assertThat(responseBeforeReload.getStatus()).isEqualTo(HttpStatus.SC_NO_CONTENT);
+        assertThat(reloadResponse.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertResponseFailedBecauseOfValidation(responseAfterReload);
+        assertThat(statusResponse.getBodyAsString()).contains("\"reloadCount\" : 1");
+    }
+
+    @Test
+    void testFailedReloadKeepsPreviousValidator() throws IOException {
+        Path openapiFile = tempDir.resolve("openapi.yaml");
+        Files.writeString(openapiFile, readOptionalSoftDeleteOpenapi());
+        WireMockServer wm = new WireMockServer(
+                getWireMockConfiguration(ExtensionOptions.builder().withOpenapiFilePath(openapiFile.toString())));
+        DirectCallHttpServer server = factory.getHttpServer();
+        wm.stubFor(delete(urlPathEqualTo(DELETE_USER_URL)).willReturn(noContent()));
+
+        Files.writeString(openapiFile, "invalid: [");
+        Response reloadResponse =
+                server.adminRequest(postRequest(wm.url("/__admin/openapi-validation/reload?wait=true")));
+        Response response = server.stubRequest(deleteRequest(wm.url(DELETE_USER_URL)));
+        Response statusResponse = server.adminRequest(getRequest(wm.url("/__admin/openapi-validation/status")));
+
+        assertThat(reloadResponse.getStatus()).isEqualTo(HttpStatus.SC_INTERNAL_SERVER_ERROR);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_NO_CONTENT);
+        assertThat(statusResponse.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(statusResponse.getBodyAsString())
+                .contains("\"reloadFailureCount\" : 1")
+                .contains("\"status\" : \"FAILED\"");
+    }
+
+    @Test
+    void testRequestIsValidatedAgainstOpenapiFileBoundToLongestPathPrefix() throws IOException {
+        WireMockServer wm = new WireMockServer(getWireMockConfiguration(ExtensionOptions.builder()
+                .withSpecs(List.of(buildOptionalSoftDeleteSpec()
+                        .withPathPrefix("/users/456")
+                        .build()))));
+        DirectCallHttpServer server = factory.getHttpServer();
+        wm.stubFor(delete(urlPathMatching("/users/.*")).willReturn(noContent()));
+
+        Response boundResponse = server.stubRequest(deleteRequest(wm.url("/users/456")));
+        Response defaultResponse = server.stubRequest(deleteRequest(wm.url("/users/4567")));
+
+        assertThat(boundResponse.getStatus()).isEqualTo(HttpStatus.SC_NO_CONTENT);
+        assertResponseFailedBecauseOfValidation(defaultResponse);
+    }
+
+    @Test
+    void testRequestIsValidatedAgainstOpenapiFileBoundToHost() throws IOException {
+        WireMockServer wm = new WireMockServer(getWireMockConfiguration(ExtensionOptions.builder()
+                .withSpecs(List.of(
+                        buildOptionalSoftDeleteSpec().withHost("Lenient.local").build()))));
+        DirectCallHttpServer server = factory.getHttpServer();
+        wm.stubFor(delete(urlPathEqualTo(DELETE_USER_URL)).willReturn(noContent()));
+
+        Response boundResponse = server.stubRequest(deleteRequest("http://lenient.local" + DELETE_USER_URL));
+        Response defaultResponse = server.stubRequest(deleteRequest(wm.url(DELETE_USER_URL)));
+
+        assertThat(boundResponse.getStatus()).isEqualTo(HttpStatus.SC_NO_CONTENT);
+        assertResponseFailedBecauseOfValidation(defaultResponse);
+    }
+
+    @Test
+    void testStubChoosesOpenapiFileByName() throws IOException {
+        WireMockServer wm = new WireMockServer(getWireMockConfiguration(ExtensionOptions.builder()
+                .withSpecs(List.of(
+                        buildOptionalSoftDeleteSpec().withPathPrefix("/none").build()))));
+        DirectCallHttpServer server = factory.getHttpServer();
+        wm.stubFor(delete(urlPathEqualTo(DELETE_USER_URL))
+                .willReturn(noContent().withTransformerParameter("openapiValidationSpecName", "lenient")));
+
+        Response response = server.stubRequest(deleteRequest(wm.url(DELETE_USER_URL)));
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_NO_CONTENT);
+    }
+
+    @Test
+    void testStubWithUnknownOpenapiFileNameFailsValidation() {
+        wm.stubFor(delete(urlPathEqualTo(DELETE_USER_URL))
+                .willReturn(noContent().withTransformerParameter("openapiValidationSpecName", "unknown")));
+
+        Response response = server.stubRequest(deleteRequest(wm.url(DELETE_USER_URL + "?soft=true")));
+
+        assertResponseFailedBecauseOfValidation(response);
+        assertThat(response.getBodyAsString()).contains("OpenAPI file \"unknown\" is not configured");
+    }
+
+    @Test
+    void testRequestNotMatchingAnyOpenapiFileFailsValidation() throws IOException {
+        WireMockServer wm = new WireMockServer(wireMockConfig()
+                .httpServerFactory(factory)
+                .extensions(new ValidationResponseTransformer(ExtensionOptions.builder()
+                        .withValidatorName(validatorName)
+                        .withSpecs(List.of(buildOptionalSoftDeleteSpec()
+                                .withPathPrefix("/users")
+                                .build()))
+                        .build())));
+        DirectCallHttpServer server = factory.getHttpServer();
+        wm.stubFor(get(UrlPattern.ANY).willReturn(noContent()));
+
+        Response response = server.stubRequest(getRequest(wm.url("/test")));
+
+        assertResponseFailedBecauseOfValidation(response);
+        assertThat(response.getBodyAsString()).contains("No OpenAPI file is configured for host");
+    }
+
     @Test
     void testInvalidOpenapiFileThrowsException() {
         assertThatExceptionOfType(OpenApiInteractionValidator.ApiLoadException.class)
@@ -399,6 +775,51 @@ abstract class ValidationResponseTransformerTest {
                 .isEqualTo(List.of("application/json"));
     }
 
+    private OpenApiSpecDefinition.Builder buildOptionalSoftDeleteSpec() throws IOException {
+        Path openapiFile = tempDir.resolve("lenient.yaml");
+        Files.writeString(openapiFile, readOptionalSoftDeleteOpenapi());
+        return OpenApiSpecDefinition.builder("lenient", openapiFile.toString());
+    }
+
+    private static String readOptionalSoftDeleteOpenapi() throws IOException {
+        return Files.readString(Path.of(YAML_OPENAPI_FILE_PATH))
+                .replace(
+                        "          in: query\n          required: true",
+                        "          in: query\n          required: false");
+    }
+
+    private static void await(final DirectCallHttpServer server, final WireMockServer wm) {
+        for (int i = 0; i < 100; i++) {
+            Response response = server.adminRequest(getRequest(wm.url("/__admin/openapi-validation/status")));
+            if (!response.getBodyAsString().contains("LOADING")) {
+                return;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private static Response awaitStatus(
+            final DirectCallHttpServer server, final WireMockServer wm, final String expectedStatusPart) {
+        Response response = null;
+        for (int i = 0; i < 100; i++) {
+            response = server.adminRequest(getRequest(wm.url("/__admin/openapi-validation/status")));
+            if (response.getBodyAsString().contains(expectedStatusPart)) {
+                return response;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        return response;
+    }
+
     protected WireMockConfiguration getDefaultWireMockConfiguration() {
         return getWireMockConfiguration(ExtensionOptions.builder());
     }
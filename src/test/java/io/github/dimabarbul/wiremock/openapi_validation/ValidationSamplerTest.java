@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ValidationSamplerTest {
+
+    private static final UUID STUB_ID = UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6");
+
+    @Test
+    void testDecisionIsDeterministic() {
+        final boolean first = ValidationSampler.isSampled(STUB_ID, request("http://localhost/users?page=1"), 0.5);
+
+        for (int i = 0; i < 10; i++) {
+            // Each logged request gets its own random id, which does not affect the decision.
+            assertThat(ValidationSampler.isSampled(STUB_ID, request("http://localhost/users?page=1"), 0.5))
+                    .isEqualTo(first);
+        }
+    }
+
+    @Test
+    void testEdgeRates() {
+        final LoggedRequest request = request("http://localhost/users");
+
+        assertThat(ValidationSampler.isSampled(STUB_ID, request, 1)).isTrue();
+        assertThat(ValidationSampler.isSampled(STUB_ID, request, 0)).isFalse();
+    }
+
+    @Test
+    void testShareOfValidatedInteractionsMatchesRate() {
+        final ValidationSampler sampler = new ValidationSampler();
+
+        int validated = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (sampler.shouldValidate(STUB_ID, request("http://localhost/users?page=" + i), 0.2)) {
+                validated++;
+            }
+        }
+
+        assertThat(validated / 10_000.0).isCloseTo(0.2, within(0.02));
+        assertThat(sampler.buildStatus())
+                .containsEntry("validatedCount", (long) validated)
+                .containsEntry("skippedCount", 10_000L - validated);
+    }
+
+    private static LoggedRequest request(final String url) {
+        return LoggedRequest.createFrom(RequestBuilder.getRequest(url));
+    }
+}
@@ -16,10 +16,12 @@
 package io.github.dimabarbul.wiremock.openapi_validation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 
@@ -33,6 +35,9 @@ class ValidationTransformerParametersTest {
         assertThat(parameters).isNotNull();
         assertThat(parameters.getFailureStatusCode()).isNull();
         assertThat(parameters.getIgnoredErrors()).isEmpty();
+        assertThat(parameters.getSpecName()).isNull();
+        assertThat(parameters.getSamplingRate()).isNull();
+        assertThat(parameters.getValidationDepth()).isNull();
     }
 
     @Test
@@ -42,6 +47,9 @@ class ValidationTransformerParametersTest {
                 + "        \"response\": {"
                 + "            \"transformerParameters\": {"
                 + "                \"openapiValidationFailureStatusCode\": 418,"
+                + "                \"openapiValidationSpecName\": \"users\","
+                + "                \"openapiValidationSamplingRate\": 0.5,"
+                + "                \"openapiValidationDepth\": \"shallow\","
                 + "                \"openapiValidationIgnoreErrors\": {"
                 + "                    \"error1\": true,"
                 + "                    \"error2\": false"
@@ -58,5 +66,57 @@ class ValidationTransformerParametersTest {
         assertThat(parameters.getFailureStatusCode()).isEqualTo(418);
         assertThat(parameters.getIgnoredErrors())
                 .containsExactly(Map.entry("error1", true), Map.entry("error2", false));
+        assertThat(parameters.getSpecName()).isEqualTo("users");
+        assertThat(parameters.getSamplingRate()).isEqualTo(0.5);
+        assertThat(parameters.getValidationDepth()).isEqualTo(ExtensionOptions.ValidationDepth.SHALLOW);
+    }
+
+    @Test
+    void testFromStubMappingWithoutTransformerParameters() throws JsonProcessingException {
+        final StubMapping stubMapping = new ObjectMapper().readValue("{\"response\": {}}", StubMapping.class);
+
+        final ValidationTransformerParameters parameters = ValidationTransformerParameters.fromStubMapping(stubMapping);
+
+        assertThat(parameters).isNotNull();
+        assertThat(parameters.getFailureStatusCode()).isNull();
+        assertThat(parameters.getIgnoredErrors()).isEmpty();
+    }
+
+    @Test
+    void testFromStubMappingWhenEverythingIsSet() throws JsonProcessingException {
+        final String json = "{"
+                + "    \"response\": {"
+                + "        \"transformerParameters\": {"
+                + "            \"openapiValidationFailureStatusCode\": 418,"
+                + "            \"openapiValidationIgnoreErrors\": {"
+                + "                \"error1\": true"
+                + "            }"
+                + "        }"
+                + "    }"
+                + "}";
+        final StubMapping stubMapping = new ObjectMapper().readValue(json, StubMapping.class);
+
+        final ValidationTransformerParameters parameters = ValidationTransformerParameters.fromStubMapping(stubMapping);
+
+        assertThat(parameters.getFailureStatusCode()).isEqualTo(418);
+        assertThat(parameters.getIgnoredErrors()).containsExactly(Map.entry("error1", true));
+    }
+
+    @Test
+    void testFromStubMappingRejectsSamplingRateOutOfRange() throws JsonProcessingException {
+        final String json = "{"
+                + "    \"id\": \"d8a3a2c6-0f4e-4f3b-9a51-3b6c1f0e7a10\","
+                + "    \"response\": {"
+                + "        \"transformerParameters\": {"
+                + "            \"openapiValidationSamplingRate\": 2"
+                + "        }"
+                + "    }"
+                + "}";
+        final StubMapping stubMapping = new ObjectMapper().readValue(json, StubMapping.class);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ValidationTransformerParameters.fromStubMapping(stubMapping))
+                .withMessageContaining("d8a3a2c6-0f4e-4f3b-9a51-3b6c1f0e7a10")
+                .withMessageContaining("openapiValidationSamplingRate");
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Dmitriy Barbul
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.dimabarbul.wiremock.openapi_validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.Test;
+
+class ValidatorLoaderTest {
+
+    private static final OpenApiValidator VALIDATOR = OpenApiValidator.create(ExtensionOptions.builder()
+            .withOpenapiFilePath("src/test/resources/openapi.json")
+            .build());
+
+    @Test
+    void testSynchronousLoadingIsReadyImmediately() {
+        final ValidatorLoader loader = ValidatorLoader.loadSynchronously(() -> VALIDATOR);
+
+        assertThat(loader.getStatus()).isEqualTo(ValidatorLoader.Status.READY);
+        assertThat(loader.getIfReady()).containsSame(VALIDATOR);
+        assertThat(loader.getLoadTimeMillis()).isPresent();
+        assertThat(loader.getError()).isEmpty();
+    }
+
+    @Test
+    void testSynchronousLoadingThrowsLoadingError() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> ValidatorLoader.loadSynchronously(() -> {
+                    throw new IllegalStateException("broken");
+                }))
+                .withMessage("broken");
+    }
+
+    @Test
+    void testAsynchronousLoadingIsNotReadyUntilLoaded() {
+        final ManualExecutor executor = new ManualExecutor();
+        final ValidatorLoader loader = ValidatorLoader.loadAsynchronously(() -> VALIDATOR, executor);
+
+        assertThat(loader.getStatus()).isEqualTo(ValidatorLoader.Status.LOADING);
+        assertThat(loader.getIfReady()).isEmpty();
+        assertThat(loader.await(10)).isEmpty();
+        assertThat(loader.getLoadTimeMillis()).isEmpty();
+
+        executor.runAll();
+
+        assertThat(loader.getStatus()).isEqualTo(ValidatorLoader.Status.READY);
+        assertThat(loader.getIfReady()).containsSame(VALIDATOR);
+        assertThat(loader.await(10)).containsSame(VALIDATOR);
+        assertThat(loader.getLoadTimeMillis()).isPresent();
+    }
+
+    @Test
+    void testAsynchronousLoadingFailure() {
+        final ManualExecutor executor = new ManualExecutor();
+        final ValidatorLoader loader = ValidatorLoader.loadAsynchronously(
+                () -> {
+                    throw new IllegalStateException("broken");
+                },
+                executor);
+
+        executor.runAll();
+
+        assertThat(loader.getStatus()).isEqualTo(ValidatorLoader.Status.FAILED);
+        assertThat(loader.getIfReady()).isEmpty();
+        assertThat(loader.await(10)).isEmpty();
+        assertThat(loader.getError()).contains("broken");
+    }
+
+    private static class ManualExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(final Runnable command) {
+            tasks.add(command);
+        }
+
+        public void runAll() {
+            tasks.forEach(Runnable::run);
+            tasks.clear();
+        }
+    }
+}